@@ -1,7 +1,9 @@
 package com.devops.projeto_ac2;
 
+import com.devops.projeto_ac2.infrastructure.cli.ImportacaoAlunosRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 /**
  * Aplicação Spring Boot - Projeto DevOps AC2
@@ -11,6 +13,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class ProjetoAc2Application {
 
 	public static void main(String[] args) {
-		SpringApplication.run(ProjetoAc2Application.class, args);
+		ConfigurableApplicationContext contexto = SpringApplication.run(ProjetoAc2Application.class, args);
+		// Execução de linha de comando (--importar): encerra com o código de saída da importação
+		if (contexto.getBean(ImportacaoAlunosRunner.class).isImportacaoExecutada()) {
+			System.exit(SpringApplication.exit(contexto));
+		}
 	}
 }
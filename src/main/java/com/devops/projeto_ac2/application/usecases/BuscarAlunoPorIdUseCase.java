@@ -1,13 +1,14 @@
 package com.devops.projeto_ac2.application.usecases;
 
-import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Buscar aluno por ID
+ * Consulta somente leitura: retorna uma projeção, sem carregar a entidade gerenciada
  */
 @Service
 @Transactional(readOnly = true)
@@ -23,11 +24,11 @@ public class BuscarAlunoPorIdUseCase {
      * Executa a busca de aluno por ID
      * 
      * @param id ID do aluno
-     * @return O aluno encontrado
+     * @return Projeção do aluno encontrado
      * @throws AlunoNotFoundException se não encontrar
      */
-    public Aluno executar(Long id) {
-        return alunoRepository.buscarPorId(id)
+    public AlunoProjecao executar(Long id) {
+        return alunoRepository.buscarProjecaoPorId(id)
                 .orElseThrow(() -> new AlunoNotFoundException(id));
     }
 }
@@ -3,6 +3,7 @@ package com.devops.projeto_ac2.application.usecases;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
 import com.devops.projeto_ac2.domain.ports.EventPublisher;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
@@ -15,6 +16,9 @@ import org.springframework.transaction.annotation.Transactional;
  * Use Case: Concluir curso de um aluno
  * Aplica regras de negócio relacionadas à conclusão
  * ATUALIZADO: Agora publica eventos para arquitetura de microserviços
+ * 
+ * Assim como em {@link RegistrarTentativaUseCase}, a gravação é um UPDATE condicional à versão lida:
+ * uma conclusão simultânea a outra (ou a uma tentativa) falha com ConflitoConcorrenciaException
  */
 @Service
 public class ConcluirCursoUseCase {
@@ -36,6 +40,7 @@ public class ConcluirCursoUseCase {
      * @param mediaFinal Média final obtida
      * @return O aluno atualizado
      * @throws AlunoNotFoundException se o aluno não existir
+     * @throws ConflitoConcorrenciaException se o aluno foi alterado por outra requisição desde a leitura
      */
     @Transactional
     public Aluno executar(Long alunoId, double mediaFinal) {
@@ -51,10 +56,12 @@ public class ConcluirCursoUseCase {
         // Executar comportamento de negócio (na entidade)
         aluno.concluirCurso(mediaVO);
         
-        // Persistir mudanças
-        Aluno alunoAtualizado = alunoRepository.salvar(aluno);
+        // Persistir mudanças com um único UPDATE condicional à versão lida
+        if (!alunoRepository.salvarConclusao(aluno)) {
+            throw new ConflitoConcorrenciaException(alunoId);
+        }
         logger.info("Curso concluído com sucesso - AlunoID: {}, Aprovado: {}", 
-                   alunoAtualizado.getId(), alunoAtualizado.isConcluiu());
+                   aluno.getId(), aluno.isConcluiu());
         
         // MICROSERVIÇOS: Publicar evento para outros sistemas
         // Este evento pode ser consumido por:
@@ -64,17 +71,18 @@ public class ConcluirCursoUseCase {
         // - Serviço de Recomendação (sugerir próximos cursos)
         // - Serviço de Analytics (atualizar dashboards)
         AlunoConcluidoEvent event = new AlunoConcluidoEvent(
-            alunoAtualizado.getId(),
-            alunoAtualizado.getNome(),
-            alunoAtualizado.getRegistroAcademico().getValor(),
-            alunoAtualizado.getMediaFinal(),
-            alunoAtualizado.isConcluiu()
+            aluno.getId(),
+            aluno.getNome(),
+            aluno.getRegistroAcademico().getValor(),
+            aluno.getMediaFinal(),
+            aluno.isConcluiu(),
+            aluno.getCursosAdicionais()
         );
         
         eventPublisher.publicarAlunoConcluido(event);
         logger.info("Evento AlunoConcluido publicado - AlunoID: {}, EventID: {}", 
-                   alunoAtualizado.getId(), event.getEventId());
+                   aluno.getId(), event.getEventId());
         
-        return alunoAtualizado;
+        return aluno;
     }
 }
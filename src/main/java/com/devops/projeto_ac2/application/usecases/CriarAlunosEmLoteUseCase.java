@@ -0,0 +1,169 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.shared.dto.CriarAlunoRequestDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Use Case: Criar vários alunos de uma vez (matrícula em lote)
+ * 
+ * Em vez de uma transação, uma consulta de RA, um INSERT e uma publicação por aluno:
+ * - valida todos os itens (em paralelo para lotes grandes) e rejeita individualmente os inválidos
+ * - verifica RAs já cadastrados com uma única consulta por conjunto
+ * - insere os válidos em lotes JDBC
+ * - publica os eventos AlunoCriado em bloco
+ */
+@Service
+public class CriarAlunosEmLoteUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CriarAlunosEmLoteUseCase.class);
+    
+    /**
+     * Quantidade máxima de alunos por requisição
+     */
+    public static final int TAMANHO_MAXIMO_LOTE = 5000;
+    
+    /**
+     * A partir deste tamanho a validação dos itens é feita em paralelo
+     */
+    static final int LIMIAR_VALIDACAO_PARALELA = 256;
+    
+    private final AlunoRepository alunoRepository;
+    private final EventPublisher eventPublisher;
+    
+    public CriarAlunosEmLoteUseCase(AlunoRepository alunoRepository, EventPublisher eventPublisher) {
+        this.alunoRepository = alunoRepository;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    /**
+     * Executa a criação em lote
+     * 
+     * @param itens dados dos alunos a criar
+     * @return um resultado por item, na mesma ordem da entrada
+     * @throws InvalidValueObjectException se o lote estiver vazio ou exceder o tamanho máximo
+     */
+    @Transactional
+    public List<ResultadoItem> executar(List<CriarAlunoRequestDTO> itens) {
+        if (itens == null || itens.isEmpty() || itens.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new InvalidValueObjectException("Lote deve conter entre 1 e " + TAMANHO_MAXIMO_LOTE + " alunos");
+        }
+        logger.info("Iniciando criação em lote - {} alunos", itens.size());
+        
+        // Validação dos value objects em paralelo (independente por item);
+        // a detecção de RAs repetidos é feita depois, em ordem, para ser determinística
+        ResultadoItem[] resultados = new ResultadoItem[itens.size()];
+        Aluno[] candidatos = new Aluno[itens.size()];
+        IntStream indices = IntStream.range(0, itens.size());
+        if (itens.size() >= LIMIAR_VALIDACAO_PARALELA) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            CriarAlunoRequestDTO item = itens.get(i);
+            try {
+                if (item == null) {
+                    throw new InvalidValueObjectException("Item do lote não pode ser nulo");
+                }
+                candidatos[i] = Aluno.criar(NomeAluno.criar(item.getNome()), RegistroAcademico.criar(item.getRa()));
+            } catch (InvalidValueObjectException e) {
+                resultados[i] = ResultadoItem.rejeitado(i, item != null ? item.getRa() : null, e.getMessage());
+            }
+        });
+        
+        List<Integer> indicesValidos = new ArrayList<>();
+        List<Aluno> alunosValidos = new ArrayList<>();
+        Set<String> rasNoLote = new HashSet<>();
+        for (int i = 0; i < candidatos.length; i++) {
+            if (candidatos[i] == null) {
+                continue;
+            }
+            String ra = candidatos[i].getRegistroAcademico().getValor();
+            if (!rasNoLote.add(ra)) {
+                resultados[i] = ResultadoItem.rejeitado(i, ra, "RA repetido no lote: " + ra);
+                continue;
+            }
+            indicesValidos.add(i);
+            alunosValidos.add(candidatos[i]);
+        }
+        
+        // Uma consulta por conjunto de RAs, em vez de existePorRA para cada item
+        Set<String> rasExistentes = rasNoLote.isEmpty() ? Set.of() : alunoRepository.buscarRAsExistentes(rasNoLote);
+        
+        List<Integer> indicesNovos = new ArrayList<>();
+        List<Aluno> alunosNovos = new ArrayList<>();
+        for (int j = 0; j < alunosValidos.size(); j++) {
+            int indice = indicesValidos.get(j);
+            Aluno aluno = alunosValidos.get(j);
+            String ra = aluno.getRegistroAcademico().getValor();
+            if (rasExistentes.contains(ra)) {
+                resultados[indice] = ResultadoItem.rejeitado(indice, ra, "Já existe um aluno cadastrado com o RA: " + ra);
+            } else {
+                indicesNovos.add(indice);
+                alunosNovos.add(aluno);
+            }
+        }
+        
+        List<Aluno> salvos = alunosNovos.isEmpty() ? List.of() : alunoRepository.salvarTodos(alunosNovos);
+        for (int j = 0; j < salvos.size(); j++) {
+            int indice = indicesNovos.get(j);
+            resultados[indice] = ResultadoItem.criado(indice, salvos.get(j));
+        }
+        
+        // MICROSERVIÇOS: mesmos eventos da criação individual, publicados em bloco
+        List<AlunoCriadoEvent> eventos = salvos.stream()
+                .map(aluno -> new AlunoCriadoEvent(
+                        aluno.getId(),
+                        aluno.getNome(),
+                        aluno.getRegistroAcademico().getValor()))
+                .collect(Collectors.toList());
+        eventPublisher.publicarAlunosCriados(eventos);
+        
+        logger.info("Criação em lote concluída - {} criados, {} rejeitados",
+                   salvos.size(), itens.size() - salvos.size());
+        
+        return List.of(resultados);
+    }
+    
+    /**
+     * Resultado da criação de um item do lote
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ResultadoItem {
+        
+        private final int indice;
+        private final String ra;
+        private final Aluno aluno;
+        private final String erro;
+        
+        public boolean isCriado() {
+            return aluno != null;
+        }
+        
+        static ResultadoItem criado(int indice, Aluno aluno) {
+            return new ResultadoItem(indice, aluno.getRegistroAcademico().getValor(), aluno, null);
+        }
+        
+        static ResultadoItem rejeitado(int indice, String ra, String erro) {
+            return new ResultadoItem(indice, ra, null, erro);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use Case: Excluir um aluno
+ * Publica AlunoExcluido na mesma transação, para que o modelo de leitura (aluno_view) remova o aluno
+ */
+@Service
+public class ExcluirAlunoUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExcluirAlunoUseCase.class);
+    
+    private final AlunoRepository alunoRepository;
+    private final EventPublisher eventPublisher;
+    
+    public ExcluirAlunoUseCase(AlunoRepository alunoRepository, EventPublisher eventPublisher) {
+        this.alunoRepository = alunoRepository;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    /**
+     * Executa a exclusão do aluno
+     * 
+     * @param alunoId ID do aluno
+     * @throws AlunoNotFoundException se o aluno não existir
+     */
+    @Transactional
+    public void executar(Long alunoId) {
+        Aluno aluno = alunoRepository.buscarPorId(alunoId)
+                .orElseThrow(() -> new AlunoNotFoundException(alunoId));
+        
+        alunoRepository.deletar(alunoId);
+        
+        AlunoExcluidoEvent event = new AlunoExcluidoEvent(alunoId, aluno.getRegistroAcademico().getValor());
+        eventPublisher.publicarAlunoExcluido(event);
+        logger.info("Aluno excluído - AlunoID: {}, EventID: {}", alunoId, event.getEventId());
+    }
+}
@@ -0,0 +1,49 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Use Case: Exportar alunos
+ * Percorre os alunos com um cursor no banco e entrega cada um ao destino assim que lido,
+ * sem montar a lista completa em memória
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportarAlunosUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExportarAlunosUseCase.class);
+    
+    private final AlunoRepository alunoRepository;
+    
+    public ExportarAlunosUseCase(AlunoRepository alunoRepository) {
+        this.alunoRepository = alunoRepository;
+    }
+    
+    /**
+     * Executa a exportação
+     * 
+     * @param concluido filtro opcional de conclusão (null para todos)
+     * @param destino recebe cada aluno, em ordem de ID
+     * @return quantidade de alunos exportados
+     */
+    public long executar(Boolean concluido, Consumer<AlunoProjecao> destino) {
+        AtomicLong exportados = new AtomicLong();
+        try (Stream<AlunoProjecao> alunos = alunoRepository.percorrer(concluido)) {
+            alunos.forEach(aluno -> {
+                destino.accept(aluno);
+                exportados.incrementAndGet();
+            });
+        }
+        logger.info("Exportação concluída - {} alunos (filtro concluido={})", exportados.get(), concluido);
+        return exportados.get();
+    }
+}
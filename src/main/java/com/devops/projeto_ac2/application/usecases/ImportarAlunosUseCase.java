@@ -0,0 +1,165 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.shared.arquivo.FormatoArquivo;
+import com.devops.projeto_ac2.shared.arquivo.LeitorArquivoAlunos;
+import com.devops.projeto_ac2.shared.arquivo.RegistroArquivo;
+import com.devops.projeto_ac2.shared.dto.CriarAlunoRequestDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Use Case: Importar alunos a partir do arquivo da secretaria (CSV ou NDJSON)
+ * 
+ * O arquivo é lido em streaming, em blocos de {@link #TAMANHO_BLOCO} linhas.
+ * Cada bloco é validado em paralelo e gravado em lotes JDBC numa transação própria
+ * (via {@link CriarAlunosEmLoteUseCase}), então a memória é constante e o custo
+ * fica limitado pela leitura do arquivo e pela escrita no banco, não por transações por linha.
+ * 
+ * Blocos já gravados permanecem gravados se um bloco posterior falhar;
+ * reimportar o mesmo arquivo é seguro, pois RAs existentes são rejeitados
+ */
+@Service
+public class ImportarAlunosUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImportarAlunosUseCase.class);
+    
+    /**
+     * Quantidade de linhas lidas, validadas e gravadas por vez
+     */
+    public static final int TAMANHO_BLOCO = 1000;
+    
+    /**
+     * Quantidade máxima de linhas rejeitadas detalhadas no resultado (as demais são apenas contadas)
+     */
+    public static final int MAXIMO_REJEICOES_DETALHADAS = 1000;
+    
+    private final CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase;
+    
+    public ImportarAlunosUseCase(CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase) {
+        this.criarAlunosEmLoteUseCase = criarAlunosEmLoteUseCase;
+    }
+    
+    /**
+     * Executa a importação
+     * 
+     * @param arquivo conteúdo do arquivo (é fechado ao final)
+     * @param formato formato do arquivo
+     * @param progresso recebe o andamento após cada bloco gravado
+     * @return totais da importação e as primeiras linhas rejeitadas
+     */
+    public Resultado executar(Reader arquivo, FormatoArquivo formato, Consumer<Progresso> progresso) {
+        long inicio = System.nanoTime();
+        long importados = 0;
+        long rejeitados = 0;
+        List<LinhaRejeitada> rejeicoes = new ArrayList<>();
+        
+        logger.info("Iniciando importação de alunos - formato {}", formato);
+        
+        try (LeitorArquivoAlunos leitor = new LeitorArquivoAlunos(arquivo, formato)) {
+            List<RegistroArquivo> bloco;
+            while (!(bloco = leitor.lerBloco(TAMANHO_BLOCO)).isEmpty()) {
+                List<RegistroArquivo> legiveis = new ArrayList<>(bloco.size());
+                for (RegistroArquivo registro : bloco) {
+                    if (registro.isMalformado()) {
+                        rejeitados++;
+                        registrarRejeicao(rejeicoes, registro.getNumeroLinha(), null, registro.getErro());
+                    } else {
+                        legiveis.add(registro);
+                    }
+                }
+                
+                if (!legiveis.isEmpty()) {
+                    List<CriarAlunosEmLoteUseCase.ResultadoItem> resultados = criarAlunosEmLoteUseCase.executar(
+                            legiveis.stream()
+                                    .map(registro -> new CriarAlunoRequestDTO(registro.getNome(), registro.getRa()))
+                                    .toList());
+                    
+                    for (CriarAlunosEmLoteUseCase.ResultadoItem resultado : resultados) {
+                        if (resultado.isCriado()) {
+                            importados++;
+                        } else {
+                            rejeitados++;
+                            registrarRejeicao(rejeicoes, legiveis.get(resultado.getIndice()).getNumeroLinha(),
+                                    resultado.getRa(), resultado.getErro());
+                        }
+                    }
+                }
+                
+                Progresso andamento = new Progresso(leitor.getLinhasLidas(), importados, rejeitados, decorridoMs(inicio));
+                logger.info("Importação em andamento - {}", andamento);
+                progresso.accept(andamento);
+            }
+            
+            Resultado resultado = new Resultado(leitor.getLinhasLidas(), importados, rejeitados,
+                    List.copyOf(rejeicoes), decorridoMs(inicio));
+            logger.info("Importação concluída - {} importados, {} rejeitados em {} ms",
+                       importados, rejeitados, resultado.getDuracaoMs());
+            return resultado;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar arquivo de importação", e);
+        }
+    }
+    
+    private void registrarRejeicao(List<LinhaRejeitada> rejeicoes, long linha, String ra, String erro) {
+        if (rejeicoes.size() < MAXIMO_REJEICOES_DETALHADAS) {
+            rejeicoes.add(new LinhaRejeitada(linha, ra, erro));
+        }
+    }
+    
+    private long decorridoMs(long inicio) {
+        return (System.nanoTime() - inicio) / 1_000_000;
+    }
+    
+    /**
+     * Andamento da importação após um bloco
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Progresso {
+        
+        private final long linhasLidas;
+        private final long importados;
+        private final long rejeitados;
+        private final long decorridoMs;
+    }
+    
+    /**
+     * Linha do arquivo que não foi importada
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class LinhaRejeitada {
+        
+        private final long linha;
+        private final String ra;
+        private final String erro;
+    }
+    
+    /**
+     * Resultado final da importação
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Resultado {
+        
+        private final long linhasLidas;
+        private final long importados;
+        private final long rejeitados;
+        private final List<LinhaRejeitada> rejeicoes;
+        private final long duracaoMs;
+    }
+}
@@ -1,11 +1,18 @@
 package com.devops.projeto_ac2.application.usecases;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.domain.projections.AlunoViewProjecao;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.AlunoViewRepository;
+import com.devops.projeto_ac2.shared.pagination.CursorCodec;
+import com.devops.projeto_ac2.shared.pagination.Pagina;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 /**
  * Use Case: Listar todos os alunos
@@ -14,10 +21,15 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ListarAlunosUseCase {
     
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+    
     private final AlunoRepository alunoRepository;
+    private final AlunoViewRepository alunoViewRepository;
     
-    public ListarAlunosUseCase(AlunoRepository alunoRepository) {
+    public ListarAlunosUseCase(AlunoRepository alunoRepository, AlunoViewRepository alunoViewRepository) {
         this.alunoRepository = alunoRepository;
+        this.alunoViewRepository = alunoViewRepository;
     }
     
     /**
@@ -40,4 +52,60 @@ public class ListarAlunosUseCase {
     public List<Aluno> executarNaoConcluidos() {
         return alunoRepository.buscarNaoConcluidos();
     }
+    
+    /**
+     * Lista uma página de alunos usando paginação por cursor (keyset)
+     * O custo de cada página é constante, independente da profundidade,
+     * e apenas as colunas da resposta são lidas (projeção somente leitura)
+     * 
+     * @param concluido filtro opcional de conclusão (null para todos)
+     * @param cursor cursor opaco recebido na página anterior (null para a primeira)
+     * @param limite quantidade máxima de alunos na página
+     * @return Página com as projeções dos alunos e o cursor da próxima página (null se for a última)
+     * @throws InvalidValueObjectException se o limite ou o cursor forem inválidos
+     */
+    public Pagina<AlunoProjecao> executarPaginado(Boolean concluido, String cursor, int limite) {
+        return paginar(cursor, limite, AlunoProjecao::getId, (aposId, quantidade) -> concluido == null
+                ? alunoRepository.buscarPagina(aposId, quantidade)
+                : alunoRepository.buscarPaginaPorConclusao(concluido, aposId, quantidade));
+    }
+    
+    /**
+     * Lista uma página de alunos a partir do modelo de leitura (aluno_view), com a mesma paginação por cursor
+     * Cada item já traz situação, posição no ranking e pontos de gamificação calculados;
+     * o modelo é atualizado de forma assíncrona pelos eventos, então pode estar levemente defasado
+     * 
+     * @param concluido filtro opcional de conclusão (null para todos)
+     * @param cursor cursor opaco recebido na página anterior (null para a primeira)
+     * @param limite quantidade máxima de alunos na página
+     * @return Página com as linhas do modelo de leitura e o cursor da próxima página (null se for a última)
+     * @throws InvalidValueObjectException se o limite ou o cursor forem inválidos
+     */
+    public Pagina<AlunoViewProjecao> executarPaginadoView(Boolean concluido, String cursor, int limite) {
+        return paginar(cursor, limite, AlunoViewProjecao::getId,
+                (aposId, quantidade) -> alunoViewRepository.buscarPagina(concluido, aposId, quantidade));
+    }
+    
+    private <T> Pagina<T> paginar(String cursor, int limite, ToLongFunction<T> id, BuscaPagina<T> busca) {
+        if (limite <= 0 || limite > LIMITE_MAXIMO) {
+            throw new InvalidValueObjectException("Limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        
+        Long aposId = CursorCodec.decodificar(cursor);
+        
+        // Busca um item a mais para saber se existe próxima página sem precisar de COUNT
+        List<T> alunos = busca.buscar(aposId, limite + 1);
+        
+        if (alunos.size() <= limite) {
+            return new Pagina<>(alunos, null);
+        }
+        
+        List<T> itens = alunos.subList(0, limite);
+        return new Pagina<>(itens, CursorCodec.codificar(id.applyAsLong(itens.get(limite - 1))));
+    }
+    
+    @FunctionalInterface
+    private interface BuscaPagina<T> {
+        List<T> buscar(Long aposId, int quantidade);
+    }
 }
@@ -0,0 +1,47 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.ports.IndiceRanking;
+import com.devops.projeto_ac2.domain.ranking.PosicaoRanking;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use Case: Obter a posição de um aluno no ranking geral
+ * Consulta o índice de ranking em O(log n), sem ordenar todos os alunos
+ */
+@Service
+@Transactional(readOnly = true)
+public class ObterPosicaoRankingUseCase {
+    
+    private final IndiceRanking indiceRanking;
+    private final AlunoRepository alunoRepository;
+    
+    public ObterPosicaoRankingUseCase(IndiceRanking indiceRanking, AlunoRepository alunoRepository) {
+        this.indiceRanking = indiceRanking;
+        this.alunoRepository = alunoRepository;
+    }
+    
+    /**
+     * Executa a busca da posição do aluno
+     * 
+     * @param alunoId ID do aluno
+     * @return Posição e total de alunos do ranking
+     * @throws AlunoNotFoundException se o aluno não existir
+     */
+    public PosicaoRanking executar(Long alunoId) {
+        return indiceRanking.buscarPosicao(alunoId)
+                .orElseGet(() -> indexarEBuscar(alunoId));
+    }
+    
+    /**
+     * Aluno ausente do índice (ex.: gravado por outra instância): indexa a partir do banco
+     */
+    private PosicaoRanking indexarEBuscar(Long alunoId) {
+        indiceRanking.atualizar(alunoRepository.buscarPorId(alunoId)
+                .orElseThrow(() -> new AlunoNotFoundException(alunoId)));
+        return indiceRanking.buscarPosicao(alunoId)
+                .orElseThrow(() -> new AlunoNotFoundException(alunoId));
+    }
+}
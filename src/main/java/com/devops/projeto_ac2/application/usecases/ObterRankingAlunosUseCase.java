@@ -1,40 +1,42 @@
 package com.devops.projeto_ac2.application.usecases;
 
-import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.ports.IndiceRanking;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Use Case: Obter ranking dos alunos
- * Ordena por média final (decrescente) e depois por cursos adicionais
+ * Ordena por média final (decrescente), depois por cursos adicionais (decrescente) e por ID
+ * A ordenação e o limite são resolvidos no banco, apoiados pelo índice de ranking,
+ * e apenas as colunas exibidas no ranking são lidas (projeção somente leitura)
  */
 @Service
 @Transactional(readOnly = true)
 public class ObterRankingAlunosUseCase {
     
+    public static final int QUANTIDADE_MAXIMA_FAIXA = 500;
+    
     private final AlunoRepository alunoRepository;
+    private final IndiceRanking indiceRanking;
     
-    public ObterRankingAlunosUseCase(AlunoRepository alunoRepository) {
+    public ObterRankingAlunosUseCase(AlunoRepository alunoRepository, IndiceRanking indiceRanking) {
         this.alunoRepository = alunoRepository;
+        this.indiceRanking = indiceRanking;
     }
     
     /**
      * Executa a busca do ranking completo
-     * Ordenação: 1º por média final (maior primeiro), 2º por cursos adicionais
+     * Ordenação: 1º por média final (maior primeiro), 2º por cursos adicionais (maior primeiro)
      * 
      * @return Lista ordenada de alunos
      */
-    public List<Aluno> executar() {
-        return alunoRepository.buscarTodos().stream()
-                .sorted(Comparator
-                        .comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparingInt(Aluno::getCursosAdicionais).reversed())
-                .collect(Collectors.toList());
+    public List<RankingAlunoProjecao> executar() {
+        return alunoRepository.buscarRanking(0);
     }
     
     /**
@@ -43,28 +45,52 @@ public class ObterRankingAlunosUseCase {
      * @param limite Quantidade de alunos no topo do ranking
      * @return Lista com os N melhores alunos
      */
-    public List<Aluno> executarTop(int limite) {
+    public List<RankingAlunoProjecao> executarTop(int limite) {
         if (limite <= 0) {
             throw new IllegalArgumentException("Limite deve ser maior que zero");
         }
         
-        return alunoRepository.buscarTodos().stream()
-                .sorted(Comparator
-                        .comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparingInt(Aluno::getCursosAdicionais).reversed())
-                .limit(limite)
-                .collect(Collectors.toList());
+        return alunoRepository.buscarRanking(limite);
     }
     
     /**
      * Retorna ranking apenas dos alunos aprovados
      */
-    public List<Aluno> executarAprovados() {
-        return alunoRepository.buscarConcluidos().stream()
-                .filter(Aluno::aprovado)
-                .sorted(Comparator
-                        .comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparingInt(Aluno::getCursosAdicionais).reversed())
-                .collect(Collectors.toList());
+    public List<RankingAlunoProjecao> executarAprovados() {
+        return alunoRepository.buscarRankingAprovados();
+    }
+    
+    /**
+     * Retorna apenas o top N dos alunos aprovados
+     * 
+     * @param limite Quantidade de alunos aprovados no topo do ranking
+     * @return Lista com os N melhores alunos aprovados
+     */
+    public List<RankingAlunoProjecao> executarTopAprovados(int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("Limite deve ser maior que zero");
+        }
+        
+        return alunoRepository.buscarRankingAprovados(limite);
+    }
+    
+    /**
+     * Retorna uma faixa do ranking geral (ex.: posições 101 a 150)
+     * As posições vêm do índice de ranking e apenas os alunos da faixa são carregados
+     * 
+     * @param posicaoInicial primeira posição da faixa (1 = primeiro colocado)
+     * @param quantidade quantidade de posições na faixa
+     * @return Lista ordenada com os alunos da faixa
+     * @throws InvalidValueObjectException se a faixa for inválida
+     */
+    public List<RankingAlunoProjecao> executarFaixa(int posicaoInicial, int quantidade) {
+        if (posicaoInicial <= 0) {
+            throw new InvalidValueObjectException("Posição inicial deve ser maior que zero");
+        }
+        if (quantidade <= 0 || quantidade > QUANTIDADE_MAXIMA_FAIXA) {
+            throw new InvalidValueObjectException("Quantidade deve estar entre 1 e " + QUANTIDADE_MAXIMA_FAIXA);
+        }
+        
+        return alunoRepository.buscarRankingPorIds(indiceRanking.buscarIdsNaFaixa(posicaoInicial, quantidade));
     }
 }
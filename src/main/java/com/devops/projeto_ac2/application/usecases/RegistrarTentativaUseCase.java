@@ -3,6 +3,7 @@ package com.devops.projeto_ac2.application.usecases;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
 import com.devops.projeto_ac2.domain.ports.EventPublisher;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
@@ -15,6 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
  * Use Case: Registrar tentativa de avaliação do aluno
  * Implementa regra de limite de 3 tentativas
  * ATUALIZADO: Agora publica eventos para arquitetura de microserviços
+ * 
+ * A gravação é um UPDATE condicional à versão lida: duas requisições simultâneas
+ * não conseguem ambas passar pela verificação do limite. Quem perde a disputa recebe
+ * ConflitoConcorrenciaException e é repetido do zero (nova leitura) pela camada de repetição
  */
 @Service
 public class RegistrarTentativaUseCase {
@@ -36,6 +41,7 @@ public class RegistrarTentativaUseCase {
      * @param nota Nota obtida na tentativa
      * @return O aluno atualizado
      * @throws AlunoNotFoundException se o aluno não existir
+     * @throws ConflitoConcorrenciaException se o aluno foi alterado por outra requisição desde a leitura
      */
     @Transactional
     public Aluno executar(Long alunoId, double nota) {
@@ -51,10 +57,12 @@ public class RegistrarTentativaUseCase {
         // Registrar tentativa (validações são feitas na entidade)
         aluno.registrarTentativa(media);
         
-        // Persistir mudanças
-        Aluno alunoAtualizado = alunoRepository.salvar(aluno);
+        // Persistir mudanças com um único UPDATE condicional à versão lida
+        if (!alunoRepository.salvarTentativa(aluno)) {
+            throw new ConflitoConcorrenciaException(alunoId);
+        }
         logger.info("Tentativa registrada - AlunoID: {}, Total tentativas: {}", 
-                   alunoAtualizado.getId(), alunoAtualizado.getTentativasAvaliacao());
+                   aluno.getId(), aluno.getTentativasAvaliacao());
         
         // MICROSERVIÇOS: Publicar evento para analytics e monitoramento
         // Este evento pode ser consumido por:
@@ -62,15 +70,16 @@ public class RegistrarTentativaUseCase {
         // - Serviço de Alertas (avisar se atingiu limite)
         // - Serviço de BI (dashboard de desempenho)
         TentativaRegistradaEvent event = new TentativaRegistradaEvent(
-            alunoAtualizado.getId(),
-            alunoAtualizado.getRegistroAcademico().getValor(),
-            alunoAtualizado.getTentativasAvaliacao()
+            aluno.getId(),
+            aluno.getRegistroAcademico().getValor(),
+            aluno.getTentativasAvaliacao(),
+            aluno.getMediaFinal()
         );
         
         eventPublisher.publicarTentativaRegistrada(event);
         logger.info("Evento TentativaRegistrada publicado - AlunoID: {}, EventID: {}", 
-                   alunoAtualizado.getId(), event.getEventId());
+                   aluno.getId(), event.getEventId());
         
-        return alunoAtualizado;
+        return aluno;
     }
 }
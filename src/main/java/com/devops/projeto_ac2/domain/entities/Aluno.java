@@ -6,6 +6,12 @@ import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
@@ -20,15 +26,37 @@ import java.time.LocalDateTime;
  * - @NoArgsConstructor: Construtor vazio para JPA/Hibernate
  */
 @Entity
+// Esquema e índices versionados em db/migration (Flyway)
 @Table(name = "tb_alunos")
+// Cache de segundo nível: por ID (região "aluno") e por RA (natural id, região "aluno-ra"),
+// invalidado pelo Hibernate a cada update/delete; tamanhos em application.conf
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "aluno")
+@NaturalIdCache(region = "aluno-ra")
+// UPDATE só com as colunas alteradas; com o enhancement em build (hibernate-enhance-maven-plugin)
+// cada escrita de campo registra a alteração na própria entidade, sem comparar snapshots no flush
+@DynamicUpdate
 @Getter
 @ToString(of = {"id", "nome", "registroAcademico", "mediaFinal", "concluiu"})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // Para JPA
 public class Aluno {
     
+    /**
+     * Quantidade máxima de tentativas de avaliação por aluno
+     */
+    public static final int MAXIMO_TENTATIVAS = 3;
+    
+    /**
+     * Média mínima para aprovação; as consultas e projeções de aprovados usam esta constante
+     */
+    public static final double MEDIA_APROVACAO = 7.0;
+    
+    // Sequence com alocação em blocos: o ID é conhecido antes do INSERT,
+    // o que permite ao Hibernate agrupar inserções em lotes JDBC (IDENTITY desabilita isso)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_alunos")
+    @SequenceGenerator(name = "seq_alunos", sequenceName = "seq_alunos", allocationSize = 50)
     @EqualsAndHashCode.Include // Incluir ID no equals/hashCode
     private Long id;
     
@@ -36,6 +64,7 @@ public class Aluno {
     @Column(nullable = false, length = 100)
     private String nome;
     
+    @NaturalId
     @Embedded
     @AttributeOverride(name = "valor", column = @Column(name = "ra", nullable = false, unique = true, length = 20))
     private RegistroAcademico registroAcademico;
@@ -61,6 +90,13 @@ public class Aluno {
     @Column
     private LocalDateTime dataConclusao;
     
+    // Concorrência otimista: toda gravação incrementa a versão e só é aceita se a versão lida ainda for a atual.
+    // O default cobre linhas gravadas fora da aplicação (versão nula quebraria a comparação de versões do cache)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
+    
     // Construtor privado para forçar uso do factory method
     private Aluno(NomeAluno nome, RegistroAcademico registroAcademico) {
         this.nome = nome.getValor();
@@ -100,8 +136,8 @@ public class Aluno {
             throw new DomainException("Aluno já concluiu o curso");
         }
         
-        if (this.tentativasAvaliacao >= 3) {
-            throw new DomainException("Aluno já utilizou todas as 3 tentativas disponíveis");
+        if (this.tentativasAvaliacao >= MAXIMO_TENTATIVAS) {
+            throw new DomainException("Aluno já utilizou todas as " + MAXIMO_TENTATIVAS + " tentativas disponíveis");
         }
         
         this.tentativasAvaliacao++;
@@ -180,11 +216,19 @@ public class Aluno {
         this.dataAtualizacao = LocalDateTime.now();
     }
     
+    /**
+     * Avança a versão em memória depois de uma transição gravada por UPDATE direto
+     * (versao = versao + 1 no banco), para a entidade destacada carregar a versão gravada
+     */
+    public void avancarVersao() {
+        this.versao = this.versao == null ? 1L : this.versao + 1;
+    }
+    
     /**
      * Verifica se o aluno foi aprovado
      */
     public boolean aprovado() {
-        return this.concluiu && this.mediaFinal >= 7.0;
+        return this.concluiu && this.mediaFinal >= MEDIA_APROVACAO;
     }
     
     /**
@@ -198,7 +242,7 @@ public class Aluno {
      * Verifica se o aluno está em recuperação
      */
     public boolean emRecuperacao() {
-        return !this.concluiu && this.mediaFinal >= 5.0 && this.mediaFinal < 7.0;
+        return !this.concluiu && this.mediaFinal >= 5.0 && this.mediaFinal < MEDIA_APROVACAO;
     }
     
     /**
@@ -219,13 +263,13 @@ public class Aluno {
      * Verifica se aluno tem tentativas disponíveis
      */
     public boolean temTentativasDisponiveis() {
-        return this.tentativasAvaliacao < 3;
+        return this.tentativasAvaliacao < MAXIMO_TENTATIVAS;
     }
     
     /**
      * Retorna número de tentativas restantes
      */
     public int tentativasRestantes() {
-        return 3 - this.tentativasAvaliacao;
+        return MAXIMO_TENTATIVAS - this.tentativasAvaliacao;
     }
 }
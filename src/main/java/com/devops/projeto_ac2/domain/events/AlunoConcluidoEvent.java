@@ -26,10 +26,17 @@ public class AlunoConcluidoEvent {
     private boolean aprovado;
     private LocalDateTime dataConclusao;
     private String eventId; // ID único do evento para rastreamento
+    private Integer cursosAdicionais; // total após a conclusão (null em eventos antigos)
     
     public AlunoConcluidoEvent(Long alunoId, String nome, String registroAcademico, 
                                double mediaFinal, boolean aprovado) {
+        this(alunoId, nome, registroAcademico, mediaFinal, aprovado, null);
+    }
+    
+    public AlunoConcluidoEvent(Long alunoId, String nome, String registroAcademico, 
+                               double mediaFinal, boolean aprovado, Integer cursosAdicionais) {
         this.alunoId = alunoId;
+        this.cursosAdicionais = cursosAdicionais;
         this.nome = nome;
         this.registroAcademico = registroAcademico;
         this.mediaFinal = mediaFinal;
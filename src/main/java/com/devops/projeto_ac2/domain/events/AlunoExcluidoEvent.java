@@ -0,0 +1,29 @@
+package com.devops.projeto_ac2.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de Domínio: representa que um aluno foi excluído
+ * Consumido pelo modelo de leitura (aluno_view), que remove a linha do aluno
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AlunoExcluidoEvent {
+    
+    private Long alunoId;
+    private String registroAcademico;
+    private LocalDateTime dataExclusao;
+    private String eventId; // ID único do evento para rastreamento
+    
+    public AlunoExcluidoEvent(Long alunoId, String registroAcademico) {
+        this.alunoId = alunoId;
+        this.registroAcademico = registroAcademico;
+        this.dataExclusao = LocalDateTime.now();
+        this.eventId = java.util.UUID.randomUUID().toString();
+    }
+}
@@ -20,11 +20,17 @@ public class TentativaRegistradaEvent {
     private int numeroTentativa;
     private LocalDateTime dataRegistro;
     private String eventId;
+    private Double mediaFinal; // média após a tentativa (null em eventos antigos)
     
     public TentativaRegistradaEvent(Long alunoId, String registroAcademico, int numeroTentativa) {
+        this(alunoId, registroAcademico, numeroTentativa, null);
+    }
+    
+    public TentativaRegistradaEvent(Long alunoId, String registroAcademico, int numeroTentativa, Double mediaFinal) {
         this.alunoId = alunoId;
         this.registroAcademico = registroAcademico;
         this.numeroTentativa = numeroTentativa;
+        this.mediaFinal = mediaFinal;
         this.dataRegistro = LocalDateTime.now();
         this.eventId = java.util.UUID.randomUUID().toString();
     }
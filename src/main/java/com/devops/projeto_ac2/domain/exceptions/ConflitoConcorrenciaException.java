@@ -0,0 +1,12 @@
+package com.devops.projeto_ac2.domain.exceptions;
+
+/**
+ * Exceção lançada quando o aluno foi alterado por outra requisição entre a leitura e a gravação
+ * (versão diferente da lida). A operação pode ser repetida a partir de uma nova leitura
+ */
+public class ConflitoConcorrenciaException extends DomainException {
+    
+    public ConflitoConcorrenciaException(Long alunoId) {
+        super("Aluno " + alunoId + " foi alterado por outra requisição");
+    }
+}
@@ -0,0 +1,34 @@
+package com.devops.projeto_ac2.domain.gamificacao;
+
+/**
+ * Regras de pontuação da gamificação, aplicadas na conclusão do curso
+ * Compartilhadas pelo serviço de gamificação e pelo modelo de leitura (aluno_view)
+ */
+public final class RegrasGamificacao {
+    
+    private RegrasGamificacao() {}
+    
+    public static int calcularPontos(double media) {
+        // Lógica de pontuação baseada na média
+        if (media >= 9.0) return 1000;
+        if (media >= 8.0) return 800;
+        if (media >= 7.0) return 600;
+        if (media >= 6.0) return 400;
+        return 200;
+    }
+    
+    public static String determinarBadge(double media) {
+        if (media >= 9.5) return "🥇 Excelência Máxima";
+        if (media >= 9.0) return "🥈 Desempenho Excepcional";
+        if (media >= 8.0) return "🥉 Alto Desempenho";
+        if (media >= 7.0) return "⭐ Bom Desempenho";
+        return "✓ Concluído";
+    }
+    
+    public static String determinarNivel(int pontos) {
+        if (pontos >= 1000) return "Mestre";
+        if (pontos >= 800) return "Avançado";
+        if (pontos >= 600) return "Intermediário";
+        return "Iniciante";
+    }
+}
@@ -0,0 +1,31 @@
+package com.devops.projeto_ac2.domain.ports;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+
+import java.util.List;
+
+/**
+ * Port (Interface) para caches derivados do estado dos alunos
+ * 
+ * O AlunoRepository avisa cada cache após as escritas confirmadas, para que
+ * nenhuma representação de uma versão antiga do aluno continue sendo servida
+ */
+public interface CacheAluno {
+    
+    /**
+     * Aluno gravado: o cache descarta ou substitui o que guardava de versões anteriores
+     */
+    void atualizar(Aluno aluno);
+    
+    /**
+     * Vários alunos gravados na mesma transação
+     */
+    default void atualizarTodos(List<Aluno> alunos) {
+        alunos.forEach(this::atualizar);
+    }
+    
+    /**
+     * Aluno removido
+     */
+    void remover(Long alunoId);
+}
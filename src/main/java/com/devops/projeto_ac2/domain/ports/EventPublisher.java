@@ -2,8 +2,11 @@ package com.devops.projeto_ac2.domain.ports;
 
 import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
 import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
 import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
 
+import java.util.List;
+
 /**
  * Port (Interface) para publicação de eventos
  * 
@@ -22,6 +25,14 @@ public interface EventPublisher {
      */
     void publicarAlunoCriado(AlunoCriadoEvent event);
     
+    /**
+     * Publica vários eventos de aluno criado de uma vez
+     * Implementações podem reaproveitar canal/conexão para o lote inteiro
+     */
+    default void publicarAlunosCriados(List<AlunoCriadoEvent> events) {
+        events.forEach(this::publicarAlunoCriado);
+    }
+    
     /**
      * Publica evento de aluno concluído
      */
@@ -31,4 +42,9 @@ public interface EventPublisher {
      * Publica evento de tentativa registrada
      */
     void publicarTentativaRegistrada(TentativaRegistradaEvent event);
+    
+    /**
+     * Publica evento de aluno excluído
+     */
+    void publicarAlunoExcluido(AlunoExcluidoEvent event);
 }
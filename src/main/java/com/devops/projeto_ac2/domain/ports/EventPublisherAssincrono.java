@@ -0,0 +1,49 @@
+package com.devops.projeto_ac2.domain.ports;
+
+import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Port (Interface) para publicação assíncrona de eventos, com confirmação de entrega
+ * 
+ * Cada método retorna assim que o evento é entregue ao canal, sem esperar o broker; o retorno
+ * completa quando o broker confirma o evento e completa com erro se ele for recusado,
+ * não puder ser roteado ou a conexão cair. Vários eventos podem aguardar confirmação ao mesmo tempo
+ */
+public interface EventPublisherAssincrono {
+    
+    /**
+     * Publica evento de aluno criado
+     */
+    CompletableFuture<Void> publicarAlunoCriado(AlunoCriadoEvent event);
+    
+    /**
+     * Publica evento de aluno concluído
+     */
+    CompletableFuture<Void> publicarAlunoConcluido(AlunoConcluidoEvent event);
+    
+    /**
+     * Publica evento de tentativa registrada
+     */
+    CompletableFuture<Void> publicarTentativaRegistrada(TentativaRegistradaEvent event);
+    
+    /**
+     * Publica evento de aluno excluído
+     */
+    CompletableFuture<Void> publicarAlunoExcluido(AlunoExcluidoEvent event);
+    
+    /**
+     * Publica vários eventos de tentativa registrada, na ordem da lista
+     * Implementações podem agrupá-los em menos mensagens; eventos da mesma mensagem compartilham o retorno
+     * 
+     * @return um retorno por evento, na mesma ordem
+     */
+    default List<CompletableFuture<Void>> publicarTentativasRegistradas(List<TentativaRegistradaEvent> events) {
+        return events.stream().map(this::publicarTentativaRegistrada).toList();
+    }
+}
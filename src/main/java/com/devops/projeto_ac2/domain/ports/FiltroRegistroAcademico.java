@@ -0,0 +1,29 @@
+package com.devops.projeto_ac2.domain.ports;
+
+/**
+ * Port (Interface) para o filtro probabilístico de RAs cadastrados
+ * 
+ * Responde "este RA com certeza não existe?" sem ir ao banco.
+ * Pode dar falso positivo (RA novo reportado como possível), nunca falso negativo,
+ * então só a resposta negativa dispensa a consulta de existência
+ */
+public interface FiltroRegistroAcademico {
+    
+    /**
+     * Indica se o RA pode estar cadastrado
+     * 
+     * @return false somente quando o RA com certeza não está cadastrado
+     */
+    boolean podeExistir(String ra);
+    
+    /**
+     * Registra um RA cadastrado
+     */
+    void adicionar(String ra);
+    
+    /**
+     * Registra que um RA reportado como possível não existia no banco; só conta como falso
+     * positivo se o filtro carregado realmente o apontava (antes da carga todo RA é possível)
+     */
+    void registrarFalsoPositivo(String ra);
+}
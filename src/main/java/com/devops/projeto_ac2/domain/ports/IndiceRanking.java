@@ -0,0 +1,41 @@
+package com.devops.projeto_ac2.domain.ports;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ranking.PosicaoRanking;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port (Interface) para o índice de posições do ranking
+ * 
+ * Permite responder "qual a minha posição?" em O(log n),
+ * sem ordenar todos os alunos a cada consulta
+ */
+public interface IndiceRanking {
+    
+    /**
+     * Insere ou reposiciona o aluno no índice
+     */
+    void atualizar(Aluno aluno);
+    
+    /**
+     * Remove o aluno do índice
+     */
+    void remover(Long alunoId);
+    
+    /**
+     * Busca a posição do aluno no ranking geral
+     * 
+     * @return a posição, ou vazio se o aluno não estiver indexado
+     */
+    Optional<PosicaoRanking> buscarPosicao(Long alunoId);
+    
+    /**
+     * Busca os IDs dos alunos que ocupam uma faixa do ranking geral, em ordem de ranking
+     * 
+     * @param posicaoInicial primeira posição da faixa (1 = primeiro colocado)
+     * @param quantidade quantidade máxima de posições
+     */
+    List<Long> buscarIdsNaFaixa(int posicaoInicial, int quantidade);
+}
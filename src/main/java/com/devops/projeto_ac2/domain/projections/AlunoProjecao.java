@@ -0,0 +1,59 @@
+package com.devops.projeto_ac2.domain.projections;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção somente leitura de um Aluno, com as colunas exibidas nas consultas
+ * 
+ * Preenchida diretamente pela query (constructor expression): não é uma entidade gerenciada,
+ * então não ocupa o contexto de persistência nem gera snapshot para dirty checking
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class AlunoProjecao {
+    
+    private final Long id;
+    private final String nome;
+    private final String ra;
+    private final Double mediaFinal;
+    private final Boolean concluiu;
+    private final Integer cursosAdicionais;
+    private final Integer tentativasAvaliacao;
+    private final LocalDateTime dataCriacao;
+    private final LocalDateTime dataAtualizacao;
+    private final LocalDateTime dataConclusao;
+    private final Long versao;
+    
+    /**
+     * Cria a projeção a partir de uma entidade já carregada (ex.: vinda do cache de segundo nível)
+     */
+    public static AlunoProjecao de(Aluno aluno) {
+        return new AlunoProjecao(
+                aluno.getId(),
+                aluno.getNome(),
+                aluno.getRegistroAcademico().getValor(),
+                aluno.getMediaFinal(),
+                aluno.isConcluiu(),
+                aluno.getCursosAdicionais(),
+                aluno.getTentativasAvaliacao(),
+                aluno.getDataCriacao(),
+                aluno.getDataAtualizacao(),
+                aluno.getDataConclusao(),
+                aluno.getVersao());
+    }
+    
+    /**
+     * Retorna número de tentativas restantes (mesma regra de {@link Aluno#tentativasRestantes()})
+     */
+    public int tentativasRestantes() {
+        return Aluno.MAXIMO_TENTATIVAS - tentativasAvaliacao;
+    }
+}
@@ -0,0 +1,58 @@
+package com.devops.projeto_ac2.domain.projections;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.SituacaoAluno;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.With;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha do modelo de leitura de alunos (aluno_view)
+ * 
+ * Desnormalizada e mantida de forma assíncrona pelos eventos do aluno:
+ * situação e pontos de gamificação já vêm calculados. A posição no ranking não é gravada
+ * (mudaria a de todos os alunos abaixo a cada evento) e é preenchida na leitura
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class AlunoViewProjecao {
+    
+    private final Long id;
+    private final String nome;
+    private final String ra;
+    private final Double mediaFinal;
+    private final Boolean concluiu;
+    private final Integer cursosAdicionais;
+    private final Integer tentativasAvaliacao;
+    private final SituacaoAluno situacao;
+    @With
+    private final Integer posicaoRanking;
+    private final Integer pontosGamificacao;
+    private final LocalDateTime dataCriacao;
+    private final LocalDateTime dataAtualizacao;
+    private final LocalDateTime dataConclusao;
+    
+    /**
+     * Linha lida do modelo de leitura, ainda sem a posição no ranking
+     */
+    public AlunoViewProjecao(Long id, String nome, String ra, Double mediaFinal, Boolean concluiu,
+                             Integer cursosAdicionais, Integer tentativasAvaliacao, SituacaoAluno situacao,
+                             Integer pontosGamificacao, LocalDateTime dataCriacao, LocalDateTime dataAtualizacao,
+                             LocalDateTime dataConclusao) {
+        this(id, nome, ra, mediaFinal, concluiu, cursosAdicionais, tentativasAvaliacao, situacao, null,
+                pontosGamificacao, dataCriacao, dataAtualizacao, dataConclusao);
+    }
+    
+    /**
+     * Retorna número de tentativas restantes (mesma regra de {@link Aluno#tentativasRestantes()})
+     */
+    public int tentativasRestantes() {
+        return Aluno.MAXIMO_TENTATIVAS - tentativasAvaliacao;
+    }
+}
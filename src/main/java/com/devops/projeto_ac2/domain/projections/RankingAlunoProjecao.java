@@ -0,0 +1,44 @@
+package com.devops.projeto_ac2.domain.projections;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Projeção somente leitura com as colunas exibidas no ranking
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class RankingAlunoProjecao {
+    
+    private final Long id;
+    private final String nome;
+    private final String ra;
+    private final Double mediaFinal;
+    private final Integer cursosAdicionais;
+    private final Boolean concluiu;
+    
+    /**
+     * Cria a projeção a partir de uma entidade recém-gravada
+     */
+    public static RankingAlunoProjecao de(Aluno aluno) {
+        return new RankingAlunoProjecao(
+                aluno.getId(),
+                aluno.getNome(),
+                aluno.getRegistroAcademico().getValor(),
+                aluno.getMediaFinal(),
+                aluno.getCursosAdicionais(),
+                aluno.isConcluiu());
+    }
+    
+    /**
+     * Mesma regra de {@link Aluno#aprovado()}
+     */
+    public boolean aprovado() {
+        return concluiu && mediaFinal >= Aluno.MEDIA_APROVACAO;
+    }
+}
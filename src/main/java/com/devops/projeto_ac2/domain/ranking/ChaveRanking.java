@@ -0,0 +1,66 @@
+package com.devops.projeto_ac2.domain.ranking;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+
+/**
+ * Chave de ordenação do ranking empacotada em um único long
+ * 
+ * Layout (do bit mais significativo para o menos):
+ * - 11 bits: complemento da média em centésimos (média maior => chave menor)
+ * - 20 bits: complemento dos cursos adicionais (mais cursos => chave menor)
+ * - 32 bits: ID do aluno (desempate, menor ID primeiro)
+ * 
+ * Assim, ordenar as chaves em ordem crescente produz exatamente a ordem do ranking
+ * (média DESC, cursos adicionais DESC, ID ASC), sem comparators nem boxing
+ */
+public final class ChaveRanking {
+    
+    static final int BITS_ID = 32;
+    static final int BITS_CURSOS = 20;
+    
+    public static final int MEDIA_MAXIMA_CENTESIMOS = 1000;
+    public static final int CURSOS_MAXIMO = (1 << BITS_CURSOS) - 1;
+    public static final long ID_MAXIMO = (1L << BITS_ID) - 1;
+    
+    private static final long MASCARA_ID = ID_MAXIMO;
+    private static final long MASCARA_CURSOS = CURSOS_MAXIMO;
+    
+    private ChaveRanking() {}
+    
+    public static long de(Aluno aluno) {
+        return empacotar(aluno.getId(), aluno.getMediaFinal(), aluno.getCursosAdicionais());
+    }
+    
+    /**
+     * @throws IllegalArgumentException se algum componente não couber no layout da chave
+     */
+    public static long empacotar(long id, double mediaFinal, int cursosAdicionais) {
+        long centesimos = Math.round(mediaFinal * 100);
+        if (centesimos < 0 || centesimos > MEDIA_MAXIMA_CENTESIMOS) {
+            throw new IllegalArgumentException("Média fora do intervalo do ranking: " + mediaFinal);
+        }
+        if (cursosAdicionais < 0 || cursosAdicionais > CURSOS_MAXIMO) {
+            throw new IllegalArgumentException("Cursos adicionais fora do intervalo do ranking: " + cursosAdicionais);
+        }
+        if (id < 0 || id > ID_MAXIMO) {
+            throw new IllegalArgumentException("ID fora do intervalo do ranking: " + id);
+        }
+        
+        return ((MEDIA_MAXIMA_CENTESIMOS - centesimos) << (BITS_CURSOS + BITS_ID))
+                | ((CURSOS_MAXIMO - (long) cursosAdicionais) << BITS_ID)
+                | id;
+    }
+    
+    public static long id(long chave) {
+        return chave & MASCARA_ID;
+    }
+    
+    public static double mediaFinal(long chave) {
+        long centesimos = MEDIA_MAXIMA_CENTESIMOS - (chave >>> (BITS_CURSOS + BITS_ID));
+        return centesimos / 100.0;
+    }
+    
+    public static int cursosAdicionais(long chave) {
+        return (int) (CURSOS_MAXIMO - ((chave >>> BITS_ID) & MASCARA_CURSOS));
+    }
+}
@@ -0,0 +1,36 @@
+package com.devops.projeto_ac2.domain.ranking;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Posição de um aluno no ranking geral
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class PosicaoRanking {
+    
+    private final Long alunoId;
+    private final int posicao;
+    private final int totalAlunos;
+    
+    public PosicaoRanking(Long alunoId, int posicao, int totalAlunos) {
+        if (posicao < 1 || posicao > totalAlunos) {
+            throw new IllegalArgumentException("Posição " + posicao + " fora do ranking de " + totalAlunos + " alunos");
+        }
+        this.alunoId = alunoId;
+        this.posicao = posicao;
+        this.totalAlunos = totalAlunos;
+    }
+    
+    /**
+     * Percentil do aluno: porcentagem de alunos que estão na mesma posição ou abaixo dela
+     * O primeiro colocado está sempre no percentil 100
+     */
+    public double percentil() {
+        double percentil = (totalAlunos - posicao + 1) * 100.0 / totalAlunos;
+        return Math.round(percentil * 100) / 100.0;
+    }
+}
@@ -0,0 +1,81 @@
+package com.devops.projeto_ac2.domain.ranking;
+
+import java.util.Arrays;
+
+/**
+ * Seleção dos K melhores colocados do ranking usando um heap limitado de chaves primitivas
+ * 
+ * Mantém um max-heap com no máximo K chaves (ver {@link ChaveRanking}; menor chave = melhor colocado).
+ * Cada chave oferecida custa O(log K) e a memória fica em O(K), independente de quantos
+ * alunos são percorridos - ao contrário de ordenar a lista inteira e aplicar o limite
+ * 
+ * Não é thread-safe: cada seleção deve ser usada por uma única thread
+ */
+public class SelecaoTopK {
+    
+    private final long[] heap;
+    private int tamanho;
+    
+    public SelecaoTopK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K deve ser maior que zero");
+        }
+        this.heap = new long[k];
+    }
+    
+    /**
+     * Oferece uma chave: entra no heap se ainda houver espaço ou se for melhor que a pior mantida
+     */
+    public void oferecer(long chave) {
+        if (tamanho < heap.length) {
+            heap[tamanho] = chave;
+            subir(tamanho++);
+        } else if (chave < heap[0]) {
+            heap[0] = chave;
+            descer(0);
+        }
+    }
+    
+    public int tamanho() {
+        return tamanho;
+    }
+    
+    /**
+     * @return as chaves selecionadas em ordem de ranking (melhor colocado primeiro)
+     */
+    public long[] emOrdem() {
+        long[] chaves = Arrays.copyOf(heap, tamanho);
+        Arrays.sort(chaves);
+        return chaves;
+    }
+    
+    private void subir(int i) {
+        long chave = heap[i];
+        while (i > 0) {
+            int pai = (i - 1) >>> 1;
+            if (heap[pai] >= chave) {
+                break;
+            }
+            heap[i] = heap[pai];
+            i = pai;
+        }
+        heap[i] = chave;
+    }
+    
+    private void descer(int i) {
+        long chave = heap[i];
+        int metade = tamanho >>> 1;
+        while (i < metade) {
+            int filho = 2 * i + 1;
+            if (filho + 1 < tamanho && heap[filho + 1] > heap[filho]) {
+                filho++;
+            }
+            if (chave >= heap[filho]) {
+                break;
+            }
+            heap[i] = heap[filho];
+            i = filho;
+        }
+        heap[i] = chave;
+    }
+}
@@ -1,9 +1,15 @@
 package com.devops.projeto_ac2.domain.repositories;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Interface do repositório de Aluno (Port)
@@ -17,11 +23,53 @@ public interface AlunoRepository {
      */
     Aluno salvar(Aluno aluno);
     
+    /**
+     * Salva vários alunos novos de uma vez, enviando os INSERTs em lotes JDBC
+     * 
+     * @return os alunos salvos, na mesma ordem, já com ID
+     */
+    List<Aluno> salvarTodos(List<Aluno> alunos);
+    
+    /**
+     * Grava uma tentativa já aplicada ao aluno ({@link Aluno#registrarTentativa}) com um único UPDATE condicional,
+     * sem dirty checking da entidade
+     * 
+     * A condição compara a versão lida: se outra requisição alterou o aluno depois da leitura, nada é gravado
+     * 
+     * @return true se gravou; false se o estado no banco mudou desde a leitura (o aluno deve ser relido)
+     */
+    boolean salvarTentativa(Aluno aluno);
+    
+    /**
+     * Grava a conclusão já aplicada ao aluno ({@link Aluno#concluirCurso}) com um único UPDATE condicional,
+     * nas mesmas condições de {@link #salvarTentativa(Aluno)}
+     * 
+     * @return true se gravou; false se o estado no banco mudou desde a leitura (o aluno deve ser relido)
+     */
+    boolean salvarConclusao(Aluno aluno);
+    
+    /**
+     * Grava em lote tentativas aceitas fora de uma transação de requisição (escrita adiada)
+     * 
+     * Cada item traz o estado absoluto após a tentativa (número da tentativa e média) e só é aplicado
+     * se o aluno ainda tiver menos tentativas gravadas e não tiver concluído o curso:
+     * reaplicar o mesmo item, como na releitura de um journal, não tem efeito
+     * 
+     * @param tentativas no máximo uma por aluno (a mais recente)
+     * @return IDs dos alunos efetivamente atualizados
+     */
+    Set<Long> aplicarTentativas(Collection<TentativaRegistradaEvent> tentativas);
+    
     /**
      * Busca um aluno por ID
      */
     Optional<Aluno> buscarPorId(Long id);
     
+    /**
+     * Busca a projeção somente leitura de um aluno por ID
+     */
+    Optional<AlunoProjecao> buscarProjecaoPorId(Long id);
+    
     /**
      * Busca um aluno por RA
      */
@@ -42,11 +90,68 @@ public interface AlunoRepository {
      */
     List<Aluno> buscarNaoConcluidos();
     
+    /**
+     * Busca o ranking de alunos já ordenado pelo banco:
+     * média final (maior primeiro), cursos adicionais (maior primeiro) e ID como desempate
+     * 
+     * @param limite quantidade máxima de alunos (0 para o ranking completo)
+     */
+    List<RankingAlunoProjecao> buscarRanking(int limite);
+    
+    /**
+     * Busca o ranking apenas dos alunos aprovados, com a mesma ordenação de {@link #buscarRanking(int)}
+     */
+    List<RankingAlunoProjecao> buscarRankingAprovados();
+    
+    /**
+     * Busca apenas os N melhores alunos aprovados, com a mesma ordenação de {@link #buscarRanking(int)}
+     * 
+     * @param limite quantidade máxima de alunos
+     */
+    List<RankingAlunoProjecao> buscarRankingAprovados(int limite);
+    
+    /**
+     * Busca o ranking de alunos específicos, devolvendo-os na mesma ordem dos IDs informados
+     * (IDs inexistentes são ignorados)
+     */
+    List<RankingAlunoProjecao> buscarRankingPorIds(List<Long> ids);
+    
+    /**
+     * Busca uma página de alunos ordenada por ID (paginação keyset)
+     * 
+     * @param aposId ID do último aluno da página anterior (null para a primeira página)
+     * @param limite quantidade máxima de alunos retornados
+     */
+    List<AlunoProjecao> buscarPagina(Long aposId, int limite);
+    
+    /**
+     * Busca uma página de alunos filtrada por conclusão, ordenada por ID (paginação keyset)
+     * 
+     * @param concluiu true para concluídos, false para não concluídos
+     * @param aposId ID do último aluno da página anterior (null para a primeira página)
+     * @param limite quantidade máxima de alunos retornados
+     */
+    List<AlunoProjecao> buscarPaginaPorConclusao(boolean concluiu, Long aposId, int limite);
+    
+    /**
+     * Percorre os alunos em ordem de ID com um cursor no banco, sem carregá-los todos em memória
+     * O stream deve ser consumido dentro de uma transação e fechado ao final
+     * 
+     * @param concluiu filtro opcional de conclusão (null para todos)
+     */
+    Stream<AlunoProjecao> percorrer(Boolean concluiu);
+    
     /**
      * Verifica se existe um aluno com o RA informado
      */
     boolean existePorRA(String ra);
     
+    /**
+     * Retorna, dentre os RAs informados, os que já estão cadastrados
+     * (consulta por conjunto, em vez de uma consulta por RA)
+     */
+    Set<String> buscarRAsExistentes(Collection<String> ras);
+    
     /**
      * Deleta um aluno por ID
      */
@@ -0,0 +1,23 @@
+package com.devops.projeto_ac2.domain.repositories;
+
+import com.devops.projeto_ac2.domain.projections.AlunoViewProjecao;
+
+import java.util.List;
+
+/**
+ * Interface de consulta ao modelo de leitura de alunos (Port - lado de leitura do CQRS)
+ * 
+ * O modelo é atualizado pelos consumidores de eventos, de forma assíncrona:
+ * as consultas refletem as escritas com o atraso da fila de mensagens
+ */
+public interface AlunoViewRepository {
+    
+    /**
+     * Busca uma página do modelo de leitura em ordem de ID (paginação por cursor/keyset)
+     * 
+     * @param concluiu filtro de conclusão (null para todos)
+     * @param aposId ID do último aluno da página anterior (null para a primeira página)
+     * @param limite quantidade máxima de alunos
+     */
+    List<AlunoViewProjecao> buscarPagina(Boolean concluiu, Long aposId, int limite);
+}
@@ -5,10 +5,16 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 /**
  * Value Object representando a média final do aluno
  * Encapsula regras de validação de nota
  * 
+ * A média é guardada em centésimos (arredondamento half-up): é a precisão da chave do ranking
+ * em memória (ChaveRanking), que assim ordena os alunos exatamente como o ORDER BY do banco
+ * 
  * Lombok Annotations:
  * - @Getter: Acesso ao valor
  * - @ToString: Representação em string
@@ -19,6 +25,8 @@ import lombok.ToString;
 @EqualsAndHashCode
 public class MediaFinal {
     
+    public static final int CASAS_DECIMAIS = 2;
+    
     private final double valor;
     
     private MediaFinal(double valor) {
@@ -33,7 +41,7 @@ public class MediaFinal {
      */
     public static MediaFinal criar(double valor) {
         validar(valor);
-        return new MediaFinal(valor);
+        return new MediaFinal(BigDecimal.valueOf(valor).setScale(CASAS_DECIMAIS, RoundingMode.HALF_UP).doubleValue());
     }
     
     /**
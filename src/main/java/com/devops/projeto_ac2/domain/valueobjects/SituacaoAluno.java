@@ -0,0 +1,34 @@
+package com.devops.projeto_ac2.domain.valueobjects;
+
+/**
+ * Situação acadêmica do aluno, derivada da conclusão e da média final
+ */
+public enum SituacaoAluno {
+    
+    APROVADO,
+    REPROVADO,
+    EM_RECUPERACAO,
+    NAO_CONCLUIDO;
+    
+    /**
+     * Regra única da situação, usada nas respostas e no modelo de leitura
+     */
+    public static SituacaoAluno de(boolean concluiu, double mediaFinal) {
+        if (!concluiu) {
+            if (mediaFinal >= 5.0 && mediaFinal < 7.0) {
+                return EM_RECUPERACAO;
+            }
+            return NAO_CONCLUIDO;
+        }
+        
+        if (mediaFinal >= 7.0) {
+            return APROVADO;
+        }
+        
+        if (mediaFinal < 5.0) {
+            return REPROVADO;
+        }
+        
+        return EM_RECUPERACAO;
+    }
+}
@@ -3,7 +3,7 @@ package com.devops.projeto_ac2.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-@Entity
+@Entity(name = "AlunoLegado")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,90 @@
+package com.devops.projeto_ac2.infrastructure.cli;
+
+import com.devops.projeto_ac2.application.usecases.ImportarAlunosUseCase;
+import com.devops.projeto_ac2.shared.arquivo.FormatoArquivo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Execução da importação de alunos pela linha de comando
+ * 
+ * Só atua quando a aplicação é iniciada com --importar=<arquivo>. O progresso e as linhas rejeitadas
+ * vão para o log; o código de saída, 0 (sucesso) ou 1 (falha), é exposto como ExitCodeGenerator e
+ * o main encerra a aplicação com ele (SpringApplication.exit) depois de uma importação.
+ * O formato vem de --formato=csv|ndjson ou da extensão do arquivo.
+ * 
+ * Exemplo:
+ * java -jar projeto_ac2.jar --spring.main.web-application-type=none --importar=alunos.csv
+ */
+@Component
+public class ImportacaoAlunosRunner implements ApplicationRunner, ExitCodeGenerator {
+    
+    static final String OPCAO_ARQUIVO = "importar";
+    static final String OPCAO_FORMATO = "formato";
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoAlunosRunner.class);
+    
+    private final ImportarAlunosUseCase importarAlunosUseCase;
+    
+    private volatile Integer codigoSaida; // null = aplicação iniciada sem --importar
+    
+    public ImportacaoAlunosRunner(ImportarAlunosUseCase importarAlunosUseCase) {
+        this.importarAlunosUseCase = importarAlunosUseCase;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPCAO_ARQUIVO)) {
+            return;
+        }
+        codigoSaida = importar(args);
+    }
+    
+    /**
+     * Indica se a aplicação foi iniciada para uma importação (e deve encerrar ao fim dela)
+     */
+    public boolean isImportacaoExecutada() {
+        return codigoSaida != null;
+    }
+    
+    @Override
+    public int getExitCode() {
+        return codigoSaida == null ? 0 : codigoSaida;
+    }
+    
+    int importar(ApplicationArguments args) {
+        Path arquivo = Path.of(args.getOptionValues(OPCAO_ARQUIVO).get(0));
+        try {
+            FormatoArquivo formato = args.containsOption(OPCAO_FORMATO)
+                    ? FormatoArquivo.deNome(args.getOptionValues(OPCAO_FORMATO).get(0))
+                    : FormatoArquivo.deContentTypeOuArquivo(arquivo.getFileName().toString());
+            
+            Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+            ImportarAlunosUseCase.Resultado resultado = importarAlunosUseCase.executar(leitor, formato,
+                    progresso -> logger.info("{} linhas lidas | {} importados | {} rejeitados | {} ms",
+                            progresso.getLinhasLidas(), progresso.getImportados(),
+                            progresso.getRejeitados(), progresso.getDecorridoMs()));
+            
+            resultado.getRejeicoes().forEach(rejeicao ->
+                    logger.warn("Linha {} rejeitada: {}", rejeicao.getLinha(), rejeicao.getErro()));
+            if (resultado.getRejeitados() > resultado.getRejeicoes().size()) {
+                logger.warn("... e mais {} linhas rejeitadas",
+                        resultado.getRejeitados() - resultado.getRejeicoes().size());
+            }
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Falha na importação do arquivo {}", arquivo, e);
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.devops.projeto_ac2.infrastructure.concorrencia;
+
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Repete operações de escrita que perderam a disputa pela versão do aluno (concorrência otimista)
+ * 
+ * Cada repetição executa a operação inteira de novo (nova transação e nova leitura), após uma espera
+ * aleatória entre zero e um teto que dobra a cada conflito ("full jitter"): requisições que colidiram
+ * não voltam a colidir no mesmo instante, e nenhuma linha fica bloqueada enquanto isso.
+ * Esgotadas as repetições, o último conflito é propagado (HTTP 409)
+ * 
+ * Métricas (Micrometer):
+ * - alunos.concorrencia.conflitos{operacao}: conflitos de versão detectados
+ * - alunos.concorrencia.repeticoes{operacao}: operações repetidas após um conflito
+ * - alunos.concorrencia.esgotadas{operacao}: operações que desistiram após todas as repetições
+ */
+@Component
+public class RepeticaoEmConflito {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RepeticaoEmConflito.class);
+    
+    private final MeterRegistry meterRegistry;
+    private final int repeticoesMaximas;
+    private final long esperaInicialNanos;
+    private final long esperaMaximaNanos;
+    
+    public RepeticaoEmConflito(
+            MeterRegistry meterRegistry,
+            @Value("${alunos.concorrencia.repeticoes-maximas:5}") int repeticoesMaximas,
+            @Value("${alunos.concorrencia.espera-inicial:5ms}") Duration esperaInicial,
+            @Value("${alunos.concorrencia.espera-maxima:100ms}") Duration esperaMaxima) {
+        this.meterRegistry = meterRegistry;
+        this.repeticoesMaximas = repeticoesMaximas;
+        this.esperaInicialNanos = esperaInicial.toNanos();
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+    }
+    
+    /**
+     * Executa a operação, repetindo-a enquanto houver conflito de versão e repetições disponíveis
+     * 
+     * @param operacao nome da operação (tag das métricas)
+     * @param acao operação completa, transacional por conta própria
+     */
+    public <T> T executar(String operacao, Supplier<T> acao) {
+        for (int repeticao = 0; ; repeticao++) {
+            try {
+                return acao.get();
+            } catch (ConflitoConcorrenciaException | OptimisticLockingFailureException e) {
+                meterRegistry.counter("alunos.concorrencia.conflitos", "operacao", operacao).increment();
+                if (repeticao >= repeticoesMaximas) {
+                    meterRegistry.counter("alunos.concorrencia.esgotadas", "operacao", operacao).increment();
+                    logger.warn("Conflito de concorrência em {} persistiu após {} repetições", operacao, repeticao);
+                    throw e;
+                }
+                meterRegistry.counter("alunos.concorrencia.repeticoes", "operacao", operacao).increment();
+                aguardar(repeticao, e);
+            }
+        }
+    }
+    
+    private void aguardar(int repeticao, RuntimeException conflito) {
+        long teto = Math.min(esperaMaximaNanos, esperaInicialNanos << Math.min(repeticao, 20));
+        if (teto <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(teto + 1)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflito;
+        }
+    }
+}
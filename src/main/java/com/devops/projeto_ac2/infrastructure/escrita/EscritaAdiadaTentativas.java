@@ -0,0 +1,363 @@
+package com.devops.projeto_ac2.infrastructure.escrita;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Escrita adiada (write-behind) de tentativas, para picos de dia de prova
+ * 
+ * Habilitada por alunos.tentativas.escrita-adiada.habilitada. Cada tentativa é validada pela própria
+ * entidade sobre um estado em memória por aluno (carregado do banco no primeiro acesso e mantido
+ * enquanto houver tentativas não gravadas), anexada ao journal local e confirmada ao cliente.
+ * A cada alunos.tentativas.escrita-adiada.intervalo (ou ao acumular lote-maximo tentativas) as pendentes
+ * são gravadas numa transação: um UPDATE por aluno, só com a última tentativa da janela, e os eventos
+ * TentativaRegistrada publicados na mesma transação, como no caminho síncrono.
+ * 
+ * Regras mantidas enquanto há tentativas pendentes:
+ * - limite de tentativas e "já concluiu": o estado em memória inclui as pendentes e só é descartado
+ *   depois que elas estão no banco
+ * - conclusão: {@link #comAlunoDescarregado} bloqueia novas tentativas do aluno, grava as pendentes
+ *   e só então executa a conclusão
+ * 
+ * Durabilidade: a resposta só sai depois do fsync do journal; na subida, segmentos que sobraram
+ * são reaplicados (o UPDATE é idempotente). Leituras do aluno refletem a tentativa após a descarga.
+ * 
+ * Métricas (Micrometer):
+ * - alunos.tentativas.adiadas.aceitas: tentativas confirmadas ao cliente
+ * - alunos.tentativas.adiadas.gravadas: alunos atualizados no banco pelas descargas
+ * - alunos.tentativas.adiadas.falhas: descargas que falharam (as tentativas voltam para a próxima)
+ * - alunos.tentativas.adiadas.pendentes (gauge): tentativas aceitas ainda não gravadas
+ */
+@Component
+@ConditionalOnProperty(name = "alunos.tentativas.escrita-adiada.habilitada", havingValue = "true")
+public class EscritaAdiadaTentativas {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EscritaAdiadaTentativas.class);
+    
+    private final AlunoRepository alunoRepository;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final JournalTentativas journal;
+    private final int loteMaximo;
+    private final ScheduledExecutorService agendador;
+    
+    private final Map<Long, EstadoAluno> estados = new ConcurrentHashMap<>();
+    private final AtomicInteger pendentes = new AtomicInteger();
+    private final AtomicBoolean descargaAgendada = new AtomicBoolean();
+    
+    // Leitura: registro de tentativas (em paralelo); escrita: rotação do journal + coleta das pendentes
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    
+    // Segmentos fechados cujas tentativas ainda não foram confirmadas no banco (acesso sob descarregar)
+    private final List<Path> segmentosNaoGravados = new ArrayList<>();
+    
+    public EscritaAdiadaTentativas(
+            AlunoRepository alunoRepository,
+            EventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.tentativas.escrita-adiada.diretorio:journal-tentativas}") Path diretorio,
+            @Value("${alunos.tentativas.escrita-adiada.intervalo:200ms}") Duration intervalo,
+            @Value("${alunos.tentativas.escrita-adiada.lote-maximo:5000}") int loteMaximo,
+            @Value("${alunos.tentativas.escrita-adiada.fsync:true}") boolean fsync) {
+        this.alunoRepository = alunoRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.journal = new JournalTentativas(diretorio, objectMapper, fsync);
+        this.loteMaximo = loteMaximo;
+        this.agendador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("escrita-adiada-tentativas").daemon().factory());
+        
+        agendador.scheduleWithFixedDelay(this::descarregarComLog,
+                intervalo.toNanos(), intervalo.toNanos(), TimeUnit.NANOSECONDS);
+        
+        Gauge.builder("alunos.tentativas.adiadas.pendentes", pendentes, AtomicInteger::get)
+                .description("Tentativas aceitas pela escrita adiada e ainda não gravadas no banco")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Reaplica os segmentos do journal deixados por uma execução anterior, antes de aceitar tentativas
+     */
+    @PostConstruct
+    public void recuperar() {
+        List<Path> segmentos;
+        List<TentativaRegistradaEvent> tentativas = new ArrayList<>();
+        try {
+            segmentos = journal.segmentosAnteriores();
+            for (Path segmento : segmentos) {
+                tentativas.addAll(journal.ler(segmento));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o journal de tentativas", e);
+        }
+        
+        if (!tentativas.isEmpty()) {
+            logger.info("Reaplicando {} tentativas do journal ({} segmentos)", tentativas.size(), segmentos.size());
+            gravar(tentativas);
+        }
+        journal.apagar(segmentos);
+    }
+    
+    /**
+     * Registra uma tentativa e a confirma sem esperar a gravação no banco
+     * 
+     * @param resposta monta a resposta a partir do aluno já com a tentativa (executada sob a trava do aluno)
+     * @throws AlunoNotFoundException se o aluno não existir
+     * @throws ConflitoConcorrenciaException se o aluno estiver sendo concluído neste momento
+     */
+    public <T> T registrar(Long alunoId, double nota, Function<Aluno, T> resposta) {
+        MediaFinal media = MediaFinal.criar(nota);
+        
+        while (true) {
+            EstadoAluno estado = estados.get(alunoId);
+            if (estado == null) {
+                Aluno aluno = alunoRepository.buscarPorId(alunoId)
+                        .orElseThrow(() -> new AlunoNotFoundException(alunoId));
+                EstadoAluno novo = new EstadoAluno(aluno);
+                EstadoAluno existente = estados.putIfAbsent(alunoId, novo);
+                estado = existente != null ? existente : novo;
+            }
+            
+            long posicao;
+            T resultado;
+            trava.readLock().lock();
+            try {
+                synchronized (estado) {
+                    if (estado.removido) {
+                        continue; // descartado após uma descarga: recarregar do banco
+                    }
+                    if (estado.bloqueado) {
+                        throw new ConflitoConcorrenciaException(alunoId);
+                    }
+                    
+                    // Regras de negócio (limite, já concluiu) na própria entidade
+                    Aluno aluno = estado.aluno;
+                    aluno.registrarTentativa(media);
+                    TentativaRegistradaEvent tentativa = new TentativaRegistradaEvent(
+                            aluno.getId(),
+                            aluno.getRegistroAcademico().getValor(),
+                            aluno.getTentativasAvaliacao(),
+                            aluno.getMediaFinal());
+                    try {
+                        posicao = journal.anexar(tentativa);
+                    } catch (UncheckedIOException e) {
+                        // A entidade já contou a tentativa: o estado só volta a valer depois de relido do banco
+                        estado.bloqueado = true;
+                        estado.descartarAposGravar = true;
+                        throw e;
+                    }
+                    estado.pendentes.add(tentativa);
+                    resultado = resposta.apply(aluno);
+                }
+            } finally {
+                trava.readLock().unlock();
+            }
+            
+            journal.sincronizar(posicao);
+            meterRegistry.counter("alunos.tentativas.adiadas.aceitas").increment();
+            if (pendentes.incrementAndGet() >= loteMaximo && descargaAgendada.compareAndSet(false, true)) {
+                agendador.execute(this::descarregarComLog);
+            }
+            return resultado;
+        }
+    }
+    
+    /**
+     * Executa uma escrita síncrona sobre o aluno (ex.: conclusão) depois de gravar as tentativas pendentes,
+     * sem aceitar novas tentativas dele enquanto isso; ao final o estado em memória é descartado
+     */
+    public <T> T comAlunoDescarregado(Long alunoId, Supplier<T> acao) {
+        EstadoAluno estado;
+        while (true) {
+            estado = estados.compute(alunoId, (id, atual) -> atual != null ? atual : EstadoAluno.bloqueio());
+            synchronized (estado) {
+                if (!estado.removido) {
+                    estado.bloqueado = true;
+                    break;
+                }
+            }
+        }
+        try {
+            descarregar();
+            return acao.get();
+        } finally {
+            synchronized (estado) {
+                if (estado.pendentes.isEmpty()) {
+                    estado.removido = true;
+                    estados.remove(alunoId, estado);
+                } else {
+                    // A descarga falhou: as pendentes continuam valendo e o estado sai na próxima gravação
+                    estado.descartarAposGravar = true;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Grava todas as tentativas pendentes (chamado pelo agendador, na conclusão e no desligamento)
+     */
+    public synchronized void descarregar() {
+        descargaAgendada.set(false);
+        
+        Map<Long, List<TentativaRegistradaEvent>> coletadas = new LinkedHashMap<>();
+        trava.writeLock().lock();
+        try {
+            Path segmento = journal.rotacionar();
+            if (segmento != null) {
+                segmentosNaoGravados.add(segmento);
+            }
+            for (Map.Entry<Long, EstadoAluno> entrada : estados.entrySet()) {
+                EstadoAluno estado = entrada.getValue();
+                synchronized (estado) {
+                    if (!estado.pendentes.isEmpty()) {
+                        coletadas.put(entrada.getKey(), new ArrayList<>(estado.pendentes));
+                        estado.pendentes.clear();
+                    }
+                }
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+        
+        if (!coletadas.isEmpty()) {
+            List<TentativaRegistradaEvent> tentativas = coletadas.values().stream().flatMap(List::stream).toList();
+            try {
+                gravar(tentativas);
+            } catch (RuntimeException e) {
+                devolver(coletadas);
+                meterRegistry.counter("alunos.tentativas.adiadas.falhas").increment();
+                throw e;
+            }
+            pendentes.addAndGet(-tentativas.size());
+        }
+        
+        journal.apagar(segmentosNaoGravados);
+        segmentosNaoGravados.clear();
+        descartarEstadosGravados();
+    }
+    
+    @PreDestroy
+    public void encerrar() {
+        agendador.shutdown();
+        try {
+            descarregar();
+        } finally {
+            journal.close();
+        }
+    }
+    
+    /**
+     * Um UPDATE por aluno (a última tentativa da janela) e todos os eventos dos alunos atualizados,
+     * na mesma transação: se a publicação falhar, nada é gravado e as tentativas voltam para a próxima descarga
+     */
+    private void gravar(Collection<TentativaRegistradaEvent> tentativas) {
+        Map<Long, TentativaRegistradaEvent> ultimas = new LinkedHashMap<>();
+        for (TentativaRegistradaEvent tentativa : tentativas) {
+            ultimas.merge(tentativa.getAlunoId(), tentativa,
+                    (atual, nova) -> nova.getNumeroTentativa() > atual.getNumeroTentativa() ? nova : atual);
+        }
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> atualizados = alunoRepository.aplicarTentativas(ultimas.values());
+            tentativas.stream()
+                    .filter(tentativa -> atualizados.contains(tentativa.getAlunoId()))
+                    .forEach(eventPublisher::publicarTentativaRegistrada);
+            meterRegistry.counter("alunos.tentativas.adiadas.gravadas").increment(atualizados.size());
+            logger.info("Escrita adiada: {} tentativas gravadas em {} alunos", tentativas.size(), atualizados.size());
+        });
+    }
+    
+    private void devolver(Map<Long, List<TentativaRegistradaEvent>> coletadas) {
+        coletadas.forEach((alunoId, tentativas) -> {
+            EstadoAluno estado = estados.get(alunoId);
+            synchronized (estado) {
+                estado.pendentes.addAll(0, tentativas);
+            }
+        });
+    }
+    
+    /**
+     * Estados sem tentativas pendentes já estão no banco: saem da memória e o próximo acesso relê o aluno
+     */
+    private void descartarEstadosGravados() {
+        estados.forEach((alunoId, estado) -> {
+            synchronized (estado) {
+                if (estado.pendentes.isEmpty() && (!estado.bloqueado || estado.descartarAposGravar)) {
+                    estado.removido = true;
+                    estados.remove(alunoId, estado);
+                }
+            }
+        });
+    }
+    
+    private void descarregarComLog() {
+        try {
+            descarregar();
+        } catch (RuntimeException e) {
+            logger.error("Falha na descarga da escrita adiada de tentativas; nova tentativa no próximo intervalo", e);
+        }
+    }
+    
+    /**
+     * Estado em memória de um aluno com tentativas aceitas (acesso sob a trava do próprio objeto)
+     */
+    private static final class EstadoAluno {
+        
+        private final Aluno aluno;
+        private final List<TentativaRegistradaEvent> pendentes = new ArrayList<>();
+        private boolean bloqueado;
+        private boolean descartarAposGravar;
+        private boolean removido;
+        
+        private EstadoAluno(Aluno aluno) {
+            this.aluno = aluno;
+        }
+        
+        private static EstadoAluno bloqueio() {
+            EstadoAluno estado = new EstadoAluno(null);
+            estado.bloqueado = true;
+            return estado;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.devops.projeto_ac2.infrastructure.escrita;
+
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Journal local (append-only) das tentativas aceitas pela escrita adiada
+ * 
+ * Cada tentativa é uma linha JSON anexada ao segmento corrente e levada ao disco antes da resposta
+ * ao cliente. Escritores simultâneos compartilham o fsync (group commit): quem encontra a sua posição
+ * já sincronizada por outro escritor não chama force de novo.
+ * 
+ * A cada descarga o segmento corrente é fechado e outro é aberto; o segmento fechado só é apagado
+ * depois que as tentativas dele foram gravadas no banco. Segmentos que sobrarem (queda do processo)
+ * são relidos na subida. Uma última linha incompleta (escrita interrompida) é ignorada
+ */
+class JournalTentativas implements Closeable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(JournalTentativas.class);
+    
+    private static final String PREFIXO = "tentativas-";
+    private static final String SUFIXO = ".ndjson";
+    
+    private final Path diretorio;
+    private final ObjectWriter escritor;
+    private final ObjectReader leitor;
+    private final boolean sincronizarDisco;
+    
+    // Ordem de aquisição: travaSincronizacao e depois this
+    private final Object travaSincronizacao = new Object();
+    
+    private FileChannel canal;
+    private Path segmento;
+    private long sequencia;
+    private long escritos;
+    private long inicioSegmento;
+    private volatile long sincronizados;
+    
+    JournalTentativas(Path diretorio, ObjectMapper objectMapper, boolean sincronizarDisco) {
+        this.diretorio = diretorio;
+        this.escritor = objectMapper.writerFor(TentativaRegistradaEvent.class);
+        this.leitor = objectMapper.readerFor(TentativaRegistradaEvent.class);
+        this.sincronizarDisco = sincronizarDisco;
+        try {
+            Files.createDirectories(diretorio);
+            this.sequencia = segmentosAnteriores().stream().mapToLong(JournalTentativas::numero).max().orElse(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao preparar o journal de tentativas em " + diretorio, e);
+        }
+        abrirSegmento();
+    }
+    
+    /**
+     * Anexa a tentativa ao segmento corrente (sem fsync)
+     * 
+     * @return posição a passar para {@link #sincronizar(long)}
+     */
+    synchronized long anexar(TentativaRegistradaEvent tentativa) {
+        try {
+            byte[] json = escritor.writeValueAsBytes(tentativa);
+            ByteBuffer linha = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+            while (linha.hasRemaining()) {
+                canal.write(linha);
+            }
+            escritos += json.length + 1;
+            return escritos;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar tentativa no journal " + segmento, e);
+        }
+    }
+    
+    /**
+     * Garante que tudo até a posição está no disco; um único force atende todos os escritores que esperam
+     */
+    void sincronizar(long posicao) {
+        if (!sincronizarDisco || sincronizados >= posicao) {
+            return;
+        }
+        synchronized (travaSincronizacao) {
+            if (sincronizados >= posicao) {
+                return;
+            }
+            long alvo;
+            FileChannel atual;
+            synchronized (this) {
+                alvo = escritos;
+                atual = canal;
+            }
+            try {
+                atual.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao sincronizar o journal de tentativas", e);
+            }
+            sincronizados = alvo;
+        }
+    }
+    
+    /**
+     * Fecha o segmento corrente (já sincronizado) e abre o próximo
+     * 
+     * @return o segmento fechado, ou null se ele não tinha nenhuma tentativa
+     */
+    Path rotacionar() {
+        synchronized (travaSincronizacao) {
+            synchronized (this) {
+                if (escritos == inicioSegmento) {
+                    return null;
+                }
+                Path fechado = segmento;
+                fecharSegmento();
+                abrirSegmento();
+                return fechado;
+            }
+        }
+    }
+    
+    /**
+     * Segmentos fechados que ainda estão no diretório, do mais antigo ao mais novo
+     */
+    List<Path> segmentosAnteriores() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(arquivo -> arquivo.getFileName().toString().startsWith(PREFIXO))
+                    .filter(arquivo -> arquivo.getFileName().toString().endsWith(SUFIXO))
+                    .filter(arquivo -> !arquivo.equals(segmento))
+                    .sorted(Comparator.comparingLong(JournalTentativas::numero))
+                    .toList();
+        }
+    }
+    
+    /**
+     * Lê as tentativas de um segmento, na ordem em que foram anexadas
+     */
+    List<TentativaRegistradaEvent> ler(Path arquivo) throws IOException {
+        List<TentativaRegistradaEvent> tentativas = new ArrayList<>();
+        try (BufferedReader linhas = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            String linha;
+            while ((linha = linhas.readLine()) != null) {
+                if (linha.isBlank()) {
+                    continue;
+                }
+                try {
+                    tentativas.add(leitor.readValue(linha));
+                } catch (JsonProcessingException e) {
+                    logger.warn("Linha inválida ignorada no journal {}: {}", arquivo.getFileName(), e.getOriginalMessage());
+                }
+            }
+        }
+        return tentativas;
+    }
+    
+    /**
+     * Apaga segmentos cujas tentativas já estão gravadas no banco
+     */
+    void apagar(Collection<Path> segmentos) {
+        for (Path arquivo : segmentos) {
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException e) {
+                // Reaplicar um segmento já gravado não tem efeito; fica para a próxima subida
+                logger.warn("Não foi possível apagar o segmento {} do journal", arquivo, e);
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        synchronized (travaSincronizacao) {
+            synchronized (this) {
+                fecharSegmento();
+            }
+        }
+    }
+    
+    private void abrirSegmento() {
+        segmento = diretorio.resolve(String.format("%s%020d%s", PREFIXO, ++sequencia, SUFIXO));
+        try {
+            canal = FileChannel.open(segmento, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o segmento " + segmento + " do journal", e);
+        }
+        inicioSegmento = escritos;
+    }
+    
+    private void fecharSegmento() {
+        try {
+            canal.force(false);
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar o segmento " + segmento + " do journal", e);
+        }
+        sincronizados = escritos;
+    }
+    
+    private static long numero(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        return Long.parseLong(nome.substring(PREFIXO.length(), nome.length() - SUFIXO.length()));
+    }
+}
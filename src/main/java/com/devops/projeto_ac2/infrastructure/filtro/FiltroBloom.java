@@ -0,0 +1,101 @@
+package com.devops.projeto_ac2.infrastructure.filtro;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de strings, seguro para uso concorrente
+ * 
+ * Dimensionado pela capacidade esperada (n) e pela taxa de falso positivo desejada (p):
+ * m = -n·ln(p) / ln(2)² bits e k = (m/n)·ln(2) funções de hash. As k posições vêm de
+ * double hashing (h1 + i·h2) sobre um hash de 64 bits, então cada operação percorre a string uma vez
+ */
+final class FiltroBloom {
+    
+    private final AtomicLongArray palavras;
+    private final long tamanhoEmBits;
+    private final int funcoesHash;
+    private final AtomicLong bitsLigados = new AtomicLong();
+    
+    FiltroBloom(long capacidade, double taxaFalsoPositivo) {
+        if (capacidade <= 0 || taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva e taxa entre 0 e 1");
+        }
+        long bits = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        int palavrasNecessarias = Math.toIntExact((bits + 63) / 64);
+        this.palavras = new AtomicLongArray(palavrasNecessarias);
+        this.tamanhoEmBits = palavrasNecessarias * 64L;
+        this.funcoesHash = Math.max(1, (int) Math.round((double) tamanhoEmBits / capacidade * Math.log(2)));
+    }
+    
+    /**
+     * Adiciona o valor ao filtro
+     * 
+     * @return true se algum bit foi ligado (o valor com certeza não estava presente)
+     */
+    boolean adicionar(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean alterou = false;
+        for (int i = 0; i < funcoesHash; i++) {
+            long bit = Math.floorMod(h1 + i * h2, tamanhoEmBits);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long anterior = palavras.getAndUpdate(indice, palavra -> palavra | mascara);
+            if ((anterior & mascara) == 0) {
+                bitsLigados.incrementAndGet();
+                alterou = true;
+            }
+        }
+        return alterou;
+    }
+    
+    /**
+     * Indica se o valor pode ter sido adicionado (false = com certeza não foi)
+     */
+    boolean podeConter(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funcoesHash; i++) {
+            long bit = Math.floorMod(h1 + i * h2, tamanhoEmBits);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Taxa de falso positivo estimada pela ocupação atual: (bits ligados / m)^k
+     */
+    double taxaFalsoPositivoEstimada() {
+        return Math.pow((double) bitsLigados.get() / tamanhoEmBits, funcoesHash);
+    }
+    
+    long getTamanhoEmBits() {
+        return tamanhoEmBits;
+    }
+    
+    int getFuncoesHash() {
+        return funcoesHash;
+    }
+    
+    // FNV-1a de 64 bits sobre os caracteres, seguido da finalização do MurmurHash3 para espalhar os bits
+    private static long hash(String valor) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            h ^= valor.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return misturar(h);
+    }
+    
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
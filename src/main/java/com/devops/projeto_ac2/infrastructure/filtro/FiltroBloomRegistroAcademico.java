@@ -0,0 +1,131 @@
+package com.devops.projeto_ac2.infrastructure.filtro;
+
+import com.devops.projeto_ac2.domain.ports.FiltroRegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * Adapter do FiltroRegistroAcademico com um filtro de Bloom em memória
+ * 
+ * Carregado com todos os RAs quando a aplicação sobe e alimentado pelo AlunoRepository
+ * a cada aluno salvo. Enquanto a carga não termina, todo RA é tratado como possível
+ * (a consulta ao banco continua sendo feita), então o filtro nunca produz falso negativo
+ * 
+ * Métricas (Micrometer):
+ * - alunos.filtro.ra.consultas{resultado=ausente|possivel}: consultas ao filtro
+ * - alunos.filtro.ra.falsos.positivos: RAs reportados como possíveis que não existiam
+ * - alunos.filtro.ra.taxa.falso.positivo.estimada: estimativa pela ocupação dos bits
+ * - alunos.filtro.ra.taxa.falso.positivo.observada: falsos positivos / RAs novos consultados
+ */
+@Component
+public class FiltroBloomRegistroAcademico implements FiltroRegistroAcademico {
+    
+    private static final Logger logger = LoggerFactory.getLogger(FiltroBloomRegistroAcademico.class);
+    
+    private final AlunoJpaRepository jpaRepository;
+    private final long capacidade;
+    private final double taxaFalsoPositivo;
+    
+    private final Counter consultasAusente;
+    private final Counter consultasPossivel;
+    private final Counter falsosPositivos;
+    
+    private volatile FiltroBloom filtro;
+    private volatile boolean carregado;
+    
+    public FiltroBloomRegistroAcademico(
+            AlunoJpaRepository jpaRepository,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.filtro-ra.capacidade:1000000}") long capacidade,
+            @Value("${alunos.filtro-ra.taxa-falso-positivo:0.01}") double taxaFalsoPositivo) {
+        this.jpaRepository = jpaRepository;
+        this.capacidade = capacidade;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.filtro = new FiltroBloom(capacidade, taxaFalsoPositivo);
+        
+        this.consultasAusente = Counter.builder("alunos.filtro.ra.consultas")
+                .description("Consultas ao filtro de RAs")
+                .tag("resultado", "ausente")
+                .register(meterRegistry);
+        this.consultasPossivel = Counter.builder("alunos.filtro.ra.consultas")
+                .description("Consultas ao filtro de RAs")
+                .tag("resultado", "possivel")
+                .register(meterRegistry);
+        this.falsosPositivos = Counter.builder("alunos.filtro.ra.falsos.positivos")
+                .description("RAs reportados como possíveis pelo filtro que não estavam cadastrados")
+                .register(meterRegistry);
+        Gauge.builder("alunos.filtro.ra.taxa.falso.positivo.estimada", this, FiltroBloomRegistroAcademico::taxaFalsoPositivoEstimada)
+                .description("Taxa de falso positivo estimada pela ocupação do filtro")
+                .register(meterRegistry);
+        Gauge.builder("alunos.filtro.ra.taxa.falso.positivo.observada", this, FiltroBloomRegistroAcademico::taxaFalsoPositivoObservada)
+                .description("Falsos positivos sobre o total de RAs novos consultados")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Carrega todos os RAs cadastrados em um filtro novo, lendo o banco com cursor
+     * RAs salvos durante a carga também entram no filtro novo
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void carregar() {
+        carregado = false;
+        FiltroBloom novo = new FiltroBloom(capacidade, taxaFalsoPositivo);
+        this.filtro = novo;
+        
+        long total = 0;
+        try (Stream<String> ras = jpaRepository.streamRAs()) {
+            for (String ra : (Iterable<String>) ras::iterator) {
+                novo.adicionar(ra);
+                total++;
+            }
+        }
+        carregado = true;
+        
+        if (total > capacidade) {
+            logger.warn("Filtro de RAs carregado com {} RAs, acima da capacidade configurada ({}); " +
+                        "a taxa de falso positivo ficará acima de {}", total, capacidade, taxaFalsoPositivo);
+        }
+        logger.info("Filtro de RAs carregado - {} RAs, {} bits, {} funções de hash",
+                   total, novo.getTamanhoEmBits(), novo.getFuncoesHash());
+    }
+    
+    @Override
+    public boolean podeExistir(String ra) {
+        boolean possivel = !carregado || filtro.podeConter(ra);
+        (possivel ? consultasPossivel : consultasAusente).increment();
+        return possivel;
+    }
+    
+    @Override
+    public void adicionar(String ra) {
+        filtro.adicionar(ra);
+    }
+    
+    @Override
+    public void registrarFalsoPositivo(String ra) {
+        if (carregado && filtro.podeConter(ra)) {
+            falsosPositivos.increment();
+        }
+    }
+    
+    double taxaFalsoPositivoEstimada() {
+        return filtro.taxaFalsoPositivoEstimada();
+    }
+    
+    double taxaFalsoPositivoObservada() {
+        double negativos = falsosPositivos.count() + consultasAusente.count();
+        return negativos == 0 ? 0.0 : falsosPositivos.count() / negativos;
+    }
+}
@@ -0,0 +1,14 @@
+package com.devops.projeto_ac2.infrastructure.messaging.adapters;
+
+import org.springframework.amqp.AmqpException;
+
+/**
+ * Evento não confirmado pelo broker: recusado (nack), devolvido por não ter fila de destino
+ * ou sem confirmação dentro do prazo
+ */
+public class EntregaNaoConfirmadaException extends AmqpException {
+    
+    public EntregaNaoConfirmadaException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -2,31 +2,43 @@ package com.devops.projeto_ac2.infrastructure.messaging.adapters;
 
 import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
 import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
 import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
 import com.devops.projeto_ac2.domain.ports.EventPublisher;
 import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.devops.projeto_ac2.infrastructure.messaging.disjuntor.DisjuntorBroker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Adapter (Implementação) do EventPublisher usando RabbitMQ
  * 
  * Esta classe é a ponte entre o domínio (Clean Architecture) e a infraestrutura (RabbitMQ)
  * Implementa o padrão Publisher/Producer de mensageria
  * 
+ * Envio direto, dentro da transação do caso de uso: usado apenas com alunos.outbox.habilitado=false
+ * (o padrão é o OutboxEventPublisher, que grava os eventos e deixa o envio para o RelayOutbox).
+ * Com o broker fora, o DisjuntorBroker aberto faz a escrita falhar na hora, sem esperar timeouts
+ * 
  * @Component: marca como bean do Spring para injeção de dependência
  */
 @Component
+@ConditionalOnProperty(name = "alunos.outbox.habilitado", havingValue = "false")
 public class RabbitMQEventPublisher implements EventPublisher {
     
     private static final Logger logger = LoggerFactory.getLogger(RabbitMQEventPublisher.class);
     
     private final RabbitTemplate rabbitTemplate;
+    private final DisjuntorBroker disjuntor;
     
-    public RabbitMQEventPublisher(RabbitTemplate rabbitTemplate) {
+    public RabbitMQEventPublisher(RabbitTemplate rabbitTemplate, DisjuntorBroker disjuntor) {
         this.rabbitTemplate = rabbitTemplate;
+        this.disjuntor = disjuntor;
     }
     
     @Override
@@ -35,11 +47,11 @@ public class RabbitMQEventPublisher implements EventPublisher {
             logger.info("Publicando evento AlunoCriado para RabbitMQ - Aluno ID: {}, EventID: {}", 
                        event.getAlunoId(), event.getEventId());
             
-            rabbitTemplate.convertAndSend(
+            disjuntor.executar(() -> rabbitTemplate.convertAndSend(
                 RabbitMQConfig.EXCHANGE_NAME,
                 RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO,
                 event
-            );
+            ));
             
             logger.info("Evento AlunoCriado publicado com sucesso - EventID: {}", event.getEventId());
         } catch (Exception e) {
@@ -52,17 +64,47 @@ public class RabbitMQEventPublisher implements EventPublisher {
         }
     }
     
+    /**
+     * Publica o lote inteiro em um único canal (RabbitTemplate#invoke),
+     * em vez de obter um canal do cache para cada mensagem
+     */
+    @Override
+    public void publicarAlunosCriados(List<AlunoCriadoEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            logger.info("Publicando {} eventos AlunoCriado para RabbitMQ", events.size());
+            
+            disjuntor.executar(() -> rabbitTemplate.invoke(operacoes -> {
+                for (AlunoCriadoEvent event : events) {
+                    operacoes.convertAndSend(
+                        RabbitMQConfig.EXCHANGE_NAME,
+                        RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO,
+                        event
+                    );
+                }
+                return null;
+            }));
+            
+            logger.info("{} eventos AlunoCriado publicados com sucesso", events.size());
+        } catch (Exception e) {
+            logger.error("Erro ao publicar lote de {} eventos AlunoCriado", events.size(), e);
+            throw new RuntimeException("Falha ao publicar eventos de alunos criados", e);
+        }
+    }
+    
     @Override
     public void publicarAlunoConcluido(AlunoConcluidoEvent event) {
         try {
             logger.info("Publicando evento AlunoConcluido para RabbitMQ - Aluno ID: {}, Média: {}, EventID: {}", 
                        event.getAlunoId(), event.getMediaFinal(), event.getEventId());
             
-            rabbitTemplate.convertAndSend(
+            disjuntor.executar(() -> rabbitTemplate.convertAndSend(
                 RabbitMQConfig.EXCHANGE_NAME,
                 RabbitMQConfig.ROUTING_KEY_ALUNO_CONCLUIDO,
                 event
-            );
+            ));
             
             logger.info("Evento AlunoConcluido publicado com sucesso - EventID: {}", event.getEventId());
         } catch (Exception e) {
@@ -77,11 +119,11 @@ public class RabbitMQEventPublisher implements EventPublisher {
             logger.info("Publicando evento TentativaRegistrada para RabbitMQ - Aluno ID: {}, Tentativa: {}, EventID: {}", 
                        event.getAlunoId(), event.getNumeroTentativa(), event.getEventId());
             
-            rabbitTemplate.convertAndSend(
+            disjuntor.executar(() -> rabbitTemplate.convertAndSend(
                 RabbitMQConfig.EXCHANGE_NAME,
                 RabbitMQConfig.ROUTING_KEY_TENTATIVA,
                 event
-            );
+            ));
             
             logger.info("Evento TentativaRegistrada publicado com sucesso - EventID: {}", event.getEventId());
         } catch (Exception e) {
@@ -89,4 +131,23 @@ public class RabbitMQEventPublisher implements EventPublisher {
             throw new RuntimeException("Falha ao publicar evento de tentativa registrada", e);
         }
     }
+    
+    @Override
+    public void publicarAlunoExcluido(AlunoExcluidoEvent event) {
+        try {
+            logger.info("Publicando evento AlunoExcluido para RabbitMQ - Aluno ID: {}, EventID: {}", 
+                       event.getAlunoId(), event.getEventId());
+            
+            disjuntor.executar(() -> rabbitTemplate.convertAndSend(
+                RabbitMQConfig.EXCHANGE_NAME,
+                RabbitMQConfig.ROUTING_KEY_ALUNO_EXCLUIDO,
+                event
+            ));
+            
+            logger.info("Evento AlunoExcluido publicado com sucesso - EventID: {}", event.getEventId());
+        } catch (Exception e) {
+            logger.error("Erro ao publicar evento AlunoExcluido - EventID: {}", event.getEventId(), e);
+            throw new RuntimeException("Falha ao publicar evento de aluno excluído", e);
+        }
+    }
 }
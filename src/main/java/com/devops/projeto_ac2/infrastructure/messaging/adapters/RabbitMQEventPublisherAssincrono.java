@@ -0,0 +1,180 @@
+package com.devops.projeto_ac2.infrastructure.messaging.adapters;
+
+import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.ports.EventPublisherAssincrono;
+import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.batch.MessageBatch;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Adapter do EventPublisherAssincrono com publisher confirms correlacionados do RabbitMQ
+ * 
+ * Cada evento sai com um CorrelationData (id = eventId) e o envio não espera o broker: os canais
+ * do cache voltam ao pool com confirmações pendentes, então muitos eventos ficam em voo ao mesmo
+ * tempo. O retorno completa pelo confirm do evento; mensagens sem fila de destino voltam do broker
+ * (mandatory) e completam com erro, assim como nacks e canais fechados com confirmações pendentes.
+ * 
+ * Lotes de tentativas (alunos.eventos.lote-tentativas.habilitado): em dia de prova TentativaRegistrada
+ * é a maior parte das mensagens. Com o modo habilitado, as tentativas de publicarTentativasRegistradas
+ * saem agrupadas em mensagens de até alunos.eventos.lote-tentativas.tamanho eventos e .bytes bytes,
+ * no formato de lote do Spring AMQP (SimpleBatchingStrategy): os containers dos consumidores desfazem
+ * o lote e cada listener recebe os eventos um a um, ou a lista inteira (listener de lote).
+ * Um confirm vale para a mensagem inteira.
+ * 
+ * Métricas (Micrometer):
+ * - alunos.eventos.confirmados: eventos confirmados pelo broker
+ * - alunos.eventos.nao-confirmados{motivo=nack|devolvido|erro}: eventos recusados, devolvidos ou com falha no envio
+ * - alunos.eventos.confirmacao (timer): tempo do envio até a confirmação
+ * - alunos.eventos.lote.tamanho (distribuição): eventos por mensagem de lote de tentativas
+ */
+@Component
+public class RabbitMQEventPublisherAssincrono implements EventPublisherAssincrono {
+    
+    private final RabbitTemplate rabbitTemplate;
+    private final MessageConverter messageConverter;
+    private final MeterRegistry meterRegistry;
+    private final Timer confirmacao;
+    private final DistributionSummary tamanhoLotes;
+    private final boolean loteHabilitado;
+    private final int tamanhoLote;
+    private final int bytesLote;
+    
+    public RabbitMQEventPublisherAssincrono(
+            RabbitTemplate rabbitTemplate,
+            MessageConverter messageConverter,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.eventos.lote-tentativas.habilitado:false}") boolean loteHabilitado,
+            @Value("${alunos.eventos.lote-tentativas.tamanho:100}") int tamanhoLote,
+            @Value("${alunos.eventos.lote-tentativas.bytes:65536}") int bytesLote) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.messageConverter = messageConverter;
+        this.meterRegistry = meterRegistry;
+        this.loteHabilitado = loteHabilitado;
+        this.tamanhoLote = tamanhoLote;
+        this.bytesLote = bytesLote;
+        this.confirmacao = Timer.builder("alunos.eventos.confirmacao")
+                .description("Tempo entre o envio de um evento e a confirmação do broker")
+                .register(meterRegistry);
+        this.tamanhoLotes = DistributionSummary.builder("alunos.eventos.lote.tamanho")
+                .description("Eventos TentativaRegistrada por mensagem de lote")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public CompletableFuture<Void> publicarAlunoCriado(AlunoCriadoEvent event) {
+        return publicar(RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO, event.getEventId(), event);
+    }
+    
+    @Override
+    public CompletableFuture<Void> publicarAlunoConcluido(AlunoConcluidoEvent event) {
+        return publicar(RabbitMQConfig.ROUTING_KEY_ALUNO_CONCLUIDO, event.getEventId(), event);
+    }
+    
+    @Override
+    public CompletableFuture<Void> publicarTentativaRegistrada(TentativaRegistradaEvent event) {
+        return publicar(RabbitMQConfig.ROUTING_KEY_TENTATIVA, event.getEventId(), event);
+    }
+    
+    @Override
+    public CompletableFuture<Void> publicarAlunoExcluido(AlunoExcluidoEvent event) {
+        return publicar(RabbitMQConfig.ROUTING_KEY_ALUNO_EXCLUIDO, event.getEventId(), event);
+    }
+    
+    @Override
+    public List<CompletableFuture<Void>> publicarTentativasRegistradas(List<TentativaRegistradaEvent> events) {
+        if (!loteHabilitado) {
+            return EventPublisherAssincrono.super.publicarTentativasRegistradas(events);
+        }
+        // Estratégia nova a cada chamada: ela guarda o lote em formação e não é thread-safe
+        SimpleBatchingStrategy lotes = new SimpleBatchingStrategy(tamanhoLote, bytesLote, Long.MAX_VALUE);
+        List<CompletableFuture<Void>> entregas = new ArrayList<>(events.size());
+        for (TentativaRegistradaEvent event : events) {
+            MessageBatch lote = lotes.addToBatch(RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.ROUTING_KEY_TENTATIVA,
+                    messageConverter.toMessage(event, new MessageProperties()));
+            if (lote != null) {
+                enviarLote(lote, events, entregas);
+            }
+        }
+        lotes.releaseBatches().forEach(lote -> enviarLote(lote, events, entregas));
+        return entregas;
+    }
+    
+    // O lote liberado pode não incluir o último evento adicionado (limite de bytes): a contagem vem do cabeçalho,
+    // ausente quando o lote tem um só evento (enviado como mensagem comum)
+    private void enviarLote(MessageBatch lote, List<TentativaRegistradaEvent> events, List<CompletableFuture<Void>> entregas) {
+        Integer eventosNoLote = lote.getMessage().getMessageProperties().getHeader(AmqpHeaders.BATCH_SIZE);
+        int tamanho = eventosNoLote != null ? eventosNoLote : 1;
+        String eventId = events.get(entregas.size()).getEventId();
+        CorrelationData correlacao = new CorrelationData(eventId);
+        CompletableFuture<Void> entrega = enviar(lote.getRoutingKey(), eventId, tamanho, correlacao, () ->
+                rabbitTemplate.send(lote.getExchange(), lote.getRoutingKey(), lote.getMessage(), correlacao));
+        tamanhoLotes.record(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            entregas.add(entrega);
+        }
+    }
+    
+    private CompletableFuture<Void> publicar(String routingKey, String eventId, Object event) {
+        CorrelationData correlacao = new CorrelationData(eventId);
+        return enviar(routingKey, eventId, 1, correlacao, () ->
+                rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, routingKey, event, correlacao));
+    }
+    
+    private CompletableFuture<Void> enviar(String routingKey, String eventId, int eventos,
+                                           CorrelationData correlacao, Runnable envio) {
+        CompletableFuture<Void> entrega = new CompletableFuture<>();
+        Timer.Sample inicio = Timer.start(meterRegistry);
+        try {
+            envio.run();
+        } catch (AmqpException e) {
+            naoConfirmado("erro", eventos);
+            entrega.completeExceptionally(e);
+            return entrega;
+        }
+        
+        // O broker devolve a mensagem (basic.return) antes do confirm: getReturned já está preenchido
+        correlacao.getFuture().whenComplete((confirm, erro) -> {
+            inicio.stop(confirmacao);
+            ReturnedMessage devolvida = correlacao.getReturned();
+            if (erro != null) {
+                naoConfirmado("erro", eventos);
+                entrega.completeExceptionally(erro);
+            } else if (!confirm.isAck()) {
+                naoConfirmado("nack", eventos);
+                entrega.completeExceptionally(new EntregaNaoConfirmadaException(
+                        "Evento " + eventId + " recusado pelo broker: " + confirm.getReason()));
+            } else if (devolvida != null) {
+                naoConfirmado("devolvido", eventos);
+                entrega.completeExceptionally(new EntregaNaoConfirmadaException(
+                        "Evento " + eventId + " devolvido pelo broker (" + routingKey + "): " + devolvida.getReplyText()));
+            } else {
+                meterRegistry.counter("alunos.eventos.confirmados").increment(eventos);
+                entrega.complete(null);
+            }
+        });
+        return entrega;
+    }
+    
+    private void naoConfirmado(String motivo, int eventos) {
+        meterRegistry.counter("alunos.eventos.nao-confirmados", "motivo", motivo).increment(eventos);
+    }
+}
@@ -1,13 +1,19 @@
 package com.devops.projeto_ac2.infrastructure.messaging.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Configuração do RabbitMQ seguindo arquitetura Event-Driven
  * 
@@ -20,6 +26,11 @@ import org.springframework.context.annotation.Configuration;
  * - aluno.criado -> eventos de criação de aluno
  * - aluno.concluido -> eventos de conclusão de curso
  * - aluno.tentativa -> eventos de tentativas de avaliação
+ * - aluno.excluido -> eventos de exclusão de aluno (só o modelo de leitura consome)
+ * - aluno.* -> todos os eventos, na ordem de publicação (modelo de leitura aluno_view)
+ * 
+ * Dead-letter: as filas dos consumidores em lote desviam as mensagens rejeitadas sem reenfileirar
+ * (envenenadas) para a exchange aluno.events.dlx, que as guarda em aluno.events.dlq com a routing key original
  */
 @Configuration
 public class RabbitMQConfig {
@@ -31,11 +42,18 @@ public class RabbitMQConfig {
     public static final String QUEUE_ALUNO_CRIADO = "aluno.criado.queue";
     public static final String QUEUE_ALUNO_CONCLUIDO = "aluno.concluido.queue";
     public static final String QUEUE_TENTATIVA_REGISTRADA = "aluno.tentativa.queue";
+    public static final String QUEUE_ALUNO_VIEW = "aluno.view.queue";
+    
+    // Dead-letter das filas dos consumidores em lote
+    public static final String DLX_NAME = "aluno.events.dlx";
+    public static final String QUEUE_DEAD_LETTER = "aluno.events.dlq";
     
     // Routing Keys
     public static final String ROUTING_KEY_ALUNO_CRIADO = "aluno.criado";
     public static final String ROUTING_KEY_ALUNO_CONCLUIDO = "aluno.concluido";
     public static final String ROUTING_KEY_TENTATIVA = "aluno.tentativa";
+    public static final String ROUTING_KEY_ALUNO_EXCLUIDO = "aluno.excluido";
+    public static final String ROUTING_KEY_TODOS_EVENTOS = "aluno.*";
     
     /**
      * Declara a Exchange do tipo Topic
@@ -46,13 +64,36 @@ public class RabbitMQConfig {
         return new TopicExchange(EXCHANGE_NAME);
     }
     
+    /**
+     * Exchange de dead-letter: Fanout, todas as mensagens rejeitadas vão para a mesma fila
+     */
+    @Bean
+    public FanoutExchange deadLetterExchange() {
+        return new FanoutExchange(DLX_NAME);
+    }
+    
+    /**
+     * Fila das mensagens rejeitadas pelos consumidores em lote, para inspeção e reenvio manual
+     */
+    @Bean
+    public Queue deadLetterQueue() {
+        return QueueBuilder.durable(QUEUE_DEAD_LETTER).build();
+    }
+    
+    @Bean
+    public Binding bindingDeadLetter(Queue deadLetterQueue, FanoutExchange deadLetterExchange) {
+        return BindingBuilder
+                .bind(deadLetterQueue)
+                .to(deadLetterExchange);
+    }
+    
     /**
      * Fila para eventos de aluno criado
      * Durable = true: fila persiste após restart do RabbitMQ
      */
     @Bean
     public Queue alunoCriadoQueue() {
-        return new Queue(QUEUE_ALUNO_CRIADO, true);
+        return QueueBuilder.durable(QUEUE_ALUNO_CRIADO).deadLetterExchange(DLX_NAME).build();
     }
     
     /**
@@ -60,7 +101,7 @@ public class RabbitMQConfig {
      */
     @Bean
     public Queue alunoConcluidoQueue() {
-        return new Queue(QUEUE_ALUNO_CONCLUIDO, true);
+        return QueueBuilder.durable(QUEUE_ALUNO_CONCLUIDO).deadLetterExchange(DLX_NAME).build();
     }
     
     /**
@@ -68,7 +109,16 @@ public class RabbitMQConfig {
      */
     @Bean
     public Queue tentativaRegistradaQueue() {
-        return new Queue(QUEUE_TENTATIVA_REGISTRADA, true);
+        return QueueBuilder.durable(QUEUE_TENTATIVA_REGISTRADA).deadLetterExchange(DLX_NAME).build();
+    }
+    
+    /**
+     * Fila do modelo de leitura: recebe todos os tipos de evento em uma única fila,
+     * preservando a ordem entre eventos do mesmo aluno (criado -> tentativas -> concluído -> excluído)
+     */
+    @Bean
+    public Queue alunoViewQueue() {
+        return new Queue(QUEUE_ALUNO_VIEW, true);
     }
     
     /**
@@ -104,6 +154,17 @@ public class RabbitMQConfig {
                 .with(ROUTING_KEY_TENTATIVA);
     }
     
+    /**
+     * Binding: conecta a fila do modelo de leitura a todos os eventos de aluno
+     */
+    @Bean
+    public Binding bindingAlunoView(Queue alunoViewQueue, TopicExchange alunoExchange) {
+        return BindingBuilder
+                .bind(alunoViewQueue)
+                .to(alunoExchange)
+                .with(ROUTING_KEY_TODOS_EVENTOS);
+    }
+    
     /**
      * Conversor de mensagens: converte objetos Java para JSON
      * Necessário para serializar/deserializar eventos
@@ -116,12 +177,47 @@ public class RabbitMQConfig {
     /**
      * Template para enviar mensagens para o RabbitMQ
      * RabbitTemplate é thread-safe e pode ser injetado em qualquer lugar
+     * 
+     * mandatory: mensagem sem fila de destino volta ao publisher (CorrelationData#getReturned)
+     * em vez de ser descartada em silêncio pelo broker
      */
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, 
                                           MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter);
+        template.setMandatory(true);
         return template;
     }
+    
+    /**
+     * Containers de listeners de lote: o container junta até tamanho mensagens da fila (esperando
+     * no máximo espera por cada próxima) e entrega todas ao listener numa lista; mensagens de lote
+     * do publisher (lotes de tentativas) são desfeitas em mensagens da mesma lista. A confirmação é
+     * manual: o ProcessadorLoteEventos confirma cada entrega e rejeita as envenenadas para a dead-letter,
+     * e decide sozinho a devolução à fila quando a escrita agregada falha (sem o retry do container,
+     * que repetiria o lote já confirmado em parte). O prefetch acompanha o tamanho, senão o broker
+     * nunca entrega um lote cheio. Demais configurações iguais às do container padrão (spring.rabbitmq.listener.simple)
+     * 
+     * - alunos.consumidores.lote.tamanho: máximo de mensagens por entrega ao listener
+     * - alunos.consumidores.lote.espera: espera por cada próxima mensagem antes de entregar um lote incompleto
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory loteListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            RabbitProperties rabbitProperties,
+            @Value("${alunos.consumidores.lote.tamanho:50}") int tamanho,
+            @Value("${alunos.consumidores.lote.espera:200ms}") Duration espera) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setAdviceChain();
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(tamanho);
+        factory.setReceiveTimeout(espera.toMillis());
+        Integer prefetch = rabbitProperties.getListener().getSimple().getPrefetch();
+        factory.setPrefetchCount(Math.max(tamanho, prefetch == null ? 0 : prefetch));
+        return factory;
+    }
 }
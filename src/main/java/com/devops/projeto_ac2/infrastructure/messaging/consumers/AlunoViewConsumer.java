@@ -0,0 +1,58 @@
+package com.devops.projeto_ac2.infrastructure.messaging.consumers;
+
+import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.devops.projeto_ac2.infrastructure.persistence.view.ProjetorAlunoView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumer (Listener) que mantém o modelo de leitura de alunos (aluno_view)
+ * 
+ * Lado de escrita do CQRS para as consultas: os eventos do aluno chegam por uma única fila
+ * com um único consumidor, então são aplicados na ordem em que foram publicados.
+ * Diferente dos demais consumers, falhas não são engolidas: a exceção devolve a mensagem
+ * para a política de retry do listener, para que o modelo de leitura não perca eventos
+ */
+@Component
+@RabbitListener(queues = RabbitMQConfig.QUEUE_ALUNO_VIEW, concurrency = "1")
+public class AlunoViewConsumer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AlunoViewConsumer.class);
+    
+    private final ProjetorAlunoView projetor;
+    
+    public AlunoViewConsumer(ProjetorAlunoView projetor) {
+        this.projetor = projetor;
+    }
+    
+    @RabbitHandler
+    public void processarAlunoCriado(AlunoCriadoEvent event) {
+        logger.debug("Modelo de leitura: AlunoCriado - EventID: {}", event.getEventId());
+        projetor.aplicar(event);
+    }
+    
+    @RabbitHandler
+    public void processarTentativaRegistrada(TentativaRegistradaEvent event) {
+        logger.debug("Modelo de leitura: TentativaRegistrada - EventID: {}", event.getEventId());
+        projetor.aplicar(event);
+    }
+    
+    @RabbitHandler
+    public void processarAlunoConcluido(AlunoConcluidoEvent event) {
+        logger.debug("Modelo de leitura: AlunoConcluido - EventID: {}", event.getEventId());
+        projetor.aplicar(event);
+    }
+    
+    @RabbitHandler
+    public void processarAlunoExcluido(AlunoExcluidoEvent event) {
+        logger.debug("Modelo de leitura: AlunoExcluido - EventID: {}", event.getEventId());
+        projetor.aplicar(event);
+    }
+}
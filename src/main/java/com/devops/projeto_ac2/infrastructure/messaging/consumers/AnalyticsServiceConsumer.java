@@ -2,43 +2,59 @@ package com.devops.projeto_ac2.infrastructure.messaging.consumers;
 
 import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
 import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.rabbitmq.client.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Consumer (Listener) de eventos TentativaRegistrada
  * Simula um MICROSERVIÇO de ANALYTICS que registra métricas e estatísticas
+ * 
+ * Listener de lote (loteListenerContainerFactory): várias mensagens da fila (e os eventos das
+ * mensagens de lote de tentativas do publisher) chegam numa lista; cada evento é processado
+ * (e falha) sozinho, e as métricas do lote vão ao data warehouse numa única carga
  */
 @Component
 public class AnalyticsServiceConsumer {
     
     private static final Logger logger = LoggerFactory.getLogger(AnalyticsServiceConsumer.class);
     
-    @RabbitListener(queues = RabbitMQConfig.QUEUE_TENTATIVA_REGISTRADA)
-    public void processarTentativaRegistrada(TentativaRegistradaEvent event) {
-        try {
-            logger.info("╔════════════════════════════════════════════════════════════╗");
-            logger.info("║  MICROSERVIÇO: Analytics Service                          ║");
-            logger.info("╠════════════════════════════════════════════════════════════╣");
-            logger.info("║  Evento recebido: TentativaRegistrada                     ║");
-            logger.info("║  EventID: {}", String.format("%-45s", event.getEventId()) + "║");
-            logger.info("║  AlunoID: {}", String.format("%-45s", event.getAlunoId()) + "║");
-            logger.info("║  RA: {}", String.format("%-50s", event.getRegistroAcademico()) + "║");
-            logger.info("║  Tentativa nº: {}", String.format("%-42s", event.getNumeroTentativa()) + "║");
-            logger.info("╠════════════════════════════════════════════════════════════╣");
-            logger.info("║  AÇÃO: Registrando métricas de analytics...                ║");
-            
-            registrarMetricas(event);
-            
-            logger.info("║  ✓ Métricas registradas com sucesso!                      ║");
-            logger.info("╚════════════════════════════════════════════════════════════╝");
-            
-        } catch (Exception e) {
-            logger.error("Erro ao processar evento TentativaRegistrada no AnalyticsService - EventID: {}", 
-                        event.getEventId(), e);
+    private final ProcessadorLoteEventos processadorLote;
+    
+    public AnalyticsServiceConsumer(ProcessadorLoteEventos processadorLote) {
+        this.processadorLote = processadorLote;
+    }
+    
+    @RabbitListener(queues = RabbitMQConfig.QUEUE_TENTATIVA_REGISTRADA, containerFactory = "loteListenerContainerFactory")
+    public void processarTentativasRegistradas(List<Message> mensagens, Channel canal) {
+        if (mensagens.size() > 1) {
+            logger.info("Analytics Service: lote de {} eventos TentativaRegistrada recebido", mensagens.size());
         }
+        processadorLote.processar("analytics", mensagens, canal, TentativaRegistradaEvent.class,
+                TentativaRegistradaEvent::getEventId, this::processarTentativaRegistrada, this::enviarParaDataWarehouse);
+    }
+    
+    private void processarTentativaRegistrada(TentativaRegistradaEvent event) {
+        logger.info("╔════════════════════════════════════════════════════════════╗");
+        logger.info("║  MICROSERVIÇO: Analytics Service                          ║");
+        logger.info("╠════════════════════════════════════════════════════════════╣");
+        logger.info("║  Evento recebido: TentativaRegistrada                     ║");
+        logger.info("║  EventID: {}", String.format("%-45s", event.getEventId()) + "║");
+        logger.info("║  AlunoID: {}", String.format("%-45s", event.getAlunoId()) + "║");
+        logger.info("║  RA: {}", String.format("%-50s", event.getRegistroAcademico()) + "║");
+        logger.info("║  Tentativa nº: {}", String.format("%-42s", event.getNumeroTentativa()) + "║");
+        logger.info("╠════════════════════════════════════════════════════════════╣");
+        logger.info("║  AÇÃO: Registrando métricas de analytics...                ║");
+        
+        registrarMetricas(event);
+        
+        logger.info("║  ✓ Métricas registradas com sucesso!                      ║");
+        logger.info("╚════════════════════════════════════════════════════════════╝");
     }
     
     private void registrarMetricas(TentativaRegistradaEvent event) {
@@ -59,7 +75,13 @@ public class AnalyticsServiceConsumer {
             logger.warn("   ⚠️ ALERTA: Aluno {} atingiu o limite de tentativas!", event.getAlunoId());
             // Poderia disparar alertas, emails, etc.
         }
-        
-        logger.info("   💾 Dados enviados para data warehouse");
+    }
+    
+    private void enviarParaDataWarehouse(List<TentativaRegistradaEvent> registrados) {
+        if (registrados.isEmpty()) {
+            return;
+        }
+        // Simula uma única carga (bulk insert) por lote no sistema de analytics
+        logger.info("   💾 {} registro(s) enviados para data warehouse em uma carga", registrados.size());
     }
 }
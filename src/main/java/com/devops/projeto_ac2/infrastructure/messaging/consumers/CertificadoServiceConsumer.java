@@ -2,54 +2,72 @@ package com.devops.projeto_ac2.infrastructure.messaging.consumers;
 
 import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
 import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.rabbitmq.client.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Consumer (Listener) de eventos AlunoConcluido
  * Simula um MICROSERVIÇO de CERTIFICADOS que gera certificados PDF
  * 
  * Demonstra como múltiplos microserviços podem consumir o mesmo tipo de evento
+ * 
+ * Listener de lote (loteListenerContainerFactory): cada evento gera o seu certificado e
+ * os arquivos do lote são gravados no storage numa única operação
  */
 @Component
 public class CertificadoServiceConsumer {
     
     private static final Logger logger = LoggerFactory.getLogger(CertificadoServiceConsumer.class);
     
-    @RabbitListener(queues = RabbitMQConfig.QUEUE_ALUNO_CONCLUIDO)
-    public void processarAlunoConcluido(AlunoConcluidoEvent event) {
-        try {
-            logger.info("╔════════════════════════════════════════════════════════════╗");
-            logger.info("║  MICROSERVIÇO: Certificado Service                        ║");
-            logger.info("╠════════════════════════════════════════════════════════════╣");
-            logger.info("║  Evento recebido: AlunoConcluido                          ║");
-            logger.info("║  EventID: {}", String.format("%-45s", event.getEventId()) + "║");
-            logger.info("║  AlunoID: {}", String.format("%-45s", event.getAlunoId()) + "║");
-            logger.info("║  Nome: {}", String.format("%-48s", event.getNome()) + "║");
-            logger.info("║  Média Final: {}", String.format("%-42s", event.getMediaFinal()) + "║");
-            logger.info("║  Aprovado: {}", String.format("%-45s", event.isAprovado() ? "SIM" : "NÃO") + "║");
-            logger.info("╠════════════════════════════════════════════════════════════╣");
-            
-            if (event.isAprovado()) {
-                logger.info("║  AÇÃO: Gerando certificado de conclusão...                ║");
-                gerarCertificado(event);
-                logger.info("║  ✓ Certificado gerado com sucesso!                        ║");
-                logger.info("║  📄 Arquivo: certificado_{}.pdf", String.format("%-30s", event.getAlunoId()) + "║");
-            } else {
-                logger.info("║  ⚠ Aluno reprovado - Certificado não será gerado         ║");
-            }
-            
-            logger.info("╚════════════════════════════════════════════════════════════╝");
-            
-        } catch (Exception e) {
-            logger.error("Erro ao processar evento AlunoConcluido no CertificadoService - EventID: {}", 
-                        event.getEventId(), e);
+    private final ProcessadorLoteEventos processadorLote;
+    
+    public CertificadoServiceConsumer(ProcessadorLoteEventos processadorLote) {
+        this.processadorLote = processadorLote;
+    }
+    
+    @RabbitListener(queues = RabbitMQConfig.QUEUE_ALUNO_CONCLUIDO, containerFactory = "loteListenerContainerFactory")
+    public void processarAlunosConcluidos(List<Message> mensagens, Channel canal) {
+        List<String> certificados = new ArrayList<>(mensagens.size());
+        processadorLote.processar("certificado", mensagens, canal, AlunoConcluidoEvent.class, AlunoConcluidoEvent::getEventId,
+                event -> processarAlunoConcluido(event).ifPresent(certificados::add),
+                processados -> salvarCertificados(certificados));
+    }
+    
+    private Optional<String> processarAlunoConcluido(AlunoConcluidoEvent event) {
+        logger.info("╔════════════════════════════════════════════════════════════╗");
+        logger.info("║  MICROSERVIÇO: Certificado Service                        ║");
+        logger.info("╠════════════════════════════════════════════════════════════╣");
+        logger.info("║  Evento recebido: AlunoConcluido                          ║");
+        logger.info("║  EventID: {}", String.format("%-45s", event.getEventId()) + "║");
+        logger.info("║  AlunoID: {}", String.format("%-45s", event.getAlunoId()) + "║");
+        logger.info("║  Nome: {}", String.format("%-48s", event.getNome()) + "║");
+        logger.info("║  Média Final: {}", String.format("%-42s", event.getMediaFinal()) + "║");
+        logger.info("║  Aprovado: {}", String.format("%-45s", event.isAprovado() ? "SIM" : "NÃO") + "║");
+        logger.info("╠════════════════════════════════════════════════════════════╣");
+        
+        Optional<String> certificado = Optional.empty();
+        if (event.isAprovado()) {
+            logger.info("║  AÇÃO: Gerando certificado de conclusão...                ║");
+            certificado = Optional.of(gerarCertificado(event));
+            logger.info("║  ✓ Certificado gerado com sucesso!                        ║");
+            logger.info("║  📄 Arquivo: certificado_{}.pdf", String.format("%-30s", event.getAlunoId()) + "║");
+        } else {
+            logger.info("║  ⚠ Aluno reprovado - Certificado não será gerado         ║");
         }
+        
+        logger.info("╚════════════════════════════════════════════════════════════╝");
+        return certificado;
     }
     
-    private void gerarCertificado(AlunoConcluidoEvent event) {
+    private String gerarCertificado(AlunoConcluidoEvent event) {
         // Simulação de geração de certificado
         // Em produção, integraria com:
         // - iText (geração de PDF)
@@ -62,8 +80,14 @@ public class CertificadoServiceConsumer {
         logger.info("   📋 Média Final: {}", event.getMediaFinal());
         logger.info("   📋 Data de conclusão: {}", event.getDataConclusao());
         
-        // Simula salvamento em storage
-        String caminhoArquivo = String.format("certificados/certificado_%s.pdf", event.getAlunoId());
-        logger.info("   💾 Salvando em: {}", caminhoArquivo);
+        return String.format("certificados/certificado_%s.pdf", event.getAlunoId());
+    }
+    
+    private void salvarCertificados(List<String> caminhosArquivo) {
+        if (caminhosArquivo.isEmpty()) {
+            return;
+        }
+        // Simula salvamento em storage: um upload em lote (ex.: um arquivo compactado) por lote
+        logger.info("   💾 Salvando {} certificado(s) em certificados/ em uma operação", caminhosArquivo.size());
     }
 }
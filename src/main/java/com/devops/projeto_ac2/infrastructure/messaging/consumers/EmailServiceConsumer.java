@@ -2,11 +2,16 @@ package com.devops.projeto_ac2.infrastructure.messaging.consumers;
 
 import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
 import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.rabbitmq.client.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Consumer (Listener) de eventos AlunoCriado
  * Simula um MICROSERVIÇO de EMAIL que envia emails de boas-vindas
@@ -22,45 +27,45 @@ public class EmailServiceConsumer {
     
     private static final Logger logger = LoggerFactory.getLogger(EmailServiceConsumer.class);
     
+    private final ProcessadorLoteEventos processadorLote;
+    
+    public EmailServiceConsumer(ProcessadorLoteEventos processadorLote) {
+        this.processadorLote = processadorLote;
+    }
+    
     /**
-     * Escuta eventos da fila de aluno criado
+     * Escuta eventos da fila de aluno criado, em lotes (loteListenerContainerFactory)
      * @RabbitListener: anotação que marca este método como consumer
+     * 
+     * Cada evento monta o seu email; o lote inteiro é enviado ao provedor numa única requisição
      */
-    @RabbitListener(queues = RabbitMQConfig.QUEUE_ALUNO_CRIADO)
-    public void processarAlunoCriado(AlunoCriadoEvent event) {
-        try {
-            logger.info("╔════════════════════════════════════════════════════════════╗");
-            logger.info("║  MICROSERVIÇO: Email Service                              ║");
-            logger.info("╠════════════════════════════════════════════════════════════╣");
-            logger.info("║  Evento recebido: AlunoCriado                             ║");
-            logger.info("║  EventID: {}", String.format("%-45s", event.getEventId()) + "║");
-            logger.info("║  AlunoID: {}", String.format("%-45s", event.getAlunoId()) + "║");
-            logger.info("║  Nome: {}", String.format("%-48s", event.getNome()) + "║");
-            logger.info("║  RA: {}", String.format("%-50s", event.getRegistroAcademico()) + "║");
-            logger.info("╠════════════════════════════════════════════════════════════╣");
-            logger.info("║  AÇÃO: Enviando email de boas-vindas...                   ║");
-            
-            // Simula envio de email (em produção, integraria com SendGrid, SES, etc.)
-            enviarEmailBoasVindas(event);
-            
-            logger.info("║  ✓ Email de boas-vindas enviado com sucesso!              ║");
-            logger.info("╚════════════════════════════════════════════════════════════╝");
-            
-        } catch (Exception e) {
-            logger.error("Erro ao processar evento AlunoCriado no EmailService - EventID: {}", 
-                        event.getEventId(), e);
-            // Em produção: enviar para Dead Letter Queue (DLQ)
-        }
+    @RabbitListener(queues = RabbitMQConfig.QUEUE_ALUNO_CRIADO, containerFactory = "loteListenerContainerFactory")
+    public void processarAlunosCriados(List<Message> mensagens, Channel canal) {
+        List<EmailBoasVindas> emails = new ArrayList<>(mensagens.size());
+        processadorLote.processar("email", mensagens, canal, AlunoCriadoEvent.class, AlunoCriadoEvent::getEventId,
+                event -> emails.add(processarAlunoCriado(event)), processados -> enviarEmails(emails));
     }
     
-    private void enviarEmailBoasVindas(AlunoCriadoEvent event) {
-        // Simulação de envio de email
-        // Em produção, integraria com:
-        // - AWS SES
-        // - SendGrid
-        // - Mailgun
-        // - SMTP
+    private EmailBoasVindas processarAlunoCriado(AlunoCriadoEvent event) {
+        logger.info("╔════════════════════════════════════════════════════════════╗");
+        logger.info("║  MICROSERVIÇO: Email Service                              ║");
+        logger.info("╠════════════════════════════════════════════════════════════╣");
+        logger.info("║  Evento recebido: AlunoCriado                             ║");
+        logger.info("║  EventID: {}", String.format("%-45s", event.getEventId()) + "║");
+        logger.info("║  AlunoID: {}", String.format("%-45s", event.getAlunoId()) + "║");
+        logger.info("║  Nome: {}", String.format("%-48s", event.getNome()) + "║");
+        logger.info("║  RA: {}", String.format("%-50s", event.getRegistroAcademico()) + "║");
+        logger.info("╠════════════════════════════════════════════════════════════╣");
+        logger.info("║  AÇÃO: Preparando email de boas-vindas...                 ║");
+        
+        EmailBoasVindas email = montarEmailBoasVindas(event);
         
+        logger.info("║  ✓ Email de boas-vindas na fila de envio do lote!         ║");
+        logger.info("╚════════════════════════════════════════════════════════════╝");
+        return email;
+    }
+    
+    private EmailBoasVindas montarEmailBoasVindas(AlunoCriadoEvent event) {
         String destinatario = event.getRegistroAcademico() + "@faculdade.edu.br";
         String assunto = "Bem-vindo(a) à Plataforma!";
         String corpo = String.format("""
@@ -78,5 +83,23 @@ public class EmailServiceConsumer {
         logger.info("   📧 Para: {}", destinatario);
         logger.info("   📧 Assunto: {}", assunto);
         logger.info("   📧 Corpo: {} caracteres", corpo.length());
+        return new EmailBoasVindas(destinatario, assunto, corpo);
+    }
+    
+    private void enviarEmails(List<EmailBoasVindas> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        // Simulação de envio de email
+        // Em produção, uma chamada de envio em lote (uma requisição por lote, não por email):
+        // - AWS SES (SendBulkEmail)
+        // - SendGrid (personalizations)
+        // - Mailgun (batch sending)
+        // - SMTP (uma conexão para o lote)
+        
+        logger.info("   📧 {} email(s) de boas-vindas enviados em uma requisição", emails.size());
+    }
+    
+    private record EmailBoasVindas(String destinatario, String assunto, String corpo) {
     }
 }
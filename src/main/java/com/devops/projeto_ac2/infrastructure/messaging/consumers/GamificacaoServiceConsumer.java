@@ -1,85 +1,88 @@
 package com.devops.projeto_ac2.infrastructure.messaging.consumers;
 
 import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.gamificacao.RegrasGamificacao;
 import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.rabbitmq.client.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Consumer (Listener) de eventos AlunoConcluido
  * Simula um MICROSERVIÇO de GAMIFICAÇÃO que atribui pontos e badges
  * 
  * Este é outro exemplo de consumer do mesmo evento (AlunoConcluido)
  * Demonstra como um evento pode disparar múltiplas ações em sistemas diferentes
+ * 
+ * Listener de lote (loteListenerContainerFactory): as recompensas de cada evento são calculadas
+ * sozinhas e os perfis do lote são atualizados numa única escrita. A conclusão acontece uma única
+ * vez por aluno, então outro AlunoConcluido do mesmo aluno no lote é uma reentrega: só o primeiro
+ * conta, para os pontos não serem atribuídos duas vezes
  */
 @Component
 public class GamificacaoServiceConsumer {
     
     private static final Logger logger = LoggerFactory.getLogger(GamificacaoServiceConsumer.class);
     
-    @RabbitListener(queues = RabbitMQConfig.QUEUE_ALUNO_CONCLUIDO)
-    public void processarAlunoConcluido(AlunoConcluidoEvent event) {
-        try {
-            logger.info("╔════════════════════════════════════════════════════════════╗");
-            logger.info("║  MICROSERVIÇO: Gamificação Service                        ║");
-            logger.info("╠════════════════════════════════════════════════════════════╣");
-            logger.info("║  Evento recebido: AlunoConcluido                          ║");
-            logger.info("║  EventID: {}", String.format("%-45s", event.getEventId()) + "║");
-            logger.info("║  AlunoID: {}", String.format("%-45s", event.getAlunoId()) + "║");
-            logger.info("║  Nome: {}", String.format("%-48s", event.getNome()) + "║");
-            logger.info("║  Média Final: {}", String.format("%-42s", event.getMediaFinal()) + "║");
-            logger.info("╠════════════════════════════════════════════════════════════╣");
-            logger.info("║  AÇÃO: Calculando recompensas de gamificação...            ║");
-            
-            calcularRecompensas(event);
-            
-            logger.info("║  ✓ Recompensas atribuídas com sucesso!                    ║");
-            logger.info("╚════════════════════════════════════════════════════════════╝");
-            
-        } catch (Exception e) {
-            logger.error("Erro ao processar evento AlunoConcluido no GamificacaoService - EventID: {}", 
-                        event.getEventId(), e);
-        }
+    private final ProcessadorLoteEventos processadorLote;
+    
+    public GamificacaoServiceConsumer(ProcessadorLoteEventos processadorLote) {
+        this.processadorLote = processadorLote;
+    }
+    
+    @RabbitListener(queues = RabbitMQConfig.QUEUE_ALUNO_CONCLUIDO, containerFactory = "loteListenerContainerFactory")
+    public void processarAlunosConcluidos(List<Message> mensagens, Channel canal) {
+        Map<Long, Integer> pontosPorAluno = new LinkedHashMap<>();
+        processadorLote.processar("gamificacao", mensagens, canal, AlunoConcluidoEvent.class, AlunoConcluidoEvent::getEventId,
+                event -> pontosPorAluno.computeIfAbsent(event.getAlunoId(), alunoId -> processarAlunoConcluido(event)),
+                processados -> atualizarPerfis(pontosPorAluno));
+    }
+    
+    private int processarAlunoConcluido(AlunoConcluidoEvent event) {
+        logger.info("╔════════════════════════════════════════════════════════════╗");
+        logger.info("║  MICROSERVIÇO: Gamificação Service                        ║");
+        logger.info("╠════════════════════════════════════════════════════════════╣");
+        logger.info("║  Evento recebido: AlunoConcluido                          ║");
+        logger.info("║  EventID: {}", String.format("%-45s", event.getEventId()) + "║");
+        logger.info("║  AlunoID: {}", String.format("%-45s", event.getAlunoId()) + "║");
+        logger.info("║  Nome: {}", String.format("%-48s", event.getNome()) + "║");
+        logger.info("║  Média Final: {}", String.format("%-42s", event.getMediaFinal()) + "║");
+        logger.info("╠════════════════════════════════════════════════════════════╣");
+        logger.info("║  AÇÃO: Calculando recompensas de gamificação...            ║");
+        
+        int pontos = calcularRecompensas(event);
+        
+        logger.info("║  ✓ Recompensas calculadas com sucesso!                    ║");
+        logger.info("╚════════════════════════════════════════════════════════════╝");
+        return pontos;
     }
     
-    private void calcularRecompensas(AlunoConcluidoEvent event) {
+    private int calcularRecompensas(AlunoConcluidoEvent event) {
         // Simulação de sistema de gamificação
-        // Em produção, integraria com banco de dados de pontos/badges
         
-        int pontos = calcularPontos(event.getMediaFinal());
-        String badge = determinarBadge(event.getMediaFinal());
+        int pontos = RegrasGamificacao.calcularPontos(event.getMediaFinal());
+        String badge = RegrasGamificacao.determinarBadge(event.getMediaFinal());
         
         logger.info("   🎮 Pontos ganhos: {}", pontos);
         logger.info("   🏆 Badge conquistado: {}", badge);
-        logger.info("   ⭐ Novo nível: {}", determinarNivel(pontos));
-        
-        // Simula salvamento no banco de gamificação
-        logger.info("   💾 Atualizando perfil de gamificação do aluno {}", event.getAlunoId());
-    }
-    
-    private int calcularPontos(double media) {
-        // Lógica de pontuação baseada na média
-        if (media >= 9.0) return 1000;
-        if (media >= 8.0) return 800;
-        if (media >= 7.0) return 600;
-        if (media >= 6.0) return 400;
-        return 200;
+        logger.info("   ⭐ Novo nível: {}", RegrasGamificacao.determinarNivel(pontos));
+        return pontos;
     }
     
-    private String determinarBadge(double media) {
-        if (media >= 9.5) return "🥇 Excelência Máxima";
-        if (media >= 9.0) return "🥈 Desempenho Excepcional";
-        if (media >= 8.0) return "🥉 Alto Desempenho";
-        if (media >= 7.0) return "⭐ Bom Desempenho";
-        return "✓ Concluído";
-    }
-    
-    private String determinarNivel(int pontos) {
-        if (pontos >= 1000) return "Mestre";
-        if (pontos >= 800) return "Avançado";
-        if (pontos >= 600) return "Intermediário";
-        return "Iniciante";
+    private void atualizarPerfis(Map<Long, Integer> pontosPorAluno) {
+        if (pontosPorAluno.isEmpty()) {
+            return;
+        }
+        // Simula salvamento no banco de gamificação
+        // Em produção, um único UPDATE em lote (JDBC batch) com os pontos de cada aluno
+        logger.info("   💾 Atualizando perfis de gamificação de {} aluno(s) em uma escrita: {}",
+                pontosPorAluno.size(), pontosPorAluno.keySet());
     }
 }
@@ -0,0 +1,195 @@
+package com.devops.projeto_ac2.infrastructure.messaging.consumers;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Processamento das mensagens de um listener de lote (loteListenerContainerFactory)
+ * 
+ * O container entrega várias mensagens da fila de uma vez, com confirmação manual: é o processador que
+ * confirma ou rejeita cada entrega pelo canal do listener. Uma mensagem envenenada (JSON inválido, tipo
+ * inesperado ou falha no processamento) não pode derrubar o lote: cada mensagem é convertida e processada
+ * sozinha, e só as processadas seguem para a escrita agregada. As envenenadas são rejeitadas sem
+ * reenfileirar e o broker as desvia para a dead-letter exchange (RabbitMQConfig.DLX_NAME), onde ficam
+ * para inspeção em vez de sumirem. A conversão é feita aqui, e não pelo adapter do listener, porque lá
+ * uma falha rejeitaria o lote inteiro
+ * 
+ * Confirmação por entrega (delivery tag): as mensagens de um lote do publisher chegam desfeitas em
+ * várias mensagens com a mesma entrega, que é confirmada uma vez só; se uma delas for envenenada, a
+ * entrega inteira vai para a dead-letter. Se a escrita agregada falhar, as entregas voltam para a fila
+ * uma vez e, falhando de novo na reentrega, seguem também para a dead-letter
+ * 
+ * Repetidos: o relay do outbox entrega "pelo menos uma vez" e reenvia eventos após uma confirmação
+ * perdida ou uma queda. Cada consumidor guarda os eventId dos últimos eventos já escritos e ignora
+ * os repetidos (inclusive dentro do mesmo lote); um eventId só entra no registro depois que a escrita
+ * agregada do seu lote termina, senão a reentrega de um lote que falhou seria descartada.
+ * O registro é em memória e limitado: repetidos após um restart, em outra instância ou mais antigos
+ * que os últimos alunos.consumidores.deduplicacao.capacidade eventos ainda são reprocessados
+ * 
+ * Métricas (tag consumidor):
+ * - alunos.consumidores.lote: tamanho dos lotes recebidos
+ * - alunos.consumidores.processadas: eventos que seguiram para a escrita agregada
+ * - alunos.consumidores.repetidas: eventos ignorados por eventId já processado
+ * - alunos.consumidores.descartadas{motivo=conversao|processamento}: mensagens envenenadas (dead-letter)
+ */
+@Component
+public class ProcessadorLoteEventos {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProcessadorLoteEventos.class);
+    
+    private final MessageConverter messageConverter;
+    private final MeterRegistry meterRegistry;
+    private final int capacidadeDeduplicacao;
+    private final Map<String, Set<String>> processadosPorConsumidor = new ConcurrentHashMap<>();
+    
+    public ProcessadorLoteEventos(MessageConverter messageConverter, MeterRegistry meterRegistry,
+                                  @Value("${alunos.consumidores.deduplicacao.capacidade:10000}") int capacidadeDeduplicacao) {
+        this.messageConverter = messageConverter;
+        this.meterRegistry = meterRegistry;
+        this.capacidadeDeduplicacao = capacidadeDeduplicacao;
+    }
+    
+    /**
+     * Converte e processa cada mensagem do lote, isolando as falhas por mensagem, e faz a escrita agregada
+     * 
+     * @param consumidor nome do consumidor (tag das métricas e logs)
+     * @param mensagens mensagens entregues pelo container, na ordem da fila
+     * @param canal canal do listener, para confirmar ou rejeitar as entregas
+     * @param tipo tipo do evento esperado na fila
+     * @param idEvento eventId do evento, para ignorar repetidos
+     * @param acao processamento de um evento; uma exceção manda só a sua entrega para a dead-letter
+     * @param escrita escrita agregada com os eventos processados, na ordem do lote; uma exceção
+     *                rejeita o lote inteiro (nenhum eventId do lote é registrado)
+     */
+    public <T> void processar(String consumidor, List<Message> mensagens, Channel canal, Class<T> tipo,
+                              Function<T, String> idEvento, Consumer<T> acao, Consumer<List<T>> escrita) {
+        meterRegistry.summary("alunos.consumidores.lote", "consumidor", consumidor).record(mensagens.size());
+        Set<String> processadosAntes = processadosPorConsumidor.computeIfAbsent(consumidor, nome -> registro());
+        Set<String> idsDoLote = new HashSet<>();
+        List<T> processados = new ArrayList<>(mensagens.size());
+        // Por entrega: true se alguma das suas mensagens for envenenada
+        Map<Long, Boolean> entregas = new LinkedHashMap<>();
+        for (Message mensagem : mensagens) {
+            long entrega = mensagem.getMessageProperties().getDeliveryTag();
+            entregas.putIfAbsent(entrega, false);
+            T evento = converter(consumidor, mensagem, tipo);
+            if (evento == null) {
+                entregas.put(entrega, true);
+                continue;
+            }
+            String id = idEvento.apply(evento);
+            if (id != null && (jaProcessado(processadosAntes, id) || !idsDoLote.add(id))) {
+                logger.info("{}: evento {} repetido - ignorado", consumidor, id);
+                meterRegistry.counter("alunos.consumidores.repetidas", "consumidor", consumidor).increment();
+                continue;
+            }
+            try {
+                acao.accept(evento);
+                processados.add(evento);
+            } catch (Exception e) {
+                logger.error("{}: falha ao processar evento {} - enviado para a dead-letter", consumidor, evento, e);
+                descartar(consumidor, "processamento");
+                entregas.put(entrega, true);
+            }
+        }
+        
+        try {
+            escrita.accept(processados);
+        } catch (RuntimeException e) {
+            boolean reentrega = mensagens.stream().anyMatch(mensagem -> Boolean.TRUE.equals(mensagem.getMessageProperties().isRedelivered()));
+            concluir(canal, entregas, !reentrega);
+            throw e;
+        }
+        concluir(canal, entregas, null);
+        synchronized (processadosAntes) {
+            processados.forEach(evento -> {
+                String id = idEvento.apply(evento);
+                if (id != null) {
+                    processadosAntes.add(id);
+                }
+            });
+        }
+        meterRegistry.counter("alunos.consumidores.processadas", "consumidor", consumidor).increment(processados.size());
+    }
+    
+    private <T> T converter(String consumidor, Message mensagem, Class<T> tipo) {
+        try {
+            // Tipo da fila, e não o cabeçalho __TypeId__, que um publisher externo pode não enviar
+            mensagem.getMessageProperties().setInferredArgumentType(tipo);
+            Object evento = messageConverter.fromMessage(mensagem);
+            if (tipo.isInstance(evento)) {
+                return tipo.cast(evento);
+            }
+            logger.error("{}: mensagem {} não é um {} - enviada para a dead-letter",
+                    consumidor, mensagem.getMessageProperties().getMessageId(), tipo.getSimpleName());
+        } catch (Exception e) {
+            logger.error("{}: mensagem {} ilegível - enviada para a dead-letter",
+                    consumidor, mensagem.getMessageProperties().getMessageId(), e);
+        }
+        descartar(consumidor, "conversao");
+        return null;
+    }
+    
+    /**
+     * Rejeita sem reenfileirar (dead-letter) as entregas envenenadas e confirma ou devolve as demais
+     * 
+     * @param reenfileirar null se a escrita agregada terminou (confirma); senão, se as entregas
+     *                     voltam para a fila (true) ou vão para a dead-letter (false)
+     */
+    private static void concluir(Channel canal, Map<Long, Boolean> entregas, Boolean reenfileirar) {
+        try {
+            for (Map.Entry<Long, Boolean> entrega : entregas.entrySet()) {
+                if (entrega.getValue()) {
+                    canal.basicReject(entrega.getKey(), false);
+                } else if (reenfileirar == null) {
+                    canal.basicAck(entrega.getKey(), false);
+                } else {
+                    canal.basicNack(entrega.getKey(), false, reenfileirar);
+                }
+            }
+        } catch (IOException e) {
+            throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+        }
+    }
+    
+    /**
+     * Registro dos últimos eventId escritos, em ordem de inserção (o mais antigo sai primeiro)
+     */
+    private Set<String> registro() {
+        return Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> maisAntigo) {
+                return size() > capacidadeDeduplicacao;
+            }
+        });
+    }
+    
+    private static boolean jaProcessado(Set<String> processadosAntes, String id) {
+        synchronized (processadosAntes) {
+            return processadosAntes.contains(id);
+        }
+    }
+    
+    private void descartar(String consumidor, String motivo) {
+        meterRegistry.counter("alunos.consumidores.descartadas", "consumidor", consumidor, "motivo", motivo).increment();
+    }
+}
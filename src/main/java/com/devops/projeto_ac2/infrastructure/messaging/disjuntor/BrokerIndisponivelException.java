@@ -0,0 +1,15 @@
+package com.devops.projeto_ac2.infrastructure.messaging.disjuntor;
+
+import org.springframework.amqp.AmqpException;
+
+import java.time.Duration;
+
+/**
+ * Chamada ao broker recusada sem tentativa: o {@link DisjuntorBroker} está aberto
+ */
+public class BrokerIndisponivelException extends AmqpException {
+    
+    public BrokerIndisponivelException(Duration restante) {
+        super("Disjuntor do broker aberto; próxima tentativa em " + restante.toMillis() + " ms");
+    }
+}
@@ -0,0 +1,120 @@
+package com.devops.projeto_ac2.infrastructure.messaging.disjuntor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Disjuntor (circuit breaker) das chamadas ao RabbitMQ
+ * 
+ * Fechado: as chamadas passam; alunos.broker.disjuntor.falhas-para-abrir falhas seguidas o abrem.
+ * Aberto: as chamadas falham na hora com {@link BrokerIndisponivelException}, sem esperar timeouts
+ * do broker, durante alunos.broker.disjuntor.espera-aberto. Depois disso uma única chamada de sonda
+ * passa (semiaberto): sucesso fecha o disjuntor, falha o abre por mais uma espera.
+ * 
+ * Métricas (Micrometer):
+ * - alunos.broker.disjuntor.estado (gauge): 0 fechado, 1 semiaberto, 2 aberto
+ * - alunos.broker.disjuntor.rejeitadas: chamadas recusadas com o disjuntor aberto
+ */
+@Component
+public class DisjuntorBroker {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DisjuntorBroker.class);
+    
+    public enum Estado { FECHADO, SEMIABERTO, ABERTO }
+    
+    private final int falhasParaAbrir;
+    private final long esperaAbertoNanos;
+    private final LongSupplier relogio;
+    private final Counter rejeitadas;
+    
+    // Acesso sob o monitor do disjuntor
+    private Estado estado = Estado.FECHADO;
+    private int falhasSeguidas;
+    private long abertoAte;
+    private boolean sondaEmAndamento;
+    
+    @Autowired
+    public DisjuntorBroker(
+            MeterRegistry meterRegistry,
+            @Value("${alunos.broker.disjuntor.falhas-para-abrir:3}") int falhasParaAbrir,
+            @Value("${alunos.broker.disjuntor.espera-aberto:10s}") Duration esperaAberto) {
+        this(meterRegistry, falhasParaAbrir, esperaAberto, System::nanoTime);
+    }
+    
+    DisjuntorBroker(MeterRegistry meterRegistry, int falhasParaAbrir, Duration esperaAberto, LongSupplier relogio) {
+        this.falhasParaAbrir = falhasParaAbrir;
+        this.esperaAbertoNanos = esperaAberto.toNanos();
+        this.relogio = relogio;
+        this.rejeitadas = Counter.builder("alunos.broker.disjuntor.rejeitadas")
+                .description("Chamadas ao broker recusadas com o disjuntor aberto")
+                .register(meterRegistry);
+        Gauge.builder("alunos.broker.disjuntor.estado", this, disjuntor -> disjuntor.getEstado().ordinal())
+                .description("Estado do disjuntor do broker (0 fechado, 1 semiaberto, 2 aberto)")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Executa a chamada ao broker se o disjuntor permitir, registrando o resultado
+     * 
+     * @throws BrokerIndisponivelException se o disjuntor estiver aberto (a chamada não é feita)
+     */
+    public void executar(Runnable chamada) {
+        permitir();
+        try {
+            chamada.run();
+        } catch (RuntimeException | Error e) {
+            registrarFalha(e);
+            throw e;
+        }
+        registrarSucesso();
+    }
+    
+    public synchronized Estado getEstado() {
+        return estado;
+    }
+    
+    private synchronized void permitir() {
+        if (estado == Estado.ABERTO && relogio.getAsLong() - abertoAte >= 0) {
+            estado = Estado.SEMIABERTO;
+        }
+        if (estado == Estado.FECHADO) {
+            return;
+        }
+        if (estado == Estado.SEMIABERTO && !sondaEmAndamento) {
+            sondaEmAndamento = true;
+            return;
+        }
+        rejeitadas.increment();
+        throw new BrokerIndisponivelException(Duration.ofNanos(Math.max(0, abertoAte - relogio.getAsLong())));
+    }
+    
+    private synchronized void registrarSucesso() {
+        if (estado != Estado.FECHADO) {
+            logger.info("Broker respondeu novamente; disjuntor fechado");
+        }
+        estado = Estado.FECHADO;
+        falhasSeguidas = 0;
+        sondaEmAndamento = false;
+    }
+    
+    private synchronized void registrarFalha(Throwable causa) {
+        falhasSeguidas++;
+        if (estado == Estado.SEMIABERTO || falhasSeguidas >= falhasParaAbrir) {
+            if (estado != Estado.ABERTO) {
+                logger.warn("Disjuntor do broker aberto após {} falhas seguidas: {}", falhasSeguidas, causa.getMessage());
+            }
+            estado = Estado.ABERTO;
+            abertoAte = relogio.getAsLong() + esperaAbertoNanos;
+            sondaEmAndamento = false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.devops.projeto_ac2.infrastructure.messaging.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de domínio aguardando envio ao broker (padrão Transactional Outbox)
+ * 
+ * Gravado pelo {@link OutboxEventPublisher} na transação que alterou o aluno: o evento existe
+ * se e somente se a mudança foi confirmada. O {@link RelayOutbox} reivindica os pendentes (reivindicadoPor/Ate),
+ * envia e preenche enviadoEm
+ */
+@Entity
+// Esquema e índices versionados em db/migration (Flyway)
+@Table(name = "outbox_eventos")
+@Getter
+@ToString(of = {"id", "routingKey", "eventId", "enviadoEm", "estacionadoEm"})
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // Para JPA
+public class EventoOutbox {
+    
+    // Sequence com blocos de 50: vários eventos por transação sem um round trip por ID
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_outbox_eventos")
+    @SequenceGenerator(name = "seq_outbox_eventos", sequenceName = "seq_outbox_eventos", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "routing_key", nullable = false, length = 50)
+    private String routingKey;
+    
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+    
+    // Evento serializado em JSON; o tipo é definido pela routing key
+    @Column(nullable = false, length = 4000)
+    private String payload;
+    
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+    
+    @Column(name = "enviado_em")
+    private LocalDateTime enviadoEm;
+    
+    // Relay que está enviando o evento e até quando a reivindicação vale
+    @Column(name = "reivindicado_por", length = 36)
+    private String reivindicadoPor;
+    
+    @Column(name = "reivindicado_ate")
+    private LocalDateTime reivindicadoAte;
+    
+    // Preenchido quando o relay não consegue ler o evento: ele sai da fila de envio e fica para inspeção
+    @Column(name = "estacionado_em")
+    private LocalDateTime estacionadoEm;
+    
+    EventoOutbox(String routingKey, String eventId, String payload) {
+        this.routingKey = routingKey;
+        this.eventId = eventId;
+        this.payload = payload;
+        this.criadoEm = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,64 @@
+package com.devops.projeto_ac2.infrastructure.messaging.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Repository do outbox de eventos
+ */
+@Repository
+public interface EventoOutboxJpaRepository extends JpaRepository<EventoOutbox, Long> {
+    
+    // Próximo lote a enviar, na ordem em que os eventos foram gravados
+    @Query("SELECT e FROM EventoOutbox e WHERE e.enviadoEm IS NULL AND e.estacionadoEm IS NULL ORDER BY e.id")
+    List<EventoOutbox> findPendentes(Limit limite);
+    
+    // IDs do próximo lote a reivindicar, na mesma ordem
+    @Query("SELECT e.id FROM EventoOutbox e WHERE e.enviadoEm IS NULL AND e.estacionadoEm IS NULL ORDER BY e.id")
+    List<Long> findIdsPendentes(Limit limite);
+    
+    // Pendentes com reivindicação em vigor de outra instância (ela está enviando o início da fila)
+    @Query("SELECT COUNT(e) FROM EventoOutbox e WHERE e.enviadoEm IS NULL AND e.estacionadoEm IS NULL "
+            + "AND e.reivindicadoPor <> :instancia AND e.reivindicadoAte > :agora")
+    long countReivindicadosPorOutra(@Param("instancia") String instancia, @Param("agora") LocalDateTime agora);
+    
+    // Só reivindica pendentes livres, com reivindicação vencida ou já desta instância
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.reivindicadoPor = :instancia, e.reivindicadoAte = :ate "
+            + "WHERE e.id IN :ids AND e.enviadoEm IS NULL "
+            + "AND (e.reivindicadoAte IS NULL OR e.reivindicadoAte < :agora OR e.reivindicadoPor = :instancia)")
+    int reivindicar(@Param("ids") Collection<Long> ids, @Param("instancia") String instancia,
+                    @Param("agora") LocalDateTime agora, @Param("ate") LocalDateTime ate);
+    
+    @Query("SELECT e FROM EventoOutbox e WHERE e.id IN :ids AND e.reivindicadoPor = :instancia ORDER BY e.id")
+    List<EventoOutbox> findReivindicados(@Param("ids") Collection<Long> ids, @Param("instancia") String instancia);
+    
+    // Devolve à fila os eventos reivindicados que não foram enviados
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.reivindicadoPor = NULL, e.reivindicadoAte = NULL "
+            + "WHERE e.id IN :ids AND e.reivindicadoPor = :instancia AND e.enviadoEm IS NULL")
+    int liberar(@Param("ids") Collection<Long> ids, @Param("instancia") String instancia);
+    
+    long countByEnviadoEmIsNullAndEstacionadoEmIsNull();
+    
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.estacionadoEm = :estacionadoEm, e.reivindicadoPor = NULL, "
+            + "e.reivindicadoAte = NULL WHERE e.id IN :ids")
+    int estacionar(@Param("ids") Collection<Long> ids, @Param("estacionadoEm") LocalDateTime estacionadoEm);
+    
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.enviadoEm = :enviadoEm WHERE e.id IN :ids")
+    int marcarEnviados(@Param("ids") Collection<Long> ids, @Param("enviadoEm") LocalDateTime enviadoEm);
+    
+    @Modifying
+    @Query("DELETE FROM EventoOutbox e WHERE e.enviadoEm < :limite")
+    int excluirEnviadosAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,107 @@
+package com.devops.projeto_ac2.infrastructure.messaging.outbox;
+
+import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Adapter do EventPublisher com Transactional Outbox (padrão da aplicação)
+ * 
+ * Em vez de enviar ao RabbitMQ dentro da transação do caso de uso, grava o evento na tabela
+ * outbox_eventos na mesma transação: a escrita não espera o broker e um rollback descarta
+ * também os eventos. Depois do commit o {@link RelayOutbox} é acordado e envia os pendentes.
+ * 
+ * Exige uma transação ativa (os casos de uso e a escrita adiada publicam dentro da sua).
+ * Com alunos.outbox.habilitado=false volta o envio direto pelo RabbitMQEventPublisher
+ */
+@Component
+@ConditionalOnProperty(name = "alunos.outbox.habilitado", havingValue = "true", matchIfMissing = true)
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxEventPublisher implements EventPublisher {
+    
+    private final EventoOutboxJpaRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<RelayOutbox> relay;
+    
+    public OutboxEventPublisher(EventoOutboxJpaRepository outboxRepository,
+                                ObjectMapper objectMapper,
+                                ObjectProvider<RelayOutbox> relay) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+    
+    @Override
+    public void publicarAlunoCriado(AlunoCriadoEvent event) {
+        outboxRepository.save(evento(RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO, event.getEventId(), event));
+        acordarRelayAposCommit();
+    }
+    
+    /**
+     * Grava o lote inteiro de uma vez (INSERTs em lote JDBC, IDs da sequence em blocos)
+     */
+    @Override
+    public void publicarAlunosCriados(List<AlunoCriadoEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        outboxRepository.saveAll(events.stream()
+                .map(event -> evento(RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO, event.getEventId(), event))
+                .toList());
+        acordarRelayAposCommit();
+    }
+    
+    @Override
+    public void publicarAlunoConcluido(AlunoConcluidoEvent event) {
+        outboxRepository.save(evento(RabbitMQConfig.ROUTING_KEY_ALUNO_CONCLUIDO, event.getEventId(), event));
+        acordarRelayAposCommit();
+    }
+    
+    @Override
+    public void publicarTentativaRegistrada(TentativaRegistradaEvent event) {
+        outboxRepository.save(evento(RabbitMQConfig.ROUTING_KEY_TENTATIVA, event.getEventId(), event));
+        acordarRelayAposCommit();
+    }
+    
+    @Override
+    public void publicarAlunoExcluido(AlunoExcluidoEvent event) {
+        outboxRepository.save(evento(RabbitMQConfig.ROUTING_KEY_ALUNO_EXCLUIDO, event.getEventId(), event));
+        acordarRelayAposCommit();
+    }
+    
+    private EventoOutbox evento(String routingKey, String eventId, Object event) {
+        try {
+            return new EventoOutbox(routingKey, eventId, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento " + eventId + " para o outbox", e);
+        }
+    }
+    
+    // Sem relay nesta instância os eventos ficam para o relay de outra (ou para a próxima drenagem periódica)
+    private void acordarRelayAposCommit() {
+        RelayOutbox relayOutbox = relay.getIfAvailable();
+        if (relayOutbox == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relayOutbox.acordar();
+            }
+        });
+    }
+}
@@ -0,0 +1,402 @@
+package com.devops.projeto_ac2.infrastructure.messaging.outbox;
+
+import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.ports.EventPublisherAssincrono;
+import com.devops.projeto_ac2.infrastructure.messaging.adapters.EntregaNaoConfirmadaException;
+import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.devops.projeto_ac2.infrastructure.messaging.disjuntor.BrokerIndisponivelException;
+import com.devops.projeto_ac2.infrastructure.messaging.disjuntor.DisjuntorBroker;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay do outbox: envia ao RabbitMQ os eventos gravados pelo {@link OutboxEventPublisher}
+ * 
+ * Acordado após cada commit com eventos e, de qualquer forma, a cada alunos.outbox.relay.intervalo
+ * (eventos de um commit cujo aviso se perdeu, ou gravados por outra instância). Cada lote de até
+ * alunos.outbox.relay.lote eventos é enviado pelo {@link EventPublisherAssincrono} sem esperar um
+ * evento para enviar o próximo, e o relay aguarda as confirmações do lote (timeout-confirmacao).
+ * São marcados como enviados os eventos confirmados até o primeiro não confirmado (nack, devolvido
+ * ou sem confirmação a tempo); ele e os seguintes voltam na próxima drenagem, mantendo a ordem.
+ * 
+ * Várias instâncias: antes de enviar, o relay reivindica o lote no banco (reivindicado_por/ate, válida por
+ * alunos.outbox.relay.reivindicacao). Enquanto uma instância tiver uma reivindicação em vigor sobre pendentes,
+ * as outras não reivindicam nada, então só um relay envia por vez e a ordem de gravação é mantida; se duas
+ * disputarem o mesmo lote, o UPDATE condicional deixa o lote com uma só e a outra desfaz a sua reivindicação.
+ * Eventos não confirmados são liberados ao fim da drenagem; os de uma instância que caiu voltam quando
+ * a reivindicação vence. O prazo usa o relógio de cada instância e deve ser bem maior que timeout-confirmacao.
+ * 
+ * Entrega "pelo menos uma vez": uma queda entre a confirmação e a marcação, ou a repetição dos
+ * seguintes a um evento não confirmado, reenvia eventos. Os consumidores de lote ignoram os repetidos
+ * pelo eventId (ProcessadorLoteEventos, registro em memória e limitado) e o modelo de leitura
+ * (AlunoViewConsumer) é idempotente pelo estado da linha. A ordem de envio é a ordem de gravação (id).
+ * Eventos enviados há mais de alunos.outbox.relay.retencao são apagados.
+ * 
+ * Com lotes de tentativas (alunos.eventos.lote-tentativas.habilitado), tentativas consecutivas do lote
+ * lido saem juntas pelo publisher, que as agrupa em poucas mensagens, e o aviso de commit espera
+ * alunos.eventos.lote-tentativas.espera antes de drenar, para juntar as tentativas de vários commits.
+ * 
+ * Broker fora ou lento: os envios passam pelo {@link DisjuntorBroker}. Com ele aberto o relay não
+ * chama o broker e os eventos se acumulam no outbox, que é o spool durável; a escrita dos alunos
+ * não é afetada. Quando a sonda do disjuntor passa, o acumulado é enviado na ordem de gravação.
+ * 
+ * Evento ilegível (routing key desconhecida ou payload que não desserializa): não há como enviá-lo, e mantê-lo
+ * pendente bloquearia para sempre os eventos seguintes. Ele é estacionado (estacionado_em), sai da fila de envio
+ * e fica no outbox para inspeção, e o restante do lote segue.
+ * 
+ * Métricas (Micrometer):
+ * - alunos.outbox.enviados: eventos confirmados pelo broker
+ * - alunos.outbox.falhas: lotes não confirmados (os eventos continuam pendentes)
+ * - alunos.outbox.estacionados: eventos ilegíveis retirados da fila de envio
+ * - alunos.outbox.pendentes (gauge): eventos aguardando envio, atualizado a cada drenagem
+ */
+@Component
+@ConditionalOnProperty(name = {"alunos.outbox.habilitado", "alunos.outbox.relay.habilitado"},
+        havingValue = "true", matchIfMissing = true)
+public class RelayOutbox {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RelayOutbox.class);
+    
+    // Tipo do evento de cada routing key gravada pelo OutboxEventPublisher
+    private static final Map<String, Class<?>> TIPOS = Map.of(
+            RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO, AlunoCriadoEvent.class,
+            RabbitMQConfig.ROUTING_KEY_ALUNO_CONCLUIDO, AlunoConcluidoEvent.class,
+            RabbitMQConfig.ROUTING_KEY_TENTATIVA, TentativaRegistradaEvent.class,
+            RabbitMQConfig.ROUTING_KEY_ALUNO_EXCLUIDO, AlunoExcluidoEvent.class);
+    
+    private final EventoOutboxJpaRepository outboxRepository;
+    private final EventPublisherAssincrono eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final DisjuntorBroker disjuntor;
+    private final int lote;
+    private final Duration intervalo;
+    private final Duration timeoutConfirmacao;
+    private final Duration retencao;
+    private final Duration esperaLote;
+    private final Duration reivindicacao;
+    private final String instancia = UUID.randomUUID().toString();
+    private final Counter enviados;
+    private final Counter falhas;
+    private final Counter estacionados;
+    private final ScheduledExecutorService agendador;
+    
+    private final AtomicBoolean drenagemAgendada = new AtomicBoolean();
+    private final AtomicLong pendentes = new AtomicLong();
+    
+    public RelayOutbox(
+            EventoOutboxJpaRepository outboxRepository,
+            EventPublisherAssincrono eventPublisher,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            DisjuntorBroker disjuntor,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.outbox.relay.intervalo:1s}") Duration intervalo,
+            @Value("${alunos.outbox.relay.lote:500}") int lote,
+            @Value("${alunos.outbox.relay.timeout-confirmacao:5s}") Duration timeoutConfirmacao,
+            @Value("${alunos.outbox.relay.retencao:1h}") Duration retencao,
+            @Value("${alunos.outbox.relay.reivindicacao:30s}") Duration reivindicacao,
+            @Value("${alunos.eventos.lote-tentativas.habilitado:false}") boolean loteTentativas,
+            @Value("${alunos.eventos.lote-tentativas.espera:20ms}") Duration esperaLote) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.disjuntor = disjuntor;
+        this.lote = lote;
+        this.intervalo = intervalo;
+        this.timeoutConfirmacao = timeoutConfirmacao;
+        this.retencao = retencao;
+        this.esperaLote = loteTentativas ? esperaLote : Duration.ZERO;
+        this.reivindicacao = reivindicacao;
+        this.enviados = Counter.builder("alunos.outbox.enviados")
+                .description("Eventos do outbox confirmados pelo broker")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("alunos.outbox.falhas")
+                .description("Lotes do outbox não confirmados pelo broker")
+                .register(meterRegistry);
+        this.estacionados = Counter.builder("alunos.outbox.estacionados")
+                .description("Eventos do outbox ilegíveis, retirados da fila de envio")
+                .register(meterRegistry);
+        Gauge.builder("alunos.outbox.pendentes", pendentes, AtomicLong::get)
+                .description("Eventos do outbox aguardando envio ao broker")
+                .register(meterRegistry);
+        this.agendador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("outbox-relay").daemon().factory());
+        
+        agendador.scheduleWithFixedDelay(this::drenarComLog,
+                intervalo.toNanos(), intervalo.toNanos(), TimeUnit.NANOSECONDS);
+        agendador.scheduleWithFixedDelay(this::limparComLog,
+                retencao.toNanos(), retencao.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Aviso de commit com eventos novos: agenda uma drenagem, sem acumular avisos repetidos
+     * (com lotes de tentativas, depois da espera do lote)
+     */
+    public void acordar() {
+        if (disjuntor.getEstado() == DisjuntorBroker.Estado.ABERTO) {
+            return; // broker fora: a drenagem periódica faz a sonda quando a espera do disjuntor acabar
+        }
+        if (drenagemAgendada.compareAndSet(false, true)) {
+            agendador.schedule(() -> {
+                drenagemAgendada.set(false);
+                drenarComLog();
+            }, esperaLote.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    /**
+     * Envia os eventos pendentes, lote a lote, até o outbox esvaziar
+     * (ou até encontrar o início da fila reivindicado por outra instância)
+     * 
+     * @return quantidade de eventos enviados
+     * @throws org.springframework.amqp.AmqpException se o broker não confirmar um evento (ele e os seguintes
+     * continuam pendentes) ou se o disjuntor estiver aberto ({@link BrokerIndisponivelException})
+     */
+    public synchronized int drenar() {
+        int total = 0;
+        while (true) {
+            List<EventoOutbox> reivindicados = reivindicarLote();
+            if (reivindicados.isEmpty()) {
+                return total;
+            }
+            
+            List<EventoOutbox> pendentes = new ArrayList<>(reivindicados.size());
+            List<Object> eventos = new ArrayList<>(reivindicados.size());
+            List<EventoOutbox> ilegiveis = new ArrayList<>();
+            for (EventoOutbox evento : reivindicados) {
+                Object lido = desserializar(evento);
+                if (lido == null) {
+                    ilegiveis.add(evento);
+                } else {
+                    pendentes.add(evento);
+                    eventos.add(lido);
+                }
+            }
+            estacionar(ilegiveis);
+            if (pendentes.isEmpty()) {
+                continue;
+            }
+            
+            List<CompletableFuture<Void>> entregas = new ArrayList<>(eventos.size());
+            try {
+                disjuntor.executar(() -> {
+                    publicar(eventos, entregas);
+                    aguardar(entregas);
+                });
+            } finally {
+                // Também em falha: os confirmados antes do primeiro não confirmado não são reenviados
+                int confirmados = confirmadosEmOrdem(entregas);
+                total += marcarEnviados(pendentes, confirmados);
+                if (confirmados < pendentes.size()) {
+                    liberar(pendentes.subList(confirmados, pendentes.size()));
+                }
+            }
+            
+            if (reivindicados.size() < lote) {
+                return total;
+            }
+        }
+    }
+    
+    /**
+     * Reivindica os próximos pendentes para esta instância
+     * 
+     * @return o lote reivindicado, em ordem de gravação; vazio se não houver pendentes
+     *         ou se outra instância estiver enviando
+     */
+    private List<EventoOutbox> reivindicarLote() {
+        List<EventoOutbox> reivindicados = transactionTemplate.execute(status -> {
+            LocalDateTime agora = LocalDateTime.now();
+            if (outboxRepository.countReivindicadosPorOutra(instancia, agora) > 0) {
+                logger.debug("Início do outbox reivindicado por outra instância");
+                return List.of();
+            }
+            List<Long> ids = outboxRepository.findIdsPendentes(Limit.of(lote));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            if (outboxRepository.reivindicar(ids, instancia, agora, agora.plus(reivindicacao)) < ids.size()) {
+                // Outra instância reivindicou parte do lote ao mesmo tempo: fica com ela
+                status.setRollbackOnly();
+                logger.debug("Lote do outbox reivindicado por outra instância");
+                return List.of();
+            }
+            return outboxRepository.findReivindicados(ids, instancia);
+        });
+        return reivindicados != null ? reivindicados : List.of();
+    }
+    
+    private void liberar(List<EventoOutbox> reivindicados) {
+        List<Long> ids = reivindicados.stream().map(EventoOutbox::getId).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.liberar(ids, instancia));
+        } catch (RuntimeException e) {
+            // Sem a liberação, os eventos voltam quando a reivindicação vencer
+            logger.warn("Falha ao liberar eventos reivindicados do outbox: {}", e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void encerrar() {
+        agendador.shutdownNow();
+    }
+    
+    // Tentativas consecutivas vão juntas ao publisher (que pode agrupá-las), sem mudar a ordem dos eventos
+    private void publicar(List<Object> eventos, List<CompletableFuture<Void>> entregas) {
+        List<TentativaRegistradaEvent> tentativas = new ArrayList<>();
+        for (Object evento : eventos) {
+            if (evento instanceof TentativaRegistradaEvent tentativa) {
+                tentativas.add(tentativa);
+                continue;
+            }
+            publicarTentativas(tentativas, entregas);
+            entregas.add(publicar(evento));
+        }
+        publicarTentativas(tentativas, entregas);
+    }
+    
+    private void publicarTentativas(List<TentativaRegistradaEvent> tentativas, List<CompletableFuture<Void>> entregas) {
+        if (!tentativas.isEmpty()) {
+            entregas.addAll(eventPublisher.publicarTentativasRegistradas(tentativas));
+            tentativas.clear();
+        }
+    }
+    
+    private CompletableFuture<Void> publicar(Object evento) {
+        return switch (evento) {
+            case AlunoCriadoEvent criado -> eventPublisher.publicarAlunoCriado(criado);
+            case AlunoConcluidoEvent concluido -> eventPublisher.publicarAlunoConcluido(concluido);
+            case TentativaRegistradaEvent tentativa -> eventPublisher.publicarTentativaRegistrada(tentativa);
+            case AlunoExcluidoEvent excluido -> eventPublisher.publicarAlunoExcluido(excluido);
+            default -> throw new IllegalStateException("Tipo de evento desconhecido no outbox: " + evento.getClass());
+        };
+    }
+    
+    // Espera todas as confirmações do lote (ou o prazo) e lança a primeira falha
+    private void aguardar(List<CompletableFuture<Void>> entregas) {
+        try {
+            CompletableFuture.allOf(entregas.toArray(CompletableFuture[]::new))
+                    .get(timeoutConfirmacao.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException causa
+                    ? causa
+                    : new EntregaNaoConfirmadaException("Falha na confirmação do outbox: " + e.getCause());
+        } catch (TimeoutException e) {
+            throw new EntregaNaoConfirmadaException("Eventos do outbox sem confirmação do broker em " + timeoutConfirmacao);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EntregaNaoConfirmadaException("Relay do outbox interrompido aguardando confirmações");
+        }
+    }
+    
+    private static int confirmadosEmOrdem(List<CompletableFuture<Void>> entregas) {
+        int confirmados = 0;
+        while (confirmados < entregas.size()
+                && entregas.get(confirmados).isDone()
+                && !entregas.get(confirmados).isCompletedExceptionally()) {
+            confirmados++;
+        }
+        return confirmados;
+    }
+    
+    private int marcarEnviados(List<EventoOutbox> pendentes, int confirmados) {
+        if (confirmados == 0) {
+            return 0;
+        }
+        List<Long> ids = pendentes.subList(0, confirmados).stream().map(EventoOutbox::getId).toList();
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.marcarEnviados(ids, LocalDateTime.now()));
+        enviados.increment(confirmados);
+        return confirmados;
+    }
+    
+    /**
+     * @return o evento, ou null se ele não puder ser lido
+     */
+    private Object desserializar(EventoOutbox evento) {
+        Class<?> tipo = TIPOS.get(evento.getRoutingKey());
+        if (tipo == null) {
+            logger.error("Routing key desconhecida no outbox - evento {} estacionado", evento);
+            return null;
+        }
+        try {
+            return objectMapper.readValue(evento.getPayload(), tipo);
+        } catch (JsonProcessingException e) {
+            logger.error("Falha ao ler o evento {} do outbox - estacionado", evento, e);
+            return null;
+        }
+    }
+    
+    private void estacionar(List<EventoOutbox> ilegiveis) {
+        if (ilegiveis.isEmpty()) {
+            return;
+        }
+        List<Long> ids = ilegiveis.stream().map(EventoOutbox::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.estacionar(ids, LocalDateTime.now()));
+        estacionados.increment(ids.size());
+    }
+    
+    private void drenarComLog() {
+        try {
+            int total = drenar();
+            if (total > 0) {
+                logger.debug("Relay do outbox enviou {} eventos", total);
+            }
+        } catch (BrokerIndisponivelException e) {
+            logger.debug("Relay do outbox aguardando o broker: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.warn("Falha ao enviar eventos do outbox; nova tentativa em {}: {}", intervalo, e.getMessage());
+        }
+        atualizarPendentes();
+    }
+    
+    private void atualizarPendentes() {
+        try {
+            pendentes.set(outboxRepository.countByEnviadoEmIsNullAndEstacionadoEmIsNull());
+        } catch (RuntimeException e) {
+            logger.debug("Falha ao contar eventos pendentes do outbox", e);
+        }
+    }
+    
+    private void limparComLog() {
+        try {
+            Integer removidos = transactionTemplate.execute(status ->
+                    outboxRepository.excluirEnviadosAntesDe(LocalDateTime.now().minus(retencao)));
+            logger.debug("Relay do outbox removeu {} eventos já enviados", removidos);
+        } catch (RuntimeException e) {
+            logger.error("Falha ao remover eventos já enviados do outbox", e);
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.devops.projeto_ac2.infrastructure.persistence;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * JPA Repository para Aluno
@@ -16,15 +26,89 @@ import java.util.Optional;
 @Repository
 public interface AlunoJpaRepository extends JpaRepository<Aluno, Long> {
     
+    // Constructor expressions das projeções somente leitura (apenas as colunas de cada resposta)
+    String PROJECAO_ALUNO = "SELECT new com.devops.projeto_ac2.domain.projections.AlunoProjecao("
+            + "a.id, a.nome, a.registroAcademico.valor, a.mediaFinal, a.concluiu, a.cursosAdicionais, "
+            + "a.tentativasAvaliacao, a.dataCriacao, a.dataAtualizacao, a.dataConclusao, a.versao) FROM Aluno a ";
+    
+    String PROJECAO_RANKING = "SELECT new com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao("
+            + "a.id, a.nome, a.registroAcademico.valor, a.mediaFinal, a.cursosAdicionais, a.concluiu) FROM Aluno a ";
+    
+    String ORDEM_RANKING = " ORDER BY a.mediaFinal DESC, a.cursosAdicionais DESC, a.id";
+    
+    // Mesma regra de Aluno#aprovado(), com o limite da constante do domínio
+    String APROVADOS = " WHERE a.concluiu = true AND a.mediaFinal >= " + Aluno.MEDIA_APROVACAO;
+    
     @Query("SELECT a FROM Aluno a WHERE a.registroAcademico.valor = :ra")
     Optional<Aluno> findByRA(@Param("ra") String ra);
     
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Aluno a WHERE a.registroAcademico.valor = :ra")
     boolean existsByRA(@Param("ra") String ra);
     
+    @Query("SELECT a.registroAcademico.valor FROM Aluno a WHERE a.registroAcademico.valor IN :ras")
+    List<String> findRAsExistentes(@Param("ras") Collection<String> ras);
+    
     @Query("SELECT a FROM Aluno a WHERE a.concluiu = true")
     List<Aluno> findConcluidos();
     
     @Query("SELECT a FROM Aluno a WHERE a.concluiu = false")
     List<Aluno> findNaoConcluidos();
+    
+    // Ranking resolvido no banco: a ordem casa com o índice idx_alunos_ranking,
+    // então um top N lê apenas N entradas do índice em vez da tabela inteira
+    @Query(PROJECAO_RANKING + ORDEM_RANKING)
+    List<RankingAlunoProjecao> findRanking(Limit limite);
+    
+    @Query(PROJECAO_RANKING + APROVADOS + ORDEM_RANKING)
+    List<RankingAlunoProjecao> findRankingAprovados();
+    
+    @Query(PROJECAO_RANKING + "WHERE a.id IN :ids")
+    List<RankingAlunoProjecao> findRankingPorIds(@Param("ids") List<Long> ids);
+    
+    // Apenas as colunas que compõem a chave de ranking (id, média, cursos adicionais)
+    @Query("SELECT a.id, a.mediaFinal, a.cursosAdicionais FROM Aluno a")
+    List<Object[]> findColunasRanking();
+    
+    // Cursor forward-only sobre as colunas de ranking dos aprovados: as linhas são lidas
+    // em lotes de fetch size, sem carregar entidades no contexto de persistência
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.id, a.mediaFinal, a.cursosAdicionais FROM Aluno a" + APROVADOS)
+    Stream<Object[]> streamColunasRankingAprovados();
+    
+    // Carga do filtro de RAs: só a coluna RA, lida com cursor
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.registroAcademico.valor FROM Aluno a")
+    Stream<String> streamRAs();
+    
+    // Exportação: cursor no servidor em ordem de ID, lido em lotes de fetch size;
+    // projeções não entram no contexto de persistência, então a memória não cresce com as linhas
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(PROJECAO_ALUNO + "ORDER BY a.id")
+    Stream<AlunoProjecao> streamTodos();
+    
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(PROJECAO_ALUNO + "WHERE a.concluiu = :concluiu ORDER BY a.id")
+    Stream<AlunoProjecao> streamPorConclusao(@Param("concluiu") boolean concluiu);
+    
+    // Paginação keyset: "id > :aposId" usa o índice da PK, então o custo
+    // não cresce com a profundidade da página (ao contrário de OFFSET)
+    @Query(PROJECAO_ALUNO + "WHERE a.id > :aposId ORDER BY a.id")
+    List<AlunoProjecao> findPaginaAposId(@Param("aposId") Long aposId, Limit limite);
+    
+    @Query(PROJECAO_ALUNO + "WHERE a.concluiu = :concluiu AND a.id > :aposId ORDER BY a.id")
+    List<AlunoProjecao> findPaginaPorConclusaoAposId(@Param("concluiu") boolean concluiu,
+                                                    @Param("aposId") Long aposId,
+                                                    Limit limite);
 }
@@ -1,11 +1,38 @@
 package com.devops.projeto_ac2.infrastructure.persistence;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.ports.CacheAluno;
+import com.devops.projeto_ac2.domain.ports.FiltroRegistroAcademico;
+import com.devops.projeto_ac2.domain.ports.IndiceRanking;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
+import com.devops.projeto_ac2.domain.ranking.ChaveRanking;
+import com.devops.projeto_ac2.domain.ranking.SelecaoTopK;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter do AlunoRepository (interface do domínio) para AlunoJpaRepository (Spring Data JPA)
@@ -14,15 +41,164 @@ import java.util.Optional;
 @Component
 public class AlunoRepositoryImpl implements AlunoRepository {
     
+    /**
+     * Quantidade de alunos mantida no contexto de persistência antes de flush/clear
+     * em gravações em lote (múltiplo de hibernate.jdbc.batch_size)
+     */
+    static final int ALUNOS_POR_FLUSH = 500;
+    
+    /**
+     * Quantidade máxima de parâmetros por cláusula IN
+     */
+    static final int RAS_POR_CONSULTA = 1000;
+    
+    // Transições de estado com concorrência otimista: só gravam se a versão lida ainda for a atual
+    static final String SQL_SALVAR_TENTATIVA = "UPDATE tb_alunos "
+            + "SET tentativas_avaliacao = ?, media_final = ?, data_atualizacao = ?, versao = versao + 1 "
+            + "WHERE id = ? AND versao = ?";
+    
+    static final String SQL_SALVAR_CONCLUSAO = "UPDATE tb_alunos "
+            + "SET concluiu = TRUE, media_final = ?, cursos_adicionais = ?, data_conclusao = ?, data_atualizacao = ?, "
+            + "versao = versao + 1 "
+            + "WHERE id = ? AND versao = ?";
+    
+    // Tentativas da escrita adiada: estado absoluto, aplicado só se ainda não estiver gravado (idempotente)
+    static final String SQL_APLICAR_TENTATIVA = "UPDATE tb_alunos "
+            + "SET tentativas_avaliacao = ?, media_final = ?, data_atualizacao = ?, versao = versao + 1 "
+            + "WHERE id = ? AND tentativas_avaliacao < ? AND concluiu = FALSE";
+    
     private final AlunoJpaRepository jpaRepository;
+    private final IndiceRanking indiceRanking;
+    private final EntityManager entityManager;
+    private final FiltroRegistroAcademico filtroRA;
+    private final List<CacheAluno> caches;
     
-    public AlunoRepositoryImpl(AlunoJpaRepository jpaRepository) {
+    public AlunoRepositoryImpl(AlunoJpaRepository jpaRepository, IndiceRanking indiceRanking,
+                               EntityManager entityManager, FiltroRegistroAcademico filtroRA,
+                               List<CacheAluno> caches) {
         this.jpaRepository = jpaRepository;
+        this.indiceRanking = indiceRanking;
+        this.entityManager = entityManager;
+        this.filtroRA = filtroRA;
+        this.caches = caches;
     }
     
+    /**
+     * O RA de um aluno novo entra no filtro antes do commit: se a transação sofrer rollback
+     * o filtro só ganha um falso positivo, mas nunca deixa de conhecer um RA gravado.
+     * Atualizações não mexem no filtro (o RA já está nele)
+     */
     @Override
     public Aluno salvar(Aluno aluno) {
-        return jpaRepository.save(aluno);
+        if (aluno.getId() == null) {
+            filtroRA.adicionar(aluno.getRegistroAcademico().getValor());
+        }
+        Aluno salvo = jpaRepository.save(aluno);
+        aposCommit(() -> {
+            indiceRanking.atualizar(salvo);
+            caches.forEach(cache -> cache.atualizar(salvo));
+        });
+        return salvo;
+    }
+    
+    /**
+     * Os IDs vêm de sequence (pooled), então os INSERTs ficam pendentes até o flush
+     * e o Hibernate os agrupa em lotes JDBC. O contexto é limpo a cada bloco
+     * para que lotes grandes não acumulem entidades gerenciadas
+     */
+    @Override
+    public List<Aluno> salvarTodos(List<Aluno> alunos) {
+        List<Aluno> salvos = new ArrayList<>(alunos.size());
+        for (int inicio = 0; inicio < alunos.size(); inicio += ALUNOS_POR_FLUSH) {
+            List<Aluno> bloco = alunos.subList(inicio, Math.min(inicio + ALUNOS_POR_FLUSH, alunos.size()));
+            bloco.forEach(aluno -> {
+                filtroRA.adicionar(aluno.getRegistroAcademico().getValor());
+                entityManager.persist(aluno);
+            });
+            entityManager.flush();
+            entityManager.clear();
+            salvos.addAll(bloco);
+        }
+        aposCommit(() -> {
+            salvos.forEach(indiceRanking::atualizar);
+            caches.forEach(cache -> cache.atualizarTodos(salvos));
+        });
+        return salvos;
+    }
+    
+    /**
+     * A tentativa já foi validada pela entidade; a gravação é um único UPDATE condicional
+     * (sem SELECT de verificação e sem o UPDATE de todas as colunas gerado pelo dirty checking)
+     */
+    @Override
+    public boolean salvarTentativa(Aluno aluno) {
+        return executarTransicao(aluno, SQL_SALVAR_TENTATIVA, comando -> {
+            comando.setInt(1, aluno.getTentativasAvaliacao());
+            comando.setDouble(2, aluno.getMediaFinal());
+            comando.setTimestamp(3, Timestamp.valueOf(aluno.getDataAtualizacao()));
+            comando.setLong(4, aluno.getId());
+            comando.setLong(5, aluno.getVersao());
+        });
+    }
+    
+    @Override
+    public boolean salvarConclusao(Aluno aluno) {
+        return executarTransicao(aluno, SQL_SALVAR_CONCLUSAO, comando -> {
+            comando.setDouble(1, aluno.getMediaFinal());
+            comando.setInt(2, aluno.getCursosAdicionais());
+            comando.setTimestamp(3, Timestamp.valueOf(aluno.getDataConclusao()));
+            comando.setTimestamp(4, Timestamp.valueOf(aluno.getDataAtualizacao()));
+            comando.setLong(5, aluno.getId());
+            comando.setLong(6, aluno.getVersao());
+        });
+    }
+    
+    /**
+     * Os UPDATEs vão em lotes JDBC; os alunos atualizados são relidos na mesma transação
+     * para que índice de ranking e caches recebam o estado gravado após o commit
+     */
+    @Override
+    public Set<Long> aplicarTentativas(Collection<TentativaRegistradaEvent> tentativas) {
+        List<TentativaRegistradaEvent> itens = List.copyOf(tentativas);
+        Set<Long> atualizados = new HashSet<>();
+        entityManager.unwrap(Session.class).doWork(conexao -> {
+            try (PreparedStatement comando = conexao.prepareStatement(SQL_APLICAR_TENTATIVA)) {
+                for (int inicio = 0; inicio < itens.size(); inicio += ALUNOS_POR_FLUSH) {
+                    List<TentativaRegistradaEvent> bloco = itens.subList(inicio, Math.min(inicio + ALUNOS_POR_FLUSH, itens.size()));
+                    for (TentativaRegistradaEvent tentativa : bloco) {
+                        comando.setInt(1, tentativa.getNumeroTentativa());
+                        comando.setDouble(2, tentativa.getMediaFinal());
+                        comando.setTimestamp(3, Timestamp.valueOf(tentativa.getDataRegistro()));
+                        comando.setLong(4, tentativa.getAlunoId());
+                        comando.setInt(5, tentativa.getNumeroTentativa());
+                        comando.addBatch();
+                    }
+                    int[] contagens = comando.executeBatch();
+                    for (int i = 0; i < contagens.length; i++) {
+                        if (contagens[i] > 0) {
+                            atualizados.add(bloco.get(i).getAlunoId());
+                        }
+                    }
+                }
+            }
+        });
+        
+        Cache cacheSegundoNivel = entityManager.getEntityManagerFactory().getCache();
+        itens.forEach(tentativa -> cacheSegundoNivel.evict(Aluno.class, tentativa.getAlunoId()));
+        if (atualizados.isEmpty()) {
+            return atualizados;
+        }
+        List<Aluno> alunos = new ArrayList<>(atualizados.size());
+        List<Long> ids = List.copyOf(atualizados);
+        for (int inicio = 0; inicio < ids.size(); inicio += RAS_POR_CONSULTA) {
+            alunos.addAll(jpaRepository.findAllById(ids.subList(inicio, Math.min(inicio + RAS_POR_CONSULTA, ids.size()))));
+        }
+        aposCommit(() -> {
+            ids.forEach(id -> cacheSegundoNivel.evict(Aluno.class, id));
+            alunos.forEach(indiceRanking::atualizar);
+            caches.forEach(cache -> cache.atualizarTodos(alunos));
+        });
+        return atualizados;
     }
     
     @Override
@@ -30,9 +206,36 @@ public class AlunoRepositoryImpl implements AlunoRepository {
         return jpaRepository.findById(id);
     }
     
+    /**
+     * Carrega pelo ID (servido pelo cache de segundo nível quando possível) e converte em projeção;
+     * nos casos de uso somente leitura a sessão é read-only, então não há snapshot de dirty checking
+     */
+    @Override
+    public Optional<AlunoProjecao> buscarProjecaoPorId(Long id) {
+        return jpaRepository.findById(id).map(AlunoProjecao::de);
+    }
+    
+    @Override
+    public List<RankingAlunoProjecao> buscarRankingPorIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, RankingAlunoProjecao> alunosPorId = jpaRepository.findRankingPorIds(ids).stream()
+                .collect(Collectors.toMap(RankingAlunoProjecao::getId, Function.identity()));
+        return ids.stream()
+                .map(alunosPorId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Busca pelo natural id (RA): a resolução RA -> ID e a entidade vêm do cache de segundo nível quando possível
+     */
     @Override
     public Optional<Aluno> buscarPorRA(String ra) {
-        return jpaRepository.findByRA(ra);
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Aluno.class)
+                .loadOptional(RegistroAcademico.criar(ra));
     }
     
     @Override
@@ -50,13 +253,143 @@ public class AlunoRepositoryImpl implements AlunoRepository {
         return jpaRepository.findNaoConcluidos();
     }
     
+    @Override
+    public List<RankingAlunoProjecao> buscarRanking(int limite) {
+        return jpaRepository.findRanking(limite > 0 ? Limit.of(limite) : Limit.unlimited());
+    }
+    
+    @Override
+    public List<RankingAlunoProjecao> buscarRankingAprovados() {
+        return jpaRepository.findRankingAprovados();
+    }
+    
+    /**
+     * Percorre o cursor das colunas de ranking dos aprovados mantendo só os N melhores
+     * em um heap limitado (memória O(N)) e depois carrega apenas essas N projeções
+     */
+    @Override
+    public List<RankingAlunoProjecao> buscarRankingAprovados(int limite) {
+        SelecaoTopK selecao = new SelecaoTopK(limite);
+        try (Stream<Object[]> linhas = jpaRepository.streamColunasRankingAprovados()) {
+            linhas.forEach(linha -> selecao.oferecer(
+                    ChaveRanking.empacotar((Long) linha[0], (Double) linha[1], (Integer) linha[2])));
+        }
+        
+        long[] chaves = selecao.emOrdem();
+        List<Long> ids = new ArrayList<>(chaves.length);
+        for (long chave : chaves) {
+            ids.add(ChaveRanking.id(chave));
+        }
+        return buscarRankingPorIds(ids);
+    }
+    
+    @Override
+    public List<AlunoProjecao> buscarPagina(Long aposId, int limite) {
+        return jpaRepository.findPaginaAposId(inicioDaPagina(aposId), Limit.of(limite));
+    }
+    
+    @Override
+    public List<AlunoProjecao> buscarPaginaPorConclusao(boolean concluiu, Long aposId, int limite) {
+        return jpaRepository.findPaginaPorConclusaoAposId(concluiu, inicioDaPagina(aposId), Limit.of(limite));
+    }
+    
+    @Override
+    public Stream<AlunoProjecao> percorrer(Boolean concluiu) {
+        return concluiu == null ? jpaRepository.streamTodos() : jpaRepository.streamPorConclusao(concluiu);
+    }
+    
+    /**
+     * RAs que o filtro garante serem novos dispensam a consulta ao banco;
+     * a constraint única da coluna continua protegendo contra corridas
+     */
     @Override
     public boolean existePorRA(String ra) {
-        return jpaRepository.existsByRA(ra);
+        if (!filtroRA.podeExistir(ra)) {
+            return false;
+        }
+        boolean existe = jpaRepository.existsByRA(ra);
+        if (!existe) {
+            filtroRA.registrarFalsoPositivo(ra);
+        }
+        return existe;
+    }
+    
+    /**
+     * Só consulta no banco os RAs que o filtro aponta como possíveis
+     */
+    @Override
+    public Set<String> buscarRAsExistentes(Collection<String> ras) {
+        List<String> pendentes = ras.stream().filter(filtroRA::podeExistir).collect(Collectors.toList());
+        Set<String> existentes = new HashSet<>();
+        for (int inicio = 0; inicio < pendentes.size(); inicio += RAS_POR_CONSULTA) {
+            existentes.addAll(jpaRepository.findRAsExistentes(
+                    pendentes.subList(inicio, Math.min(inicio + RAS_POR_CONSULTA, pendentes.size()))));
+        }
+        pendentes.stream().filter(ra -> !existentes.contains(ra)).forEach(filtroRA::registrarFalsoPositivo);
+        return existentes;
     }
     
     @Override
     public void deletar(Long id) {
         jpaRepository.deleteById(id);
+        aposCommit(() -> {
+            indiceRanking.remover(id);
+            caches.forEach(cache -> cache.remover(id));
+        });
+    }
+    
+    /**
+     * A entidade sai do contexto de persistência antes do UPDATE, para que o flush não grave a linha inteira de novo.
+     * O comando vai direto pelo JDBC: um UPDATE em massa via JPQL invalidaria a região inteira de alunos
+     * no cache de segundo nível, enquanto aqui só a entrada deste aluno é removida
+     */
+    private boolean executarTransicao(Aluno aluno, String sql, ParametrosComando parametros) {
+        entityManager.detach(aluno);
+        int atualizados = entityManager.unwrap(Session.class).doReturningWork(conexao -> {
+            try (PreparedStatement comando = conexao.prepareStatement(sql)) {
+                parametros.preencher(comando);
+                return comando.executeUpdate();
+            }
+        });
+        
+        Long id = aluno.getId();
+        entityManager.getEntityManagerFactory().getCache().evict(Aluno.class, id);
+        if (atualizados == 0) {
+            return false;
+        }
+        // Caches versionados (CacheJsonAluno) precisam da versão gravada, não da lida
+        aluno.avancarVersao();
+        aposCommit(() -> {
+            entityManager.getEntityManagerFactory().getCache().evict(Aluno.class, id);
+            indiceRanking.atualizar(aluno);
+            caches.forEach(cache -> cache.atualizar(aluno));
+        });
+        return true;
+    }
+    
+    @FunctionalInterface
+    private interface ParametrosComando {
+        void preencher(PreparedStatement comando) throws SQLException;
+    }
+    
+    /**
+     * Executa a ação após o commit da transação corrente (ou imediatamente, se não houver transação),
+     * para que estruturas em memória nunca reflitam escritas que sofreram rollback
+     */
+    private void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+    
+    private Long inicioDaPagina(Long aposId) {
+        return aposId != null ? aposId : 0L;
     }
 }
@@ -0,0 +1,31 @@
+package com.devops.projeto_ac2.infrastructure.persistence.roteamento;
+
+/**
+ * Origem da leitura na thread corrente, usada pelo roteamento entre primário e réplica
+ * 
+ * Definido por requisição HTTP (FiltroEscritaRecente). Sem contexto (tarefas agendadas, recargas
+ * dos caches em memória, consumidores de eventos) a leitura vai sempre ao primário: quem reconstrói
+ * estado a partir do banco não pode perder escritas já confirmadas
+ */
+public enum ContextoLeitura {
+    
+    /** Requisição de um cliente sem escrita recente: leituras podem ir à réplica */
+    CLIENTE,
+    
+    /** Cliente que escreveu dentro da janela configurada: lê do primário (lê a própria escrita) */
+    CLIENTE_COM_ESCRITA_RECENTE;
+    
+    private static final ThreadLocal<ContextoLeitura> ATUAL = new ThreadLocal<>();
+    
+    public static ContextoLeitura atual() {
+        return ATUAL.get();
+    }
+    
+    public static void definir(ContextoLeitura contexto) {
+        ATUAL.set(contexto);
+    }
+    
+    public static void limpar() {
+        ATUAL.remove();
+    }
+}
@@ -0,0 +1,16 @@
+package com.devops.projeto_ac2.infrastructure.persistence.roteamento;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Mede o atraso da réplica de leitura em relação ao primário
+ */
+@FunctionalInterface
+public interface DefasagemReplica {
+    
+    /**
+     * @return o atraso atual, ou vazio se desconhecido (réplica ainda não inicializada ou inacessível)
+     */
+    Optional<Duration> medir();
+}
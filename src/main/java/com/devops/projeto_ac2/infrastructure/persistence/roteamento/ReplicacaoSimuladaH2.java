@@ -0,0 +1,175 @@
+package com.devops.projeto_ac2.infrastructure.persistence.roteamento;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Substituto local da replicação do banco: copia o primário H2 para a réplica H2 a cada intervalo
+ * 
+ * Na primeira cópia recria o esquema da réplica a partir do primário (SCRIPT NODATA); em cada
+ * cópia, lê todas as tabelas numa única transação do primário e as regrava na réplica numa única
+ * transação, então a réplica sempre mostra um estado do primário, só que atrasado.
+ * A defasagem informada é o tempo desde o início da última cópia concluída (como um heartbeat
+ * replicado): cresce enquanto a replicação estiver parada ou falhando
+ * 
+ * Só para desenvolvimento e testes; com uma réplica real, a defasagem vem do próprio banco
+ */
+class ReplicacaoSimuladaH2 implements DefasagemReplica {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReplicacaoSimuladaH2.class);
+    
+    private static final int LINHAS_POR_LOTE = 500;
+    
+    private final DataSource primario;
+    private final DataSource replica;
+    private final Duration intervalo;
+    private final ScheduledExecutorService agendador;
+    
+    private boolean esquemaCopiado;
+    private volatile Long inicioUltimaCopia;
+    
+    ReplicacaoSimuladaH2(DataSource primario, DataSource replica, Duration intervalo) {
+        this.primario = primario;
+        this.replica = replica;
+        this.intervalo = intervalo;
+        this.agendador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replicacao-simulada").daemon().factory());
+    }
+    
+    /**
+     * Primeira cópia (o esquema do primário já existe) e agendamento das seguintes
+     */
+    @PostConstruct
+    void iniciar() {
+        sincronizar();
+        agendador.scheduleWithFixedDelay(this::sincronizarComLog,
+                intervalo.toNanos(), intervalo.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    
+    @Override
+    public Optional<Duration> medir() {
+        Long inicio = inicioUltimaCopia;
+        return inicio == null ? Optional.empty() : Optional.of(Duration.ofNanos(System.nanoTime() - inicio));
+    }
+    
+    /**
+     * Copia o estado atual do primário para a réplica
+     */
+    synchronized void sincronizar() {
+        long inicio = System.nanoTime();
+        long linhas = 0;
+        try (Connection origem = primario.getConnection(); Connection destino = replica.getConnection()) {
+            if (!esquemaCopiado) {
+                copiarEsquema(origem, destino);
+                esquemaCopiado = true;
+            }
+            
+            origem.setAutoCommit(false);
+            origem.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            destino.setAutoCommit(false);
+            try {
+                for (String tabela : tabelas(origem)) {
+                    linhas += copiarTabela(origem, destino, tabela);
+                }
+                destino.commit();
+            } catch (SQLException e) {
+                destino.rollback();
+                throw e;
+            } finally {
+                origem.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao copiar o primário para a réplica", e);
+        }
+        inicioUltimaCopia = inicio;
+        logger.debug("Réplica sincronizada - {} linhas em {} ms", linhas, (System.nanoTime() - inicio) / 1_000_000);
+    }
+    
+    @PreDestroy
+    void encerrar() {
+        agendador.shutdownNow();
+    }
+    
+    private static void copiarEsquema(Connection origem, Connection destino) throws SQLException {
+        List<String> comandos = new ArrayList<>();
+        try (Statement consulta = origem.createStatement();
+             ResultSet script = consulta.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (script.next()) {
+                String comando = script.getString(1);
+                if (!comando.startsWith("CREATE USER")) {
+                    comandos.add(comando);
+                }
+            }
+        }
+        try (Statement ddl = destino.createStatement()) {
+            ddl.execute("DROP ALL OBJECTS");
+            for (String comando : comandos) {
+                ddl.execute(comando);
+            }
+        }
+        logger.info("Esquema da réplica recriado a partir do primário - {} comandos", comandos.size());
+    }
+    
+    private static List<String> tabelas(Connection origem) throws SQLException {
+        List<String> tabelas = new ArrayList<>();
+        try (Statement consulta = origem.createStatement();
+             ResultSet resultado = consulta.executeQuery("SELECT TABLE_SCHEMA, TABLE_NAME FROM INFORMATION_SCHEMA.TABLES"
+                     + " WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (resultado.next()) {
+                tabelas.add('"' + resultado.getString(1) + "\".\"" + resultado.getString(2) + '"');
+            }
+        }
+        return tabelas;
+    }
+    
+    private static long copiarTabela(Connection origem, Connection destino, String tabela) throws SQLException {
+        try (Statement limpeza = destino.createStatement()) {
+            limpeza.executeUpdate("DELETE FROM " + tabela);
+        }
+        
+        long linhas = 0;
+        try (Statement consulta = origem.createStatement();
+             ResultSet resultado = consulta.executeQuery("SELECT * FROM " + tabela)) {
+            int colunas = resultado.getMetaData().getColumnCount();
+            String insert = "INSERT INTO " + tabela + " VALUES (" + "?, ".repeat(colunas - 1) + "?)";
+            try (PreparedStatement insercao = destino.prepareStatement(insert)) {
+                while (resultado.next()) {
+                    for (int coluna = 1; coluna <= colunas; coluna++) {
+                        insercao.setObject(coluna, resultado.getObject(coluna));
+                    }
+                    insercao.addBatch();
+                    if (++linhas % LINHAS_POR_LOTE == 0) {
+                        insercao.executeBatch();
+                    }
+                }
+                insercao.executeBatch();
+            }
+        }
+        return linhas;
+    }
+    
+    private void sincronizarComLog() {
+        try {
+            sincronizar();
+        } catch (RuntimeException e) {
+            // Uma exceção cancelaria as cópias seguintes; a defasagem cresce até a próxima cópia bem-sucedida
+            logger.error("Falha na replicação simulada", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.devops.projeto_ac2.infrastructure.persistence.roteamento;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuração do roteamento de leituras para a réplica (alunos.datasource.replica.habilitada=true)
+ * 
+ * - Primário: spring.datasource.* (o mesmo pool de sempre); recebe escritas e as migrações do esquema
+ * - Réplica: alunos.datasource.replica.*; recebe as transações readOnly dos clientes
+ * - alunos.datasource.replica.defasagem-maxima: acima disso a leitura volta ao primário
+ * - alunos.datasource.replica.replicacao-simulada.*: cópia periódica entre dois H2 para uso local
+ * 
+ * Desligado, o DataSource único do Spring Boot continua sendo usado
+ */
+@Configuration
+@ConditionalOnProperty(name = "alunos.datasource.replica.habilitada", havingValue = "true")
+public class RoteamentoDataSourceConfig {
+    
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties propriedades) {
+        HikariDataSource dataSource = propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("alunos-primario");
+        return dataSource;
+    }
+    
+    @Bean(defaultCandidate = false)
+    public HikariDataSource dataSourceReplica(
+            @Value("${alunos.datasource.replica.url}") String url,
+            @Value("${alunos.datasource.replica.username:sa}") String username,
+            @Value("${alunos.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("alunos-replica");
+        return dataSource;
+    }
+    
+    /**
+     * DataSource usado pelo JPA: a conexão é escolhida no primeiro comando de cada transação
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("dataSourcePrimario") DataSource primario,
+            @Qualifier("dataSourceReplica") DataSource replica,
+            ObjectProvider<DefasagemReplica> defasagemReplica,
+            ObjectProvider<EntityManagerFactory> entityManagerFactory,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.datasource.replica.defasagem-maxima:2s}") Duration defasagemMaxima) {
+        // Sem medidor de defasagem, a réplica é considerada em dia
+        DefasagemReplica defasagem = () -> defasagemReplica.getIfAvailable(() -> () -> Optional.of(Duration.ZERO)).medir();
+        
+        RoteamentoLeituraDataSource roteamento =
+                new RoteamentoLeituraDataSource(defasagem, defasagemMaxima, entityManagerFactory, meterRegistry);
+        roteamento.setTargetDataSources(Map.of(
+                RoteamentoLeituraDataSource.Destino.PRIMARIO, primario,
+                RoteamentoLeituraDataSource.Destino.REPLICA, replica));
+        roteamento.setDefaultTargetDataSource(primario);
+        roteamento.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+    
+    /**
+     * A réplica recebe o esquema na primeira cópia: só depois que as migrações criaram as tabelas no primário
+     */
+    @Bean
+    @DependsOn("entityManagerFactory")
+    @ConditionalOnProperty(name = "alunos.datasource.replica.replicacao-simulada.habilitada", havingValue = "true")
+    ReplicacaoSimuladaH2 replicacaoSimulada(
+            @Qualifier("dataSourcePrimario") DataSource primario,
+            @Qualifier("dataSourceReplica") DataSource replica,
+            @Value("${alunos.datasource.replica.replicacao-simulada.intervalo:500ms}") Duration intervalo) {
+        return new ReplicacaoSimuladaH2(primario, replica, intervalo);
+    }
+}
@@ -0,0 +1,99 @@
+package com.devops.projeto_ac2.infrastructure.persistence.roteamento;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * DataSource que envia transações somente leitura para a réplica e todo o resto para o primário
+ * 
+ * Vai à réplica apenas a transação readOnly de um cliente (ContextoLeitura.CLIENTE) quando a
+ * defasagem medida da réplica está dentro do limite; defasagem acima do limite ou desconhecida
+ * devolve a leitura ao primário. Fica atrás de um LazyConnectionDataSourceProxy, para que a
+ * conexão só seja escolhida no primeiro comando, quando a transação já está marcada como readOnly
+ * 
+ * Na réplica, a sessão não grava no cache de segundo nível: um aluno lido de uma réplica atrasada
+ * não pode substituir, no cache compartilhado, a versão já confirmada no primário
+ * 
+ * Métricas (Micrometer):
+ * - alunos.datasource.leituras{destino, motivo}: transações de leitura de clientes por destino
+ * - alunos.datasource.replica.defasagem: atraso atual da réplica em segundos (NaN se desconhecido)
+ */
+class RoteamentoLeituraDataSource extends AbstractRoutingDataSource {
+    
+    enum Destino { PRIMARIO, REPLICA }
+    
+    private final DefasagemReplica defasagemReplica;
+    private final Duration defasagemMaxima;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final Counter leiturasReplica;
+    private final Counter leiturasEscritaRecente;
+    private final Counter leiturasDefasagem;
+    
+    RoteamentoLeituraDataSource(
+            DefasagemReplica defasagemReplica,
+            Duration defasagemMaxima,
+            ObjectProvider<EntityManagerFactory> entityManagerFactory,
+            MeterRegistry meterRegistry) {
+        this.defasagemReplica = defasagemReplica;
+        this.defasagemMaxima = defasagemMaxima;
+        this.entityManagerFactory = entityManagerFactory;
+        this.leiturasReplica = contador(meterRegistry, "replica", "replica");
+        this.leiturasEscritaRecente = contador(meterRegistry, "primario", "escrita-recente");
+        this.leiturasDefasagem = contador(meterRegistry, "primario", "defasagem");
+        
+        Gauge.builder("alunos.datasource.replica.defasagem", defasagemReplica,
+                        replica -> replica.medir().map(defasagem -> defasagem.toNanos() / 1e9).orElse(Double.NaN))
+                .description("Atraso da réplica de leitura em relação ao primário")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ContextoLeitura contexto = ContextoLeitura.atual();
+        if (contexto == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Destino.PRIMARIO;
+        }
+        if (contexto == ContextoLeitura.CLIENTE_COM_ESCRITA_RECENTE) {
+            leiturasEscritaRecente.increment();
+            return Destino.PRIMARIO;
+        }
+        
+        Optional<Duration> defasagem = defasagemReplica.medir();
+        if (defasagem.isEmpty() || defasagem.get().compareTo(defasagemMaxima) > 0) {
+            leiturasDefasagem.increment();
+            return Destino.PRIMARIO;
+        }
+        
+        naoGravarNoCacheDeSegundoNivel();
+        leiturasReplica.increment();
+        return Destino.REPLICA;
+    }
+    
+    private void naoGravarNoCacheDeSegundoNivel() {
+        EntityManagerFactory fabrica = entityManagerFactory.getIfAvailable();
+        if (fabrica != null
+                && TransactionSynchronizationManager.getResource(fabrica) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        }
+    }
+    
+    private static Counter contador(MeterRegistry meterRegistry, String destino, String motivo) {
+        return Counter.builder("alunos.datasource.leituras")
+                .description("Transações de leitura de clientes por destino")
+                .tag("destino", destino)
+                .tag("motivo", motivo)
+                .register(meterRegistry);
+    }
+}
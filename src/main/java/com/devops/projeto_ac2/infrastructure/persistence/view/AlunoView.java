@@ -0,0 +1,116 @@
+package com.devops.projeto_ac2.infrastructure.persistence.view;
+
+import com.devops.projeto_ac2.domain.valueobjects.SituacaoAluno;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha do modelo de leitura de alunos (lado de consulta do CQRS)
+ * 
+ * Tabela desnormalizada, escrita apenas pelo {@link ProjetorAlunoView} a partir dos eventos do aluno.
+ * Guarda, além das colunas do aluno, os valores que as consultas antes recalculavam a cada requisição:
+ * situação e pontos de gamificação. A posição no ranking fica fora da tabela: gravada em cada linha,
+ * toda mudança de média reescreveria a posição de todos os alunos entre a chave antiga e a nova
+ */
+@Entity
+// Esquema e índices versionados em db/migration (Flyway)
+@Table(name = "aluno_view")
+@Getter
+@ToString(of = {"alunoId", "ra", "mediaFinal", "situacao"})
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // Para JPA
+public class AlunoView {
+    
+    @Id
+    @Column(name = "aluno_id")
+    private Long alunoId;
+    
+    @Column(nullable = false, length = 100)
+    private String nome;
+    
+    @Column(nullable = false, length = 20)
+    private String ra;
+    
+    @Column(name = "media_final", nullable = false)
+    private Double mediaFinal;
+    
+    @Column(name = "cursos_adicionais", nullable = false)
+    private Integer cursosAdicionais;
+    
+    @Column(name = "tentativas_avaliacao", nullable = false)
+    private Integer tentativasAvaliacao;
+    
+    @Column(nullable = false)
+    private Boolean concluiu;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SituacaoAluno situacao;
+    
+    @Column(name = "pontos_gamificacao", nullable = false)
+    private Integer pontosGamificacao;
+    
+    @Column(name = "data_criacao")
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+    
+    @Column(name = "data_conclusao")
+    private LocalDateTime dataConclusao;
+    
+    AlunoView(Long alunoId, String nome, String ra, LocalDateTime dataCriacao) {
+        this.alunoId = alunoId;
+        this.nome = nome;
+        this.ra = ra;
+        this.mediaFinal = 0.0;
+        this.cursosAdicionais = 0;
+        this.tentativasAvaliacao = 0;
+        this.concluiu = false;
+        this.pontosGamificacao = 0;
+        this.dataCriacao = dataCriacao;
+        this.dataAtualizacao = dataCriacao;
+        recalcular();
+    }
+    
+    void registrarTentativa(int numeroTentativa, Double mediaFinal, LocalDateTime data) {
+        this.tentativasAvaliacao = numeroTentativa;
+        if (mediaFinal != null) {
+            this.mediaFinal = mediaFinal;
+        }
+        this.dataAtualizacao = data;
+        recalcular();
+    }
+    
+    void concluir(double mediaFinal, Integer cursosAdicionais, int pontos, LocalDateTime data) {
+        this.concluiu = true;
+        this.mediaFinal = mediaFinal;
+        if (cursosAdicionais != null) {
+            this.cursosAdicionais = cursosAdicionais;
+        }
+        this.pontosGamificacao = pontos;
+        this.dataConclusao = data;
+        this.dataAtualizacao = data;
+        recalcular();
+    }
+    
+    void copiar(Integer tentativasAvaliacao, Double mediaFinal, Boolean concluiu, Integer cursosAdicionais,
+                int pontos, LocalDateTime dataAtualizacao, LocalDateTime dataConclusao) {
+        this.tentativasAvaliacao = tentativasAvaliacao;
+        this.mediaFinal = mediaFinal;
+        this.concluiu = concluiu;
+        this.cursosAdicionais = cursosAdicionais;
+        this.pontosGamificacao = pontos;
+        this.dataAtualizacao = dataAtualizacao;
+        this.dataConclusao = dataConclusao;
+        recalcular();
+    }
+    
+    private void recalcular() {
+        this.situacao = SituacaoAluno.de(concluiu, mediaFinal);
+    }
+}
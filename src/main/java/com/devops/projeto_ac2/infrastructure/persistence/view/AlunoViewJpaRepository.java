@@ -0,0 +1,34 @@
+package com.devops.projeto_ac2.infrastructure.persistence.view;
+
+import com.devops.projeto_ac2.domain.projections.AlunoViewProjecao;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA Repository para o modelo de leitura de alunos (aluno_view)
+ */
+@Repository
+public interface AlunoViewJpaRepository extends JpaRepository<AlunoView, Long> {
+    
+    String PROJECAO_VIEW = "SELECT new com.devops.projeto_ac2.domain.projections.AlunoViewProjecao("
+            + "v.alunoId, v.nome, v.ra, v.mediaFinal, v.concluiu, v.cursosAdicionais, v.tentativasAvaliacao, "
+            + "v.situacao, v.pontosGamificacao, v.dataCriacao, v.dataAtualizacao, v.dataConclusao) "
+            + "FROM AlunoView v ";
+    
+    @Query(PROJECAO_VIEW + "WHERE v.alunoId > :aposId ORDER BY v.alunoId")
+    List<AlunoViewProjecao> findPaginaAposId(@Param("aposId") Long aposId, Limit limite);
+    
+    @Query(PROJECAO_VIEW + "WHERE v.concluiu = :concluiu AND v.alunoId > :aposId ORDER BY v.alunoId")
+    List<AlunoViewProjecao> findPaginaPorConclusaoAposId(@Param("concluiu") boolean concluiu,
+                                                         @Param("aposId") Long aposId, Limit limite);
+    
+    @Modifying
+    @Query("DELETE FROM AlunoView v")
+    int excluirTodos();
+}
@@ -0,0 +1,41 @@
+package com.devops.projeto_ac2.infrastructure.persistence.view;
+
+import com.devops.projeto_ac2.domain.ports.IndiceRanking;
+import com.devops.projeto_ac2.domain.projections.AlunoViewProjecao;
+import com.devops.projeto_ac2.domain.ranking.PosicaoRanking;
+import com.devops.projeto_ac2.domain.repositories.AlunoViewRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adapter do AlunoViewRepository (interface do domínio) para AlunoViewJpaRepository
+ * 
+ * A posição no ranking de cada linha vem do {@link IndiceRanking} (O(log n) por aluno da página),
+ * a mesma fonte de GET /api/alunos/{id}/posicao
+ */
+@Component
+public class AlunoViewRepositoryImpl implements AlunoViewRepository {
+    
+    private final AlunoViewJpaRepository jpaRepository;
+    private final IndiceRanking indiceRanking;
+    
+    public AlunoViewRepositoryImpl(AlunoViewJpaRepository jpaRepository, IndiceRanking indiceRanking) {
+        this.jpaRepository = jpaRepository;
+        this.indiceRanking = indiceRanking;
+    }
+    
+    @Override
+    public List<AlunoViewProjecao> buscarPagina(Boolean concluiu, Long aposId, int limite) {
+        Long inicio = aposId != null ? aposId : 0L;
+        List<AlunoViewProjecao> linhas = concluiu == null
+                ? jpaRepository.findPaginaAposId(inicio, Limit.of(limite))
+                : jpaRepository.findPaginaPorConclusaoAposId(concluiu, inicio, Limit.of(limite));
+        return linhas.stream()
+                .map(linha -> linha.withPosicaoRanking(indiceRanking.buscarPosicao(linha.getId())
+                        .map(PosicaoRanking::getPosicao)
+                        .orElse(null)))
+                .toList();
+    }
+}
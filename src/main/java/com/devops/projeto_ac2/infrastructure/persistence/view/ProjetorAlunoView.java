@@ -0,0 +1,144 @@
+package com.devops.projeto_ac2.infrastructure.persistence.view;
+
+import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.gamificacao.RegrasGamificacao;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Projeta os eventos do aluno no modelo de leitura (aluno_view)
+ * 
+ * Cada evento altera apenas a linha do aluno; a posição no ranking não é gravada
+ * (ver {@link AlunoView}), então nenhum evento reescreve as linhas dos outros alunos.
+ * 
+ * Os eventos são idempotentes: reentregas e eventos já refletidos na linha são ignorados.
+ * As atualizações assumem um único aplicador por vez (ver AlunoViewConsumer)
+ */
+@Component
+public class ProjetorAlunoView {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProjetorAlunoView.class);
+    
+    /**
+     * Quantidade de linhas mantida no contexto de persistência antes de flush/clear na reconstrução
+     */
+    static final int LINHAS_POR_FLUSH = 500;
+    
+    private final AlunoViewJpaRepository viewRepository;
+    private final AlunoJpaRepository alunoJpaRepository;
+    private final EntityManager entityManager;
+    
+    public ProjetorAlunoView(AlunoViewJpaRepository viewRepository, AlunoJpaRepository alunoJpaRepository,
+                             EntityManager entityManager) {
+        this.viewRepository = viewRepository;
+        this.alunoJpaRepository = alunoJpaRepository;
+        this.entityManager = entityManager;
+    }
+    
+    @Transactional
+    public void aplicar(AlunoCriadoEvent event) {
+        if (viewRepository.existsById(event.getAlunoId())) {
+            logger.debug("AlunoCriado já projetado - AlunoID: {}", event.getAlunoId());
+            return;
+        }
+        
+        viewRepository.save(new AlunoView(event.getAlunoId(), event.getNome(),
+                event.getRegistroAcademico(), event.getDataCriacao()));
+    }
+    
+    @Transactional
+    public void aplicar(TentativaRegistradaEvent event) {
+        AlunoView linha = viewRepository.findById(event.getAlunoId()).orElse(null);
+        if (linha == null) {
+            logger.warn("TentativaRegistrada ignorada: aluno {} ausente do modelo de leitura", event.getAlunoId());
+            return;
+        }
+        if (event.getNumeroTentativa() <= linha.getTentativasAvaliacao()) {
+            return;
+        }
+        
+        linha.registrarTentativa(event.getNumeroTentativa(), event.getMediaFinal(), event.getDataRegistro());
+    }
+    
+    @Transactional
+    public void aplicar(AlunoConcluidoEvent event) {
+        AlunoView linha = viewRepository.findById(event.getAlunoId()).orElse(null);
+        if (linha == null) {
+            logger.warn("AlunoConcluido ignorado: aluno {} ausente do modelo de leitura", event.getAlunoId());
+            return;
+        }
+        if (linha.getConcluiu()) {
+            return;
+        }
+        
+        linha.concluir(event.getMediaFinal(), event.getCursosAdicionais(),
+                RegrasGamificacao.calcularPontos(event.getMediaFinal()), event.getDataConclusao());
+    }
+    
+    @Transactional
+    public void aplicar(AlunoExcluidoEvent event) {
+        if (!viewRepository.existsById(event.getAlunoId())) {
+            logger.debug("AlunoExcluido já projetado - AlunoID: {}", event.getAlunoId());
+            return;
+        }
+        viewRepository.deleteById(event.getAlunoId());
+    }
+    
+    /**
+     * Reconstrói o modelo de leitura inteiro a partir do modelo de escrita (tb_alunos)
+     * Usado na primeira subida com alunos já cadastrados e para corrigir divergências
+     * 
+     * Os alunos são lidos pelo cursor do modelo de escrita (fetch size 1000) e gravados em blocos
+     * de LINHAS_POR_FLUSH (INSERTs em lote JDBC), então a memória não depende do tamanho da tabela
+     */
+    @Transactional
+    public void reconstruir() {
+        viewRepository.excluirTodos();
+        
+        int total = 0;
+        try (Stream<AlunoProjecao> todos = alunoJpaRepository.streamTodos()) {
+            Iterator<AlunoProjecao> alunos = todos.iterator();
+            while (alunos.hasNext()) {
+                AlunoProjecao aluno = alunos.next();
+                AlunoView linha = new AlunoView(aluno.getId(), aluno.getNome(), aluno.getRa(), aluno.getDataCriacao());
+                linha.copiar(aluno.getTentativasAvaliacao(), aluno.getMediaFinal(), aluno.getConcluiu(),
+                        aluno.getCursosAdicionais(),
+                        aluno.getConcluiu() ? RegrasGamificacao.calcularPontos(aluno.getMediaFinal()) : 0,
+                        aluno.getDataAtualizacao(), aluno.getDataConclusao());
+                entityManager.persist(linha);
+                
+                if (++total % LINHAS_POR_FLUSH == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        
+        logger.info("Modelo de leitura de alunos reconstruído - {} alunos", total);
+    }
+    
+    /**
+     * Na primeira subida o modelo de leitura está vazio, mas pode haver alunos gravados
+     * antes de existir o consumidor: nesse caso ele é preenchido a partir do modelo de escrita
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void inicializar() {
+        if (viewRepository.count() == 0 && alunoJpaRepository.count() > 0) {
+            reconstruir();
+        }
+    }
+}
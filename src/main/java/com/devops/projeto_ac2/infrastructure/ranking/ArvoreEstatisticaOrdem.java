@@ -0,0 +1,204 @@
+package com.devops.projeto_ac2.infrastructure.ranking;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Árvore de estatística de ordem (treap com tamanho das subárvores) sobre chaves long
+ * 
+ * Operações em O(log n) esperado:
+ * - inserir/remover uma chave
+ * - contarMenores: quantas chaves são estritamente menores que uma chave (= rank - 1)
+ * - selecionar: a chave que ocupa uma posição (0 = menor chave)
+ * 
+ * Não é thread-safe: a sincronização fica a cargo de quem usa
+ */
+class ArvoreEstatisticaOrdem {
+    
+    private static final class No {
+        final long chave;
+        final int prioridade;
+        int tamanho = 1;
+        No esquerda;
+        No direita;
+        
+        No(long chave) {
+            this.chave = chave;
+            this.prioridade = ThreadLocalRandom.current().nextInt();
+        }
+    }
+    
+    private No raiz;
+    
+    /**
+     * Constrói a árvore em O(n) a partir de chaves já ordenadas e sem duplicatas
+     * (árvore cartesiana montada com uma pilha sobre a espinha direita)
+     */
+    static ArvoreEstatisticaOrdem deChavesOrdenadas(long[] chaves) {
+        Deque<No> espinhaDireita = new ArrayDeque<>();
+        for (long chave : chaves) {
+            No no = new No(chave);
+            No ultimoRemovido = null;
+            while (!espinhaDireita.isEmpty() && espinhaDireita.peek().prioridade < no.prioridade) {
+                ultimoRemovido = espinhaDireita.pop();
+            }
+            no.esquerda = ultimoRemovido;
+            if (!espinhaDireita.isEmpty()) {
+                espinhaDireita.peek().direita = no;
+            }
+            espinhaDireita.push(no);
+        }
+        
+        ArvoreEstatisticaOrdem arvore = new ArvoreEstatisticaOrdem();
+        arvore.raiz = espinhaDireita.peekLast();
+        recalcularTudo(arvore.raiz);
+        return arvore;
+    }
+    
+    int tamanho() {
+        return tamanho(raiz);
+    }
+    
+    void limpar() {
+        raiz = null;
+    }
+    
+    /**
+     * Insere a chave (chaves duplicadas são ignoradas)
+     */
+    void inserir(long chave) {
+        if (contem(chave)) {
+            return;
+        }
+        No[] partes = dividir(raiz, chave);
+        raiz = unir(unir(partes[0], new No(chave)), partes[1]);
+    }
+    
+    /**
+     * Remove a chave, se existir
+     */
+    void remover(long chave) {
+        raiz = remover(raiz, chave);
+    }
+    
+    boolean contem(long chave) {
+        No no = raiz;
+        while (no != null) {
+            if (chave == no.chave) {
+                return true;
+            }
+            no = chave < no.chave ? no.esquerda : no.direita;
+        }
+        return false;
+    }
+    
+    /**
+     * Quantidade de chaves estritamente menores que a chave informada
+     */
+    int contarMenores(long chave) {
+        int menores = 0;
+        No no = raiz;
+        while (no != null) {
+            if (chave <= no.chave) {
+                no = no.esquerda;
+            } else {
+                menores += tamanho(no.esquerda) + 1;
+                no = no.direita;
+            }
+        }
+        return menores;
+    }
+    
+    /**
+     * Chave na posição informada da ordem crescente (0 = menor chave)
+     */
+    long selecionar(int posicao) {
+        if (posicao < 0 || posicao >= tamanho()) {
+            throw new IndexOutOfBoundsException("Posição " + posicao + " fora da árvore de " + tamanho() + " chaves");
+        }
+        No no = raiz;
+        while (true) {
+            int tamanhoEsquerda = tamanho(no.esquerda);
+            if (posicao < tamanhoEsquerda) {
+                no = no.esquerda;
+            } else if (posicao == tamanhoEsquerda) {
+                return no.chave;
+            } else {
+                posicao -= tamanhoEsquerda + 1;
+                no = no.direita;
+            }
+        }
+    }
+    
+    private No remover(No no, long chave) {
+        if (no == null) {
+            return null;
+        }
+        if (chave == no.chave) {
+            return unir(no.esquerda, no.direita);
+        }
+        if (chave < no.chave) {
+            no.esquerda = remover(no.esquerda, chave);
+        } else {
+            no.direita = remover(no.direita, chave);
+        }
+        recalcular(no);
+        return no;
+    }
+    
+    /**
+     * Divide a árvore em [chaves < chave] e [chaves >= chave]
+     */
+    private No[] dividir(No no, long chave) {
+        if (no == null) {
+            return new No[] {null, null};
+        }
+        if (no.chave < chave) {
+            No[] partes = dividir(no.direita, chave);
+            no.direita = partes[0];
+            recalcular(no);
+            return new No[] {no, partes[1]};
+        }
+        No[] partes = dividir(no.esquerda, chave);
+        no.esquerda = partes[1];
+        recalcular(no);
+        return new No[] {partes[0], no};
+    }
+    
+    /**
+     * Une duas árvores, assumindo que todas as chaves de "menor" são menores que as de "maior"
+     */
+    private No unir(No menor, No maior) {
+        if (menor == null) {
+            return maior;
+        }
+        if (maior == null) {
+            return menor;
+        }
+        if (menor.prioridade > maior.prioridade) {
+            menor.direita = unir(menor.direita, maior);
+            recalcular(menor);
+            return menor;
+        }
+        maior.esquerda = unir(menor, maior.esquerda);
+        recalcular(maior);
+        return maior;
+    }
+    
+    private static int recalcularTudo(No no) {
+        if (no == null) {
+            return 0;
+        }
+        no.tamanho = 1 + recalcularTudo(no.esquerda) + recalcularTudo(no.direita);
+        return no.tamanho;
+    }
+    
+    private static void recalcular(No no) {
+        no.tamanho = 1 + tamanho(no.esquerda) + tamanho(no.direita);
+    }
+    
+    private static int tamanho(No no) {
+        return no == null ? 0 : no.tamanho;
+    }
+}
@@ -0,0 +1,135 @@
+package com.devops.projeto_ac2.infrastructure.ranking;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.IndiceRanking;
+import com.devops.projeto_ac2.domain.ranking.ChaveRanking;
+import com.devops.projeto_ac2.domain.ranking.PosicaoRanking;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Adapter do IndiceRanking mantido em memória
+ * 
+ * Guarda a chave de ranking de cada aluno (ver {@link ChaveRanking}) em uma
+ * árvore de estatística de ordem, de forma que a posição de um aluno é o número
+ * de chaves menores que a dele + 1, calculado em O(log n)
+ * 
+ * O índice é reconstruído a partir do banco quando a aplicação sobe e depois
+ * mantido pelo AlunoRepository a cada salvar/deletar confirmado
+ */
+@Component
+public class IndiceRankingEmMemoria implements IndiceRanking {
+    
+    private static final Logger logger = LoggerFactory.getLogger(IndiceRankingEmMemoria.class);
+    
+    private final AlunoJpaRepository jpaRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private ArvoreEstatisticaOrdem arvore = new ArvoreEstatisticaOrdem();
+    private Map<Long, Long> chavesPorAluno = new HashMap<>();
+    
+    public IndiceRankingEmMemoria(AlunoJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    /**
+     * Reconstrói o índice lendo apenas as colunas de ranking de todos os alunos
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        List<Object[]> linhas = jpaRepository.findColunasRanking();
+        
+        long[] chaves = new long[linhas.size()];
+        Map<Long, Long> novasChaves = new HashMap<>(linhas.size() * 2);
+        for (int i = 0; i < chaves.length; i++) {
+            Object[] linha = linhas.get(i);
+            long id = (Long) linha[0];
+            chaves[i] = ChaveRanking.empacotar(id, (Double) linha[1], (Integer) linha[2]);
+            novasChaves.put(id, chaves[i]);
+        }
+        
+        // Ordenação primitiva (paralela em máquinas multi-core) + montagem da árvore em O(n)
+        Arrays.parallelSort(chaves);
+        ArvoreEstatisticaOrdem novaArvore = ArvoreEstatisticaOrdem.deChavesOrdenadas(chaves);
+        
+        lock.writeLock().lock();
+        try {
+            this.arvore = novaArvore;
+            this.chavesPorAluno = novasChaves;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Índice de ranking reconstruído - {} alunos indexados", novasChaves.size());
+    }
+    
+    @Override
+    public void atualizar(Aluno aluno) {
+        long chave = ChaveRanking.de(aluno);
+        
+        lock.writeLock().lock();
+        try {
+            Long anterior = chavesPorAluno.put(aluno.getId(), chave);
+            if (anterior != null) {
+                arvore.remover(anterior);
+            }
+            arvore.inserir(chave);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remover(Long alunoId) {
+        lock.writeLock().lock();
+        try {
+            Long anterior = chavesPorAluno.remove(alunoId);
+            if (anterior != null) {
+                arvore.remover(anterior);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Optional<PosicaoRanking> buscarPosicao(Long alunoId) {
+        lock.readLock().lock();
+        try {
+            Long chave = chavesPorAluno.get(alunoId);
+            if (chave == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new PosicaoRanking(alunoId, arvore.contarMenores(chave) + 1, arvore.tamanho()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public List<Long> buscarIdsNaFaixa(int posicaoInicial, int quantidade) {
+        lock.readLock().lock();
+        try {
+            int fim = Math.min(posicaoInicial - 1 + quantidade, arvore.tamanho());
+            List<Long> ids = new ArrayList<>(Math.max(fim - posicaoInicial + 1, 0));
+            for (int i = posicaoInicial - 1; i < fim; i++) {
+                ids.add(ChaveRanking.id(arvore.selecionar(i)));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.devops.projeto_ac2.infrastructure.web.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.CacheAluno;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Cache do JSON final de GET /api/alunos/{id}, por aluno e versão (coluna versao do @Version)
+ * 
+ * Um acerto custa uma consulta ao mapa e a cópia dos bytes para a resposta: sem banco,
+ * sem mapper e sem Jackson. Cada entrada guarda a versão que a originou; ao ser invalidada,
+ * a entrada sai e fica uma marca com a versão nova, de forma que uma leitura concorrente que
+ * carregou a versão antiga não consegue reinseri-la depois da escrita. As marcas ficam fora do cache
+ * limitado por tamanho (a remoção por tamanho levaria a marca junto e reabriria a janela), num mapa
+ * sem limite em que cada marca vence após alunos.cache-json.validade-marca: prazo folgado para
+ * qualquer leitura em andamento terminar, e o mapa guarda só os alunos escritos nesse prazo. A versão é o contador de
+ * concorrência otimista, incrementado em toda gravação: ao contrário de dataAtualizacao, não empata
+ * em duas escritas no mesmo microssegundo nem anda para trás se o relógio for ajustado
+ * 
+ * Métricas em /actuator/metrics: alunos.cache.json.consultas (por resultado), alunos.cache.json.entradas
+ * e alunos.cache.json.marcas
+ */
+@Component
+public class CacheJsonAluno implements CacheAluno {
+    
+    private final Cache<Long, Entrada> entradas;
+    private final Cache<Long, Long> marcas;
+    private final Counter acertos;
+    private final Counter faltas;
+    
+    @Autowired
+    public CacheJsonAluno(
+            MeterRegistry meterRegistry,
+            @Value("${alunos.cache-json.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${alunos.cache-json.validade-marca:1m}") Duration validadeMarca) {
+        this(meterRegistry, tamanhoMaximo, validadeMarca, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * @param executor onde o Caffeine faz a manutenção (remoção por tamanho e por prazo)
+     */
+    CacheJsonAluno(MeterRegistry meterRegistry, long tamanhoMaximo, Duration validadeMarca, Executor executor) {
+        this.entradas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .executor(executor)
+                .build();
+        this.marcas = Caffeine.newBuilder()
+                .expireAfterWrite(validadeMarca)
+                .executor(executor)
+                .build();
+        
+        this.acertos = Counter.builder("alunos.cache.json.consultas")
+                .description("Consultas ao cache de JSON de alunos")
+                .tag("resultado", "acerto")
+                .register(meterRegistry);
+        this.faltas = Counter.builder("alunos.cache.json.consultas")
+                .description("Consultas ao cache de JSON de alunos")
+                .tag("resultado", "falta")
+                .register(meterRegistry);
+        Gauge.builder("alunos.cache.json.entradas", entradas, Cache::estimatedSize)
+                .description("Entradas no cache de JSON de alunos")
+                .register(meterRegistry);
+        Gauge.builder("alunos.cache.json.marcas", marcas, Cache::estimatedSize)
+                .description("Marcas de invalidação do cache de JSON de alunos ainda em vigor")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Busca o JSON em cache do aluno
+     */
+    public Optional<byte[]> buscar(Long alunoId) {
+        Entrada entrada = entradas.getIfPresent(alunoId);
+        if (entrada == null) {
+            faltas.increment();
+            return Optional.empty();
+        }
+        acertos.increment();
+        return Optional.of(entrada.json);
+    }
+    
+    /**
+     * Guarda o JSON de uma versão do aluno, a menos que o cache já conheça uma versão mais nova
+     */
+    public void armazenar(Long alunoId, Long versaoAluno, byte[] json) {
+        long versao = versao(versaoAluno);
+        // A marca é consultada dentro do compute: uma invalidação grava a marca antes de tirar a entrada,
+        // então ou esta escrita vê a marca, ou a invalidação vê (e tira) a entrada gravada aqui
+        entradas.asMap().compute(alunoId, (id, atual) -> {
+            Long marca = marcas.getIfPresent(id);
+            if (marca != null && versao < marca) {
+                return atual;
+            }
+            return atual == null || versao >= atual.versao ? new Entrada(versao, json) : atual;
+        });
+    }
+    
+    @Override
+    public void atualizar(Aluno aluno) {
+        invalidar(aluno.getId(), versao(aluno.getVersao()));
+    }
+    
+    @Override
+    public void remover(Long alunoId) {
+        // IDs vêm de sequence e não são reaproveitados: a marca impede reinserções atrasadas
+        invalidar(alunoId, Long.MAX_VALUE);
+    }
+    
+    private void invalidar(Long alunoId, long versao) {
+        marcas.asMap().merge(alunoId, versao, Math::max);
+        entradas.asMap().computeIfPresent(alunoId, (id, atual) -> atual.versao > versao ? atual : null);
+    }
+    
+    /**
+     * Aluno ainda sem versão (nunca gravado) vale como a versão mais antiga
+     */
+    private static long versao(Long versaoAluno) {
+        return versaoAluno == null ? Long.MIN_VALUE : versaoAluno;
+    }
+    
+    private static final class Entrada {
+        
+        private final long versao;
+        private final byte[] json;
+        
+        private Entrada(long versao, byte[] json) {
+            this.versao = versao;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.devops.projeto_ac2.infrastructure.web.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.CacheAluno;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
+import com.devops.projeto_ac2.domain.ranking.ChaveRanking;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snapshot do ranking em memória para GET /api/alunos/ranking
+ * 
+ * Guarda as linhas já ordenadas e o JSON de cada linha já renderizado, sem a posição; o ranking
+ * geral, a visão dos aprovados e o top N são montados copiando esses bytes e escrevendo a posição
+ * de cada linha na montagem. O snapshot é imutável e publicado por uma referência volatile
+ * (copy-on-write), então leitores nunca bloqueiam nem veem um ranking pela metade
+ * 
+ * As escritas confirmadas chegam pelo AlunoRepository (após o commit) e ficam pendentes;
+ * são aplicadas juntas, num merge O(n + k log k) que só renderiza as k linhas alteradas:
+ * como a posição não faz parte do JSON guardado, uma linha que apenas mudou de posição
+ * mantém os mesmos bytes. Limite de defasagem:
+ * - alunos.ranking-snapshot.defasagem-maxima: tempo máximo entre o commit e o ranking servido
+ *   (0 = aplica no próprio commit). Se uma escrita pendente passar do limite, a leitura vai ao banco
+ * - alunos.ranking-snapshot.recarga-completa: intervalo de reconstrução a partir do banco,
+ *   que corrige escritas feitas por fora do repositório
+ * 
+ * A leitura da recarga corre fora da seção crítica, então uma escrita pode ser aplicada entre
+ * a leitura e a troca do snapshot; as escritas aplicadas durante a recarga são guardadas e
+ * aplicadas de novo sobre o snapshot recarregado, para a leitura antiga não desfazê-las
+ */
+@Component
+public class SnapshotRanking implements CacheAluno {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotRanking.class);
+    
+    private static final RankingAlunoProjecao REMOVIDO = new RankingAlunoProjecao(null, null, null, null, null, null);
+    
+    private static final byte[] INICIO_POSICAO = "{\"posicao\":".getBytes(StandardCharsets.US_ASCII);
+    
+    private final AlunoJpaRepository jpaRepository;
+    private final AlunoMapper alunoMapper;
+    private final ObjectWriter escritor;
+    private final long defasagemMaximaNanos;
+    private final ScheduledExecutorService agendador;
+    
+    private final Map<Long, RankingAlunoProjecao> pendentes = new ConcurrentHashMap<>();
+    private final AtomicLong pendenteDesde = new AtomicLong();
+    private final Object recarga = new Object();
+    private Map<Long, RankingAlunoProjecao> aplicadasNaRecarga;
+    private volatile Snapshot atual;
+    
+    public SnapshotRanking(
+            AlunoJpaRepository jpaRepository,
+            AlunoMapper alunoMapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.ranking-snapshot.defasagem-maxima:1s}") Duration defasagemMaxima,
+            @Value("${alunos.ranking-snapshot.recarga-completa:10m}") Duration recargaCompleta) {
+        this.jpaRepository = jpaRepository;
+        this.alunoMapper = alunoMapper;
+        // Mesmo JSON do RankingResponseDTO, sem a posição (escrita na montagem da resposta)
+        this.escritor = objectMapper.copy()
+                .addMixIn(RankingResponseDTO.class, SemPosicao.class)
+                .writerFor(RankingResponseDTO.class);
+        this.defasagemMaximaNanos = defasagemMaxima.toNanos();
+        this.agendador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ranking-snapshot").daemon().factory());
+        
+        // Metade do limite entre aplicações: a escrita mais antiga fica pendente por, no máximo, ~limite/2
+        if (!defasagemMaxima.isZero()) {
+            long intervalo = Math.max(defasagemMaximaNanos / 2, 1);
+            agendador.scheduleWithFixedDelay(() -> executarComLog(this::aplicarPendentes),
+                    intervalo, intervalo, TimeUnit.NANOSECONDS);
+        }
+        if (!recargaCompleta.isZero()) {
+            agendador.scheduleWithFixedDelay(() -> executarComLog(this::recarregar),
+                    recargaCompleta.toNanos(), recargaCompleta.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        
+        Gauge.builder("alunos.ranking.snapshot.idade", this, SnapshotRanking::idadeSegundos)
+                .description("Segundos desde a publicação do snapshot do ranking")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("alunos.ranking.snapshot.pendentes", pendentes, Map::size)
+                .description("Escritas confirmadas ainda não aplicadas ao snapshot do ranking")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Carga inicial, quando a aplicação sobe
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        recarregar();
+    }
+    
+    /**
+     * Reconstrói o snapshot a partir do banco (a leitura acontece fora da seção crítica)
+     */
+    public void recarregar() {
+        synchronized (recarga) {
+            synchronized (this) {
+                aplicadasNaRecarga = new HashMap<>();
+            }
+            
+            int total;
+            try {
+                List<RankingAlunoProjecao> ranking = new ArrayList<>(jpaRepository.findRanking(Limit.unlimited()));
+                // A ordem do snapshot é a da chave de ranking, a mesma usada no merge das escritas
+                ranking.sort(Comparator.comparingLong(SnapshotRanking::chave));
+                
+                RankingAlunoProjecao[] linhas = ranking.toArray(RankingAlunoProjecao[]::new);
+                long[] chaves = new long[linhas.length];
+                for (int i = 0; i < linhas.length; i++) {
+                    chaves[i] = chave(linhas[i]);
+                }
+                byte[][] json = renderizar(linhas);
+                total = linhas.length;
+                
+                synchronized (this) {
+                    atual = montar(linhas, chaves, json);
+                    // A leitura pode ser anterior a essas escritas; uma pendente mais nova prevalece
+                    aplicadasNaRecarga.forEach(pendentes::putIfAbsent);
+                    aplicadasNaRecarga = null;
+                    aplicarPendentes();
+                }
+            } finally {
+                synchronized (this) {
+                    aplicadasNaRecarga = null;
+                }
+            }
+            logger.info("Snapshot do ranking recarregado - {} alunos", total);
+        }
+    }
+    
+    /**
+     * Busca o JSON do ranking (geral ou apenas aprovados), opcionalmente limitado ao top N
+     * 
+     * @param top quantidade de posições (null ou <= 0 = todas)
+     * @return o JSON da resposta, ou vazio se o snapshot ainda não foi carregado
+     *         ou está mais defasado que o limite configurado
+     */
+    public Optional<byte[]> buscar(boolean apenasAprovados, Integer top) {
+        Snapshot snapshot = atual;
+        long desde = pendenteDesde.get();
+        if (snapshot == null || (desde != 0 && System.nanoTime() - desde > defasagemMaximaNanos)) {
+            return Optional.empty();
+        }
+        
+        byte[][] json = apenasAprovados ? snapshot.jsonAprovados : snapshot.json;
+        int quantidade = top != null && top > 0 ? Math.min(top, json.length) : json.length;
+        return Optional.of(concatenar(json, quantidade));
+    }
+    
+    @Override
+    public void atualizar(Aluno aluno) {
+        registrarPendente(aluno.getId(), RankingAlunoProjecao.de(aluno));
+        aplicarSeImediato();
+    }
+    
+    @Override
+    public void atualizarTodos(List<Aluno> alunos) {
+        alunos.forEach(aluno -> registrarPendente(aluno.getId(), RankingAlunoProjecao.de(aluno)));
+        aplicarSeImediato();
+    }
+    
+    @Override
+    public void remover(Long alunoId) {
+        registrarPendente(alunoId, REMOVIDO);
+        aplicarSeImediato();
+    }
+    
+    @PreDestroy
+    void encerrar() {
+        agendador.shutdownNow();
+    }
+    
+    /**
+     * Aplica todas as escritas pendentes em um único merge e publica o novo snapshot
+     */
+    synchronized void aplicarPendentes() {
+        Snapshot anterior = atual;
+        if (anterior == null) {
+            return;
+        }
+        // Zerado antes de drenar: escritas concorrentes registram um novo instante (estimativa conservadora)
+        pendenteDesde.set(0);
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, RankingAlunoProjecao> lote = new HashMap<>();
+        for (Long id : pendentes.keySet()) {
+            RankingAlunoProjecao linha = pendentes.remove(id);
+            if (linha != null) {
+                lote.put(id, linha);
+            }
+        }
+        if (aplicadasNaRecarga != null) {
+            aplicadasNaRecarga.putAll(lote);
+        }
+        
+        RankingAlunoProjecao[] inseridas = lote.values().stream()
+                .filter(linha -> linha != REMOVIDO)
+                .sorted(Comparator.comparingLong(SnapshotRanking::chave))
+                .toArray(RankingAlunoProjecao[]::new);
+        
+        byte[][] jsonInseridas = renderizar(inseridas);
+        
+        // Merge de duas sequências ordenadas, descartando as versões antigas das linhas alteradas;
+        // o JSON de cada linha acompanha a linha
+        RankingAlunoProjecao[] linhas = new RankingAlunoProjecao[anterior.linhas.length + inseridas.length];
+        long[] chaves = new long[linhas.length];
+        byte[][] json = new byte[linhas.length][];
+        int i = 0;
+        int j = 0;
+        int total = 0;
+        while (i < anterior.linhas.length || j < inseridas.length) {
+            if (i < anterior.linhas.length && lote.containsKey(anterior.linhas[i].getId())) {
+                i++;
+            } else if (j == inseridas.length
+                    || (i < anterior.linhas.length && anterior.chaves[i] < chave(inseridas[j]))) {
+                linhas[total] = anterior.linhas[i];
+                json[total] = anterior.json[i];
+                chaves[total++] = anterior.chaves[i++];
+            } else {
+                linhas[total] = inseridas[j];
+                json[total] = jsonInseridas[j];
+                chaves[total++] = chave(inseridas[j++]);
+            }
+        }
+        
+        atual = montar(Arrays.copyOf(linhas, total), Arrays.copyOf(chaves, total), Arrays.copyOf(json, total));
+    }
+    
+    private void registrarPendente(Long alunoId, RankingAlunoProjecao linha) {
+        pendentes.put(alunoId, linha);
+        pendenteDesde.compareAndSet(0, System.nanoTime());
+    }
+    
+    private void aplicarSeImediato() {
+        if (defasagemMaximaNanos == 0) {
+            aplicarPendentes();
+        }
+    }
+    
+    /**
+     * Monta o snapshot; a visão dos aprovados reaproveita o JSON das linhas do ranking geral
+     */
+    private static Snapshot montar(RankingAlunoProjecao[] linhas, long[] chaves, byte[][] json) {
+        List<byte[]> jsonAprovados = new ArrayList<>();
+        for (int i = 0; i < linhas.length; i++) {
+            if (linhas[i].aprovado()) {
+                jsonAprovados.add(json[i]);
+            }
+        }
+        return new Snapshot(linhas, chaves, json, jsonAprovados.toArray(byte[][]::new));
+    }
+    
+    private byte[][] renderizar(RankingAlunoProjecao[] linhas) {
+        byte[][] json = new byte[linhas.length][];
+        try {
+            for (int i = 0; i < linhas.length; i++) {
+                json[i] = escritor.writeValueAsBytes(alunoMapper.toRankingResponseDTO(linhas[i], 0));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao renderizar o ranking", e);
+        }
+        return json;
+    }
+    
+    /**
+     * Monta o array da resposta: cada linha é {"posicao":N, seguido do JSON guardado sem o '{' inicial
+     */
+    private static byte[] concatenar(byte[][] json, int quantidade) {
+        int tamanho = 2 + Math.max(quantidade - 1, 0);
+        for (int i = 0; i < quantidade; i++) {
+            tamanho += INICIO_POSICAO.length + digitos(i + 1) + json[i].length;
+        }
+        
+        byte[] resposta = new byte[tamanho];
+        int posicao = 0;
+        resposta[posicao++] = '[';
+        for (int i = 0; i < quantidade; i++) {
+            if (i > 0) {
+                resposta[posicao++] = ',';
+            }
+            System.arraycopy(INICIO_POSICAO, 0, resposta, posicao, INICIO_POSICAO.length);
+            posicao += INICIO_POSICAO.length;
+            posicao = escreverNumero(i + 1, resposta, posicao);
+            resposta[posicao++] = ',';
+            System.arraycopy(json[i], 1, resposta, posicao, json[i].length - 1);
+            posicao += json[i].length - 1;
+        }
+        resposta[posicao] = ']';
+        return resposta;
+    }
+    
+    private static int digitos(int numero) {
+        int digitos = 1;
+        while (numero >= 10) {
+            numero /= 10;
+            digitos++;
+        }
+        return digitos;
+    }
+    
+    private static int escreverNumero(int numero, byte[] destino, int inicio) {
+        int fim = inicio + digitos(numero);
+        for (int i = fim - 1; i >= inicio; i--) {
+            destino[i] = (byte) ('0' + numero % 10);
+            numero /= 10;
+        }
+        return fim;
+    }
+    
+    private static long chave(RankingAlunoProjecao linha) {
+        return ChaveRanking.empacotar(linha.getId(), linha.getMediaFinal(), linha.getCursosAdicionais());
+    }
+    
+    private double idadeSegundos() {
+        Snapshot snapshot = atual;
+        return snapshot == null ? 0 : (System.nanoTime() - snapshot.publicadoEm) / 1e9;
+    }
+    
+    private void executarComLog(Runnable tarefa) {
+        try {
+            tarefa.run();
+        } catch (RuntimeException e) {
+            // Uma exceção cancelaria as execuções seguintes da tarefa agendada
+            logger.error("Falha ao atualizar o snapshot do ranking", e);
+        }
+    }
+    
+    /**
+     * Estado imutável publicado para os leitores
+     */
+    private static final class Snapshot {
+        
+        private final RankingAlunoProjecao[] linhas;
+        private final long[] chaves;
+        // JSON de cada linha sem a posição, na ordem das linhas (e só dos aprovados)
+        private final byte[][] json;
+        private final byte[][] jsonAprovados;
+        private final long publicadoEm = System.nanoTime();
+        
+        private Snapshot(RankingAlunoProjecao[] linhas, long[] chaves, byte[][] json, byte[][] jsonAprovados) {
+            this.linhas = linhas;
+            this.chaves = chaves;
+            this.json = json;
+            this.jsonAprovados = jsonAprovados;
+        }
+    }
+    
+    /**
+     * Mix-in do Jackson que tira a posição do JSON guardado de cada linha
+     */
+    @JsonIgnoreProperties("posicao")
+    private abstract static class SemPosicao {
+    }
+}
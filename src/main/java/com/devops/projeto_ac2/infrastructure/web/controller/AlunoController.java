@@ -3,29 +3,61 @@ package com.devops.projeto_ac2.infrastructure.web.controller;
 import com.devops.projeto_ac2.application.usecases.BuscarAlunoPorIdUseCase;
 import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
 import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.CriarAlunosEmLoteUseCase;
+import com.devops.projeto_ac2.application.usecases.ExcluirAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.ExportarAlunosUseCase;
+import com.devops.projeto_ac2.application.usecases.ImportarAlunosUseCase;
 import com.devops.projeto_ac2.application.usecases.ListarAlunosUseCase;
+import com.devops.projeto_ac2.application.usecases.ObterPosicaoRankingUseCase;
 import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
 import com.devops.projeto_ac2.application.usecases.ObterRankingAlunosUseCase;
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.domain.projections.AlunoViewProjecao;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
+import com.devops.projeto_ac2.infrastructure.concorrencia.RepeticaoEmConflito;
+import com.devops.projeto_ac2.infrastructure.escrita.EscritaAdiadaTentativas;
+import com.devops.projeto_ac2.infrastructure.web.cache.CacheJsonAluno;
+import com.devops.projeto_ac2.infrastructure.web.cache.SnapshotRanking;
 import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
 import com.devops.projeto_ac2.shared.dto.ConcluirCursoRequestDTO;
 import com.devops.projeto_ac2.shared.dto.CriarAlunoRequestDTO;
+import com.devops.projeto_ac2.shared.dto.ImportacaoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.LoteAlunosResponseDTO;
+import com.devops.projeto_ac2.shared.dto.PosicaoRankingResponseDTO;
 import com.devops.projeto_ac2.shared.dto.RegistrarTentativaRequestDTO;
 import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
+import com.devops.projeto_ac2.shared.arquivo.EscritorArquivoAlunos;
+import com.devops.projeto_ac2.shared.arquivo.FormatoArquivo;
 import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import com.devops.projeto_ac2.shared.pagination.Pagina;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -34,33 +66,68 @@ import java.util.stream.Collectors;
  */
 @RestController
 @RequestMapping("/api/alunos")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = AlunoController.HEADER_PROXIMO_CURSOR)
 @Tag(name = "Alunos", description = "API de gerenciamento de alunos")
 public class AlunoController {
     
+    static final String HEADER_PROXIMO_CURSOR = "X-Next-Cursor";
+    
     private final CriarAlunoUseCase criarAlunoUseCase;
+    private final CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase;
+    private final ImportarAlunosUseCase importarAlunosUseCase;
+    private final ExportarAlunosUseCase exportarAlunosUseCase;
     private final ConcluirCursoUseCase concluirCursoUseCase;
+    private final ExcluirAlunoUseCase excluirAlunoUseCase;
     private final BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase;
     private final ListarAlunosUseCase listarAlunosUseCase;
     private final RegistrarTentativaUseCase registrarTentativaUseCase;
     private final ObterRankingAlunosUseCase obterRankingAlunosUseCase;
+    private final ObterPosicaoRankingUseCase obterPosicaoRankingUseCase;
     private final AlunoMapper alunoMapper;
+    private final ObjectMapper objectMapper;
+    private final CacheJsonAluno cacheJsonAluno;
+    private final SnapshotRanking snapshotRanking;
+    private final RepeticaoEmConflito repeticaoEmConflito;
+    private final Optional<EscritaAdiadaTentativas> escritaAdiada;
+    private final boolean listarPeloModeloDeLeitura;
     
     public AlunoController(
             CriarAlunoUseCase criarAlunoUseCase,
+            CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase,
+            ImportarAlunosUseCase importarAlunosUseCase,
+            ExportarAlunosUseCase exportarAlunosUseCase,
             ConcluirCursoUseCase concluirCursoUseCase,
+            ExcluirAlunoUseCase excluirAlunoUseCase,
             BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase,
             ListarAlunosUseCase listarAlunosUseCase,
             RegistrarTentativaUseCase registrarTentativaUseCase,
             ObterRankingAlunosUseCase obterRankingAlunosUseCase,
-            AlunoMapper alunoMapper) {
+            ObterPosicaoRankingUseCase obterPosicaoRankingUseCase,
+            AlunoMapper alunoMapper,
+            ObjectMapper objectMapper,
+            CacheJsonAluno cacheJsonAluno,
+            SnapshotRanking snapshotRanking,
+            RepeticaoEmConflito repeticaoEmConflito,
+            Optional<EscritaAdiadaTentativas> escritaAdiada,
+            @Value("${alunos.view.leitura-habilitada:true}") boolean listarPeloModeloDeLeitura) {
         this.criarAlunoUseCase = criarAlunoUseCase;
+        this.criarAlunosEmLoteUseCase = criarAlunosEmLoteUseCase;
+        this.importarAlunosUseCase = importarAlunosUseCase;
+        this.exportarAlunosUseCase = exportarAlunosUseCase;
         this.concluirCursoUseCase = concluirCursoUseCase;
+        this.excluirAlunoUseCase = excluirAlunoUseCase;
         this.buscarAlunoPorIdUseCase = buscarAlunoPorIdUseCase;
         this.listarAlunosUseCase = listarAlunosUseCase;
         this.registrarTentativaUseCase = registrarTentativaUseCase;
         this.obterRankingAlunosUseCase = obterRankingAlunosUseCase;
+        this.obterPosicaoRankingUseCase = obterPosicaoRankingUseCase;
         this.alunoMapper = alunoMapper;
+        this.objectMapper = objectMapper;
+        this.cacheJsonAluno = cacheJsonAluno;
+        this.snapshotRanking = snapshotRanking;
+        this.repeticaoEmConflito = repeticaoEmConflito;
+        this.escritaAdiada = escritaAdiada;
+        this.listarPeloModeloDeLeitura = listarPeloModeloDeLeitura;
     }
     
     /**
@@ -80,6 +147,79 @@ public class AlunoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * POST /api/alunos/lote - Criar vários alunos de uma vez
+     */
+    @Operation(summary = "Criar alunos em lote",
+            description = "Cria vários alunos em uma única transação, com INSERTs em lotes JDBC. " +
+                    "Itens inválidos ou com RA já existente são rejeitados individualmente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; veja o resultado de cada item",
+                    content = @Content(schema = @Schema(implementation = LoteAlunosResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo")
+    })
+    @PostMapping("/lote")
+    public ResponseEntity<LoteAlunosResponseDTO> criarEmLote(@RequestBody List<CriarAlunoRequestDTO> request) {
+        LoteAlunosResponseDTO response = alunoMapper.toLoteResponseDTO(criarAlunosEmLoteUseCase.executar(request));
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * POST /api/alunos/importacao - Importar arquivo de alunos (CSV ou NDJSON)
+     * O corpo é lido em streaming, sem ser carregado inteiro em memória
+     */
+    @Operation(summary = "Importar arquivo de alunos",
+            description = "Importa um arquivo CSV (nome,ra) ou NDJSON ({\"nome\",\"ra\"}) enviado no corpo, " +
+                    "em blocos validados em paralelo e gravados em lotes. Linhas inválidas são reportadas com o número da linha")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo processado",
+                    content = @Content(schema = @Schema(implementation = ImportacaoResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado")
+    })
+    @PostMapping(value = "/importacao", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportacaoResponseDTO> importar(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        FormatoArquivo formato = FormatoArquivo.deContentTypeOuArquivo(contentType);
+        Reader arquivo = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8);
+        ImportarAlunosUseCase.Resultado resultado = importarAlunosUseCase.executar(arquivo, formato, progresso -> { });
+        return ResponseEntity.ok(alunoMapper.toImportacaoResponseDTO(resultado));
+    }
+    
+    /**
+     * GET /api/alunos/export - Exportar alunos em CSV ou NDJSON
+     * As linhas vêm de um cursor no banco e são escritas direto na resposta,
+     * então o uso de memória não depende da quantidade de alunos
+     */
+    @Operation(summary = "Exportar alunos",
+            description = "Exporta todos os alunos (ou filtrados por conclusão) em CSV ou NDJSON, em streaming")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo gerado"),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Formato do arquivo: csv ou ndjson")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Filtrar por conclusão (true=concluídos, false=não concluídos)")
+            @RequestParam(required = false) Boolean concluido) {
+        FormatoArquivo formato = FormatoArquivo.deNome(format);
+        
+        // O use case abre a transação (e o cursor) na thread que escreve a resposta
+        StreamingResponseBody corpo = saida -> {
+            EscritorArquivoAlunos escritor = new EscritorArquivoAlunos(
+                    new OutputStreamWriter(saida, StandardCharsets.UTF_8), formato, objectMapper);
+            exportarAlunosUseCase.executar(concluido, aluno -> escritor.escrever(alunoMapper.toResponseDTO(aluno)));
+            escritor.flush();
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"alunos." + formato.name().toLowerCase() + "\"")
+                .body(corpo);
+    }
+    
     /**
      * GET /api/alunos/{id} - Buscar aluno por ID
      */
@@ -90,42 +230,63 @@ public class AlunoController {
             @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<AlunoResponseDTO> buscarPorId(
-            @Parameter(description = "ID do aluno") @PathVariable Long id) {
-        Aluno aluno = buscarAlunoPorIdUseCase.executar(id);
-        AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> buscarPorId(
+            @Parameter(description = "ID do aluno") @PathVariable Long id) throws IOException {
+        // Acerto: os bytes já serializados vão direto para a resposta
+        byte[] json = cacheJsonAluno.buscar(id).orElse(null);
+        if (json == null) {
+            AlunoProjecao aluno = buscarAlunoPorIdUseCase.executar(id);
+            json = objectMapper.writeValueAsBytes(alunoMapper.toResponseDTO(aluno));
+            cacheJsonAluno.armazenar(id, aluno.getVersao(), json);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
     }
     
     /**
-     * GET /api/alunos - Listar todos os alunos
+     * GET /api/alunos - Listar alunos com paginação por cursor
+     * O cursor da próxima página é devolvido no header X-Next-Cursor
+     * 
+     * Com alunos.view.leitura-habilitada (padrão) a listagem vem do modelo de leitura (aluno_view),
+     * que já traz posição no ranking e pontos de gamificação e é atualizado pelos eventos
      */
-    @Operation(summary = "Listar alunos", description = "Lista todos os alunos com filtro opcional de conclusão")
+    @Operation(summary = "Listar alunos", description = "Lista alunos paginados por cursor, com filtro opcional de conclusão. "
+            + "O cursor da próxima página é retornado no header " + HEADER_PROXIMO_CURSOR)
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
     })
     @GetMapping
     public ResponseEntity<List<AlunoResponseDTO>> listarTodos(
             @Parameter(description = "Filtrar por conclusão: true (concluídos), false (não concluídos), null (todos)")
-            @RequestParam(required = false) Boolean concluido) {
-        
-        List<Aluno> alunos;
+            @RequestParam(required = false) Boolean concluido,
+            @Parameter(description = "Cursor opaco retornado pela página anterior (omitir na primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade máxima de alunos por página (1 a " + ListarAlunosUseCase.LIMITE_MAXIMO + ")")
+            @RequestParam(defaultValue = "" + ListarAlunosUseCase.LIMITE_PADRAO) int limit) {
         
-        if (concluido != null) {
-            if (concluido) {
-                alunos = listarAlunosUseCase.executarConcluidos();
-            } else {
-                alunos = listarAlunosUseCase.executarNaoConcluidos();
-            }
+        List<AlunoResponseDTO> response;
+        String proximoCursor;
+        if (listarPeloModeloDeLeitura) {
+            Pagina<AlunoViewProjecao> pagina = listarAlunosUseCase.executarPaginadoView(concluido, cursor, limit);
+            response = pagina.getItens().stream()
+                    .map(alunoMapper::toResponseDTO)
+                    .collect(Collectors.toList());
+            proximoCursor = pagina.getProximoCursor();
         } else {
-            alunos = listarAlunosUseCase.executar();
+            Pagina<AlunoProjecao> pagina = listarAlunosUseCase.executarPaginado(concluido, cursor, limit);
+            response = pagina.getItens().stream()
+                    .map(alunoMapper::toResponseDTO)
+                    .collect(Collectors.toList());
+            proximoCursor = pagina.getProximoCursor();
         }
         
-        List<AlunoResponseDTO> response = alunos.stream()
-                .map(alunoMapper::toResponseDTO)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (proximoCursor != null) {
+            builder.header(HEADER_PROXIMO_CURSOR, proximoCursor);
+        }
+        return builder.body(response);
     }
     
     /**
@@ -134,15 +295,25 @@ public class AlunoController {
     @Operation(summary = "Registrar tentativa", description = "Registra uma tentativa de avaliação (máximo 3 tentativas)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tentativa registrada com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Tentativa aceita pela escrita adiada (gravada no banco em seguida)"),
             @ApiResponse(responseCode = "404", description = "Aluno não encontrado"),
-            @ApiResponse(responseCode = "409", description = "Limite de tentativas esgotado")
+            @ApiResponse(responseCode = "409", description = "Limite de tentativas esgotado ou conflito de concorrência persistente")
     })
     @PostMapping("/{id}/tentativas")
     public ResponseEntity<AlunoResponseDTO> registrarTentativa(
             @Parameter(description = "ID do aluno") @PathVariable Long id,
             @Valid @RequestBody RegistrarTentativaRequestDTO request) {
         
-        Aluno aluno = registrarTentativaUseCase.executar(id, request.getNota());
+        // Escrita adiada (dia de prova): confirmada após o journal local, gravada no banco na próxima descarga
+        if (escritaAdiada.isPresent()) {
+            AlunoResponseDTO response = repeticaoEmConflito.executar("registrar-tentativa",
+                    () -> escritaAdiada.get().registrar(id, request.getNota(), alunoMapper::toResponseDTO));
+            return ResponseEntity.accepted().body(response);
+        }
+        
+        // Conflitos de versão (requisições simultâneas para o mesmo aluno) são repetidos com nova leitura
+        Aluno aluno = repeticaoEmConflito.executar("registrar-tentativa",
+                () -> registrarTentativaUseCase.executar(id, request.getNota()));
         AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
         return ResponseEntity.ok(response);
     }
@@ -154,41 +325,99 @@ public class AlunoController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Curso concluído com sucesso"),
             @ApiResponse(responseCode = "400", description = "Aluno já concluiu ou sem tentativas"),
-            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Conflito de concorrência persistente")
     })
     @PatchMapping("/{id}/concluir")
     public ResponseEntity<AlunoResponseDTO> concluirCurso(
             @Parameter(description = "ID do aluno") @PathVariable Long id,
             @Valid @RequestBody ConcluirCursoRequestDTO request) {
         
-        Aluno aluno = concluirCursoUseCase.executar(id, request.getMediaFinal());
+        // Com escrita adiada, as tentativas pendentes do aluno são gravadas antes da conclusão
+        Supplier<Aluno> concluir = () -> concluirCursoUseCase.executar(id, request.getMediaFinal());
+        Aluno aluno = repeticaoEmConflito.executar("concluir-curso",
+                () -> escritaAdiada.map(escrita -> escrita.comAlunoDescarregado(id, concluir)).orElseGet(concluir));
         AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * DELETE /api/alunos/{id} - Excluir aluno
+     */
+    @Operation(summary = "Excluir aluno", description = "Exclui o aluno e o remove do modelo de leitura")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Aluno excluído com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> excluir(
+            @Parameter(description = "ID do aluno") @PathVariable Long id) {
+        excluirAlunoUseCase.executar(id);
+        return ResponseEntity.noContent().build();
+    }
+    
     /**
      * GET /api/alunos/ranking - Obter ranking completo dos alunos
      */
     @Operation(summary = "Obter ranking", description = "Retorna ranking dos alunos ordenado por média e cursos extras")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso")
+            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = RankingResponseDTO.class))))
     })
     @GetMapping("/ranking")
-    public ResponseEntity<List<RankingResponseDTO>> obterRanking(
+    public ResponseEntity<byte[]> obterRanking(
             @Parameter(description = "Limitar top N alunos") @RequestParam(required = false) Integer top,
-            @Parameter(description = "Filtrar apenas aprovados") @RequestParam(required = false) Boolean apenasAprovados) {
+            @Parameter(description = "Filtrar apenas aprovados") @RequestParam(required = false) Boolean apenasAprovados,
+            @Parameter(description = "Retornar uma faixa do ranking geral a partir desta posição (1 = primeiro colocado)")
+            @RequestParam(required = false) Integer posicaoInicial,
+            @Parameter(description = "Quantidade de posições da faixa (usado com posicaoInicial)")
+            @RequestParam(defaultValue = "" + ListarAlunosUseCase.LIMITE_PADRAO) int quantidade) throws IOException {
         
-        List<Aluno> alunos;
+        boolean aprovados = apenasAprovados != null && apenasAprovados;
         
-        if (apenasAprovados != null && apenasAprovados) {
-            alunos = obterRankingAlunosUseCase.executarAprovados();
+        // Ranking geral, top N e aprovados: fatias do snapshot em memória, já serializadas
+        if (aprovados || posicaoInicial == null) {
+            byte[] json = snapshotRanking.buscar(aprovados, top).orElse(null);
+            if (json != null) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+            }
+        }
+        
+        List<RankingAlunoProjecao> alunos;
+        int primeiraPosicao = 1;
+        
+        if (aprovados) {
+            alunos = top != null && top > 0
+                    ? obterRankingAlunosUseCase.executarTopAprovados(top)
+                    : obterRankingAlunosUseCase.executarAprovados();
+        } else if (posicaoInicial != null) {
+            alunos = obterRankingAlunosUseCase.executarFaixa(posicaoInicial, quantidade);
+            primeiraPosicao = posicaoInicial;
         } else if (top != null && top > 0) {
             alunos = obterRankingAlunosUseCase.executarTop(top);
         } else {
             alunos = obterRankingAlunosUseCase.executar();
         }
         
-        List<RankingResponseDTO> response = alunoMapper.toRankingResponseDTOList(alunos);
+        List<RankingResponseDTO> response = alunoMapper.toRankingResponseDTOList(alunos, primeiraPosicao);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(response));
+    }
+    
+    /**
+     * GET /api/alunos/{id}/posicao - Obter posição do aluno no ranking
+     */
+    @Operation(summary = "Obter posição no ranking", description = "Retorna a posição e o percentil do aluno no ranking geral")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Posição retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = PosicaoRankingResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+    })
+    @GetMapping("/{id}/posicao")
+    public ResponseEntity<PosicaoRankingResponseDTO> obterPosicao(
+            @Parameter(description = "ID do aluno") @PathVariable Long id) {
+        PosicaoRankingResponseDTO response = alunoMapper.toPosicaoResponseDTO(obterPosicaoRankingUseCase.executar(id));
         return ResponseEntity.ok(response);
     }
 }
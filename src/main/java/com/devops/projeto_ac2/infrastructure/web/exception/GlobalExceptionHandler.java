@@ -1,10 +1,13 @@
 package com.devops.projeto_ac2.infrastructure.web.exception;
 
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
 import com.devops.projeto_ac2.domain.exceptions.DomainException;
 import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
 import com.devops.projeto_ac2.domain.exceptions.TentativasEsgotadasException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -80,6 +83,46 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
     
+    /**
+     * Trata conflitos de versão que persistiram após as repetições automáticas
+     * (o aluno foi alterado por outra requisição entre a leitura e a gravação)
+     */
+    @ExceptionHandler({ConflitoConcorrenciaException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConflitoConcorrencia(
+            RuntimeException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflito de concorrência")
+                .message("O aluno foi alterado por outra requisição; tente novamente")
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    /**
+     * Trata violações de constraint do banco (ex.: RA duplicado gravado por requisições concorrentes,
+     * que passaram pela verificação de existência ao mesmo tempo)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflito de dados")
+                .message("Já existe um registro com os mesmos dados únicos (ex.: RA)")
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
     /**
      * Trata exceções gerais de domínio
      */
@@ -0,0 +1,142 @@
+package com.devops.projeto_ac2.infrastructure.web.filtro;
+
+import com.devops.projeto_ac2.infrastructure.persistence.roteamento.ContextoLeitura;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Leitura da própria escrita com réplica de leitura
+ * 
+ * Toda requisição de escrita devolve um cookie com o instante (relógio do servidor) até o qual
+ * o cliente lê do primário; requisições com o cookie ainda válido e a própria requisição de escrita
+ * leem do primário, as demais podem ler da réplica. A janela deve ser maior que a defasagem máxima
+ * aceita da réplica: quando ela expira, a réplica já tem a escrita do cliente
+ * 
+ * O cookie é assinado (HMAC-SHA256 do instante): sem a assinatura, um cliente poderia forjar um instante
+ * distante e prender todas as suas leituras ao primário. Mesmo assinado, um instante além de agora + janela
+ * (chave trocada, relógio ajustado) vale só até lá. Com várias instâncias, todas precisam da mesma chave;
+ * sem chave configurada cada instância sorteia a sua, e um cookie de outra instância vale como ausente
+ * 
+ * - alunos.datasource.replica.janela-escrita-recente: duração da janela após cada escrita
+ * - alunos.datasource.replica.chave-escrita-recente: chave da assinatura do cookie (vazia: sorteada na partida)
+ */
+@Component
+@ConditionalOnProperty(name = "alunos.datasource.replica.habilitada", havingValue = "true")
+public class FiltroEscritaRecente extends OncePerRequestFilter {
+    
+    public static final String COOKIE_ESCRITA_RECENTE = "alunos-escrita-recente";
+    
+    private static final Logger logger = LoggerFactory.getLogger(FiltroEscritaRecente.class);
+    
+    private static final Set<String> METODOS_LEITURA = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    private static final String ALGORITMO_ASSINATURA = "HmacSHA256";
+    
+    private final Duration janela;
+    private final SecretKeySpec chave;
+    
+    public FiltroEscritaRecente(
+            @Value("${alunos.datasource.replica.janela-escrita-recente:5s}") Duration janela,
+            @Value("${alunos.datasource.replica.chave-escrita-recente:}") String chave) {
+        this.janela = janela;
+        byte[] bytesChave;
+        if (chave.isEmpty()) {
+            logger.warn("alunos.datasource.replica.chave-escrita-recente não configurada - chave sorteada: "
+                    + "cookies de escrita recente valem só nesta instância");
+            bytesChave = new byte[32];
+            new SecureRandom().nextBytes(bytesChave);
+        } else {
+            bytesChave = chave.getBytes(StandardCharsets.UTF_8);
+        }
+        this.chave = new SecretKeySpec(bytesChave, ALGORITMO_ASSINATURA);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long agora = System.currentTimeMillis();
+        boolean escrita = !METODOS_LEITURA.contains(request.getMethod());
+        if (escrita) {
+            // Adicionado antes da escrita: depois dela a resposta pode já ter sido enviada
+            String expiracao = Long.toString(agora + janela.toMillis());
+            Cookie cookie = new Cookie(COOKIE_ESCRITA_RECENTE, expiracao + "." + assinar(expiracao));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (janela.toMillis() + 999) / 1000));
+            response.addCookie(cookie);
+        }
+        
+        ContextoLeitura.definir(escrita || escritaRecente(request, agora)
+                ? ContextoLeitura.CLIENTE_COM_ESCRITA_RECENTE
+                : ContextoLeitura.CLIENTE);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ContextoLeitura.limpar();
+        }
+    }
+    
+    private boolean escritaRecente(HttpServletRequest request, long agora) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_ESCRITA_RECENTE.equals(cookie.getName())) {
+                return valido(cookie.getValue(), agora);
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Cookie no formato expiracao.assinatura, com assinatura desta chave e expiração dentro da janela
+     */
+    private boolean valido(String valor, long agora) {
+        int separador = valor.indexOf('.');
+        if (separador < 0) {
+            return false;
+        }
+        String expiracao = valor.substring(0, separador);
+        byte[] assinatura = valor.substring(separador + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(assinatura, assinar(expiracao).getBytes(StandardCharsets.US_ASCII))) {
+            return false;
+        }
+        try {
+            long ate = Long.parseLong(expiracao);
+            return ate > agora && ate <= agora + janela.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    private String assinar(String expiracao) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_ASSINATURA);
+            mac.init(chave);
+            byte[] assinatura = mac.doFinal(expiracao.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(assinatura);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.devops.projeto_ac2.shared.arquivo;
+
+import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escritor incremental de alunos em CSV ou NDJSON
+ * 
+ * Cada aluno é escrito assim que recebido, então exportações de qualquer tamanho
+ * usam apenas o buffer de saída. Os campos são os mesmos de AlunoResponseDTO
+ */
+public class EscritorArquivoAlunos implements Flushable {
+    
+    static final String CABECALHO_CSV = "id,nome,ra,mediaFinal,concluiu,cursosAdicionais,tentativasAvaliacao,"
+            + "tentativasRestantes,situacao,dataCriacao,dataAtualizacao,dataConclusao";
+    
+    // Mesmo padrão de @JsonFormat em AlunoResponseDTO
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    
+    private final BufferedWriter saida;
+    private final FormatoArquivo formato;
+    private final ObjectMapper objectMapper;
+    private long escritos;
+    
+    public EscritorArquivoAlunos(Writer saida, FormatoArquivo formato, ObjectMapper objectMapper) {
+        this.saida = saida instanceof BufferedWriter buffered ? buffered : new BufferedWriter(saida, 64 * 1024);
+        this.formato = formato;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Escreve um aluno (e o cabeçalho, antes do primeiro aluno em CSV)
+     */
+    public void escrever(AlunoResponseDTO aluno) {
+        try {
+            if (formato == FormatoArquivo.NDJSON) {
+                saida.write(objectMapper.writeValueAsString(aluno));
+            } else {
+                if (escritos == 0) {
+                    saida.write(CABECALHO_CSV);
+                    saida.newLine();
+                }
+                saida.write(linhaCsv(aluno));
+            }
+            saida.newLine();
+            escritos++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao escrever aluno " + aluno.getId() + " na exportação", e);
+        }
+    }
+    
+    /**
+     * Quantidade de alunos escritos até agora
+     */
+    public long getEscritos() {
+        return escritos;
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        if (formato == FormatoArquivo.CSV && escritos == 0) {
+            saida.write(CABECALHO_CSV);
+            saida.newLine();
+        }
+        saida.flush();
+    }
+    
+    private String linhaCsv(AlunoResponseDTO aluno) {
+        return String.join(",",
+                String.valueOf(aluno.getId()),
+                campo(aluno.getNome()),
+                campo(aluno.getRa()),
+                String.valueOf(aluno.getMediaFinal()),
+                String.valueOf(aluno.getConcluiu()),
+                String.valueOf(aluno.getCursosAdicionais()),
+                String.valueOf(aluno.getTentativasAvaliacao()),
+                String.valueOf(aluno.getTentativasRestantes()),
+                campo(aluno.getSituacao()),
+                data(aluno.getDataCriacao()),
+                data(aluno.getDataAtualizacao()),
+                data(aluno.getDataConclusao()));
+    }
+    
+    private String data(LocalDateTime data) {
+        return data == null ? "" : FORMATO_DATA.format(data);
+    }
+    
+    private String campo(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,60 @@
+package com.devops.projeto_ac2.shared.arquivo;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+
+import java.util.Locale;
+
+/**
+ * Formatos de arquivo aceitos na importação e exportação de alunos
+ * 
+ * Ambos são orientados a linha, o que permite ler e escrever em streaming,
+ * com memória constante independente do tamanho do arquivo
+ */
+public enum FormatoArquivo {
+    
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+    
+    private final String contentType;
+    
+    FormatoArquivo(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    /**
+     * Resolve o formato pelo nome ("csv", "ndjson")
+     * 
+     * @throws InvalidValueObjectException se o formato não for suportado
+     */
+    public static FormatoArquivo deNome(String nome) {
+        if (nome != null) {
+            for (FormatoArquivo formato : values()) {
+                if (formato.name().equalsIgnoreCase(nome.trim())) {
+                    return formato;
+                }
+            }
+        }
+        throw new InvalidValueObjectException("Formato não suportado: " + nome + " (use csv ou ndjson)");
+    }
+    
+    /**
+     * Resolve o formato pelo Content-Type da requisição ou pela extensão do arquivo
+     * 
+     * @throws InvalidValueObjectException se o formato não for suportado
+     */
+    public static FormatoArquivo deContentTypeOuArquivo(String valor) {
+        if (valor != null) {
+            String normalizado = valor.toLowerCase(Locale.ROOT);
+            for (FormatoArquivo formato : values()) {
+                if (normalizado.startsWith(formato.contentType) || normalizado.endsWith("." + formato.name().toLowerCase(Locale.ROOT))) {
+                    return formato;
+                }
+            }
+        }
+        throw new InvalidValueObjectException("Formato não suportado: " + valor + " (use text/csv ou application/x-ndjson)");
+    }
+}
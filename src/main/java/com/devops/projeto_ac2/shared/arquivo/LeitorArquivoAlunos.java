@@ -0,0 +1,129 @@
+package com.devops.projeto_ac2.shared.arquivo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor incremental de arquivos de alunos (nome, RA) em CSV ou NDJSON
+ * 
+ * Lê o arquivo em blocos de linhas: apenas o bloco corrente fica em memória,
+ * então arquivos com milhões de linhas são processados com memória constante.
+ * Linhas malformadas não interrompem a leitura; viram registros com erro e número da linha
+ * 
+ * CSV: duas colunas (nome,ra), cabeçalho opcional "nome,ra", campos entre aspas duplas aceitos
+ * NDJSON: um objeto JSON por linha, com os campos "nome" e "ra"
+ */
+public class LeitorArquivoAlunos implements Closeable {
+    
+    private static final ObjectMapper JSON = new ObjectMapper();
+    
+    private final BufferedReader leitor;
+    private final FormatoArquivo formato;
+    private long numeroLinha;
+    
+    public LeitorArquivoAlunos(Reader leitor, FormatoArquivo formato) {
+        this.leitor = leitor instanceof BufferedReader buffered ? buffered : new BufferedReader(leitor, 64 * 1024);
+        this.formato = formato;
+    }
+    
+    /**
+     * Lê o próximo bloco de registros, ignorando linhas em branco e o cabeçalho CSV
+     * 
+     * @param tamanhoMaximo quantidade máxima de registros no bloco
+     * @return o bloco lido (vazio quando o arquivo terminou)
+     */
+    public List<RegistroArquivo> lerBloco(int tamanhoMaximo) {
+        List<RegistroArquivo> bloco = new ArrayList<>(tamanhoMaximo);
+        try {
+            String linha;
+            while (bloco.size() < tamanhoMaximo && (linha = leitor.readLine()) != null) {
+                numeroLinha++;
+                if (linha.isBlank() || (numeroLinha == 1 && ehCabecalhoCsv(linha))) {
+                    continue;
+                }
+                bloco.add(formato == FormatoArquivo.CSV ? lerCsv(linha) : lerNdjson(linha));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler arquivo de alunos na linha " + (numeroLinha + 1), e);
+        }
+        return bloco;
+    }
+    
+    /**
+     * Quantidade de linhas lidas até agora (incluindo em branco e cabeçalho)
+     */
+    public long getLinhasLidas() {
+        return numeroLinha;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        leitor.close();
+    }
+    
+    private boolean ehCabecalhoCsv(String linha) {
+        return formato == FormatoArquivo.CSV
+                && linha.replace("\"", "").replace(" ", "").equalsIgnoreCase("nome,ra");
+    }
+    
+    private RegistroArquivo lerCsv(String linha) {
+        List<String> campos = new ArrayList<>(2);
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        
+        if (entreAspas) {
+            return RegistroArquivo.malformado(numeroLinha, "Aspas não fechadas");
+        }
+        if (campos.size() != 2) {
+            return RegistroArquivo.malformado(numeroLinha, "Esperadas 2 colunas (nome,ra), encontradas " + campos.size());
+        }
+        return RegistroArquivo.valido(numeroLinha, campos.get(0).trim(), campos.get(1).trim());
+    }
+    
+    private RegistroArquivo lerNdjson(String linha) {
+        try {
+            JsonNode objeto = JSON.readTree(linha);
+            if (objeto == null || !objeto.isObject()) {
+                return RegistroArquivo.malformado(numeroLinha, "Linha não contém um objeto JSON");
+            }
+            return RegistroArquivo.valido(numeroLinha, texto(objeto, "nome"), texto(objeto, "ra"));
+        } catch (IOException e) {
+            return RegistroArquivo.malformado(numeroLinha, "JSON inválido");
+        }
+    }
+    
+    private String texto(JsonNode objeto, String campo) {
+        JsonNode valor = objeto.get(campo);
+        return valor == null || valor.isNull() ? null : valor.asText();
+    }
+}
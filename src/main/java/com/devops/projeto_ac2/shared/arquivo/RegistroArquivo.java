@@ -0,0 +1,33 @@
+package com.devops.projeto_ac2.shared.arquivo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Registro (nome, RA) lido de uma linha do arquivo de alunos
+ * 
+ * Quando a linha não pode ser interpretada, nome e RA ficam nulos e erro descreve o problema
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RegistroArquivo {
+    
+    private final long numeroLinha;
+    private final String nome;
+    private final String ra;
+    private final String erro;
+    
+    public boolean isMalformado() {
+        return erro != null;
+    }
+    
+    static RegistroArquivo valido(long numeroLinha, String nome, String ra) {
+        return new RegistroArquivo(numeroLinha, nome, ra, null);
+    }
+    
+    static RegistroArquivo malformado(long numeroLinha, String erro) {
+        return new RegistroArquivo(numeroLinha, null, null, erro);
+    }
+}
@@ -1,6 +1,7 @@
 package com.devops.projeto_ac2.shared.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,6 +28,13 @@ public class AlunoResponseDTO {
     private Integer tentativasRestantes;
     private String situacao; // APROVADO, REPROVADO, EM_RECUPERACAO, NAO_CONCLUIDO
     
+    // Preenchidos apenas quando a resposta vem do modelo de leitura (aluno_view)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer posicaoRanking;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer pontosGamificacao;
+    
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
     private LocalDateTime dataCriacao;
     
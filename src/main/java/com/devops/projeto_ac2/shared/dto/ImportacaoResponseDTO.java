@@ -0,0 +1,24 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta da importação de alunos
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoResponseDTO {
+    
+    private Long linhasLidas;
+    private Long importados;
+    private Long rejeitados;
+    private Long duracaoMs;
+    private List<LinhaRejeitadaResponseDTO> rejeicoes; // limitadas às primeiras rejeições
+}
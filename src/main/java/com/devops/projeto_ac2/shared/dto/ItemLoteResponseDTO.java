@@ -0,0 +1,22 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resultado de um item da criação em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemLoteResponseDTO {
+    
+    private Integer indice; // posição do item na requisição
+    private String ra;
+    private Boolean criado;
+    private AlunoResponseDTO aluno; // preenchido quando criado
+    private String erro; // preenchido quando rejeitado
+}
@@ -0,0 +1,20 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para linha rejeitada na importação de alunos
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LinhaRejeitadaResponseDTO {
+    
+    private Long linha; // número da linha no arquivo (1 = primeira)
+    private String ra;
+    private String erro;
+}
@@ -0,0 +1,21 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta da posição de um aluno no ranking
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PosicaoRankingResponseDTO {
+    
+    private Long alunoId;
+    private Integer posicao;
+    private Integer totalAlunos;
+    private Double percentil;
+}
@@ -1,7 +1,19 @@
 package com.devops.projeto_ac2.shared.mapper;
 
+import com.devops.projeto_ac2.application.usecases.CriarAlunosEmLoteUseCase;
+import com.devops.projeto_ac2.application.usecases.ImportarAlunosUseCase;
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.domain.projections.AlunoViewProjecao;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
+import com.devops.projeto_ac2.domain.ranking.PosicaoRanking;
+import com.devops.projeto_ac2.domain.valueobjects.SituacaoAluno;
 import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ImportacaoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ItemLoteResponseDTO;
+import com.devops.projeto_ac2.shared.dto.LinhaRejeitadaResponseDTO;
+import com.devops.projeto_ac2.shared.dto.LoteAlunosResponseDTO;
+import com.devops.projeto_ac2.shared.dto.PosicaoRankingResponseDTO;
 import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
 import org.springframework.stereotype.Component;
 
@@ -32,7 +44,7 @@ public class AlunoMapper {
                 .cursosAdicionais(aluno.getCursosAdicionais())
                 .tentativasAvaliacao(aluno.getTentativasAvaliacao())
                 .tentativasRestantes(aluno.tentativasRestantes())
-                .situacao(determinarSituacao(aluno))
+                .situacao(determinarSituacao(aluno.isConcluiu(), aluno.getMediaFinal()))
                 .dataCriacao(aluno.getDataCriacao())
                 .dataAtualizacao(aluno.getDataAtualizacao())
                 .dataConclusao(aluno.getDataConclusao())
@@ -40,50 +52,152 @@ public class AlunoMapper {
     }
     
     /**
-     * Converte lista de Alunos para lista de RankingResponseDTO com posições
+     * Converte a projeção somente leitura de Aluno para AlunoResponseDTO
+     * Produz o mesmo JSON da conversão a partir da entidade
      */
-    public List<RankingResponseDTO> toRankingResponseDTOList(List<Aluno> alunos) {
+    public AlunoResponseDTO toResponseDTO(AlunoProjecao aluno) {
+        if (aluno == null) {
+            return null;
+        }
+        
+        return AlunoResponseDTO.builder()
+                .id(aluno.getId())
+                .nome(aluno.getNome())
+                .ra(aluno.getRa())
+                .mediaFinal(aluno.getMediaFinal())
+                .concluiu(aluno.getConcluiu())
+                .cursosAdicionais(aluno.getCursosAdicionais())
+                .tentativasAvaliacao(aluno.getTentativasAvaliacao())
+                .tentativasRestantes(aluno.tentativasRestantes())
+                .situacao(determinarSituacao(aluno.getConcluiu(), aluno.getMediaFinal()))
+                .dataCriacao(aluno.getDataCriacao())
+                .dataAtualizacao(aluno.getDataAtualizacao())
+                .dataConclusao(aluno.getDataConclusao())
+                .build();
+    }
+    
+    /**
+     * Converte uma linha do modelo de leitura (aluno_view) para AlunoResponseDTO
+     * A situação já vem calculada e a resposta inclui posição no ranking e pontos de gamificação
+     */
+    public AlunoResponseDTO toResponseDTO(AlunoViewProjecao aluno) {
+        if (aluno == null) {
+            return null;
+        }
+        
+        return AlunoResponseDTO.builder()
+                .id(aluno.getId())
+                .nome(aluno.getNome())
+                .ra(aluno.getRa())
+                .mediaFinal(aluno.getMediaFinal())
+                .concluiu(aluno.getConcluiu())
+                .cursosAdicionais(aluno.getCursosAdicionais())
+                .tentativasAvaliacao(aluno.getTentativasAvaliacao())
+                .tentativasRestantes(aluno.tentativasRestantes())
+                .situacao(aluno.getSituacao().name())
+                .posicaoRanking(aluno.getPosicaoRanking())
+                .pontosGamificacao(aluno.getPontosGamificacao())
+                .dataCriacao(aluno.getDataCriacao())
+                .dataAtualizacao(aluno.getDataAtualizacao())
+                .dataConclusao(aluno.getDataConclusao())
+                .build();
+    }
+    
+    /**
+     * Converte lista de projeções do ranking para lista de RankingResponseDTO com posições
+     */
+    public List<RankingResponseDTO> toRankingResponseDTOList(List<RankingAlunoProjecao> alunos) {
+        return toRankingResponseDTOList(alunos, 1);
+    }
+    
+    /**
+     * Converte uma faixa do ranking para RankingResponseDTO, numerando a partir da posição inicial
+     */
+    public List<RankingResponseDTO> toRankingResponseDTOList(List<RankingAlunoProjecao> alunos, int posicaoInicial) {
         if (alunos == null) {
             return List.of();
         }
         
         return IntStream.range(0, alunos.size())
-                .mapToObj(i -> toRankingResponseDTO(alunos.get(i), i + 1))
+                .mapToObj(i -> toRankingResponseDTO(alunos.get(i), posicaoInicial + i))
                 .collect(Collectors.toList());
     }
     
     /**
-     * Converte Aluno entity para RankingResponseDTO
+     * Converte a projeção do ranking para RankingResponseDTO
      */
-    private RankingResponseDTO toRankingResponseDTO(Aluno aluno, int posicao) {
+    public RankingResponseDTO toRankingResponseDTO(RankingAlunoProjecao aluno, int posicao) {
         return RankingResponseDTO.builder()
                 .posicao(posicao)
                 .alunoId(aluno.getId())
                 .nome(aluno.getNome())
-                .ra(aluno.getRegistroAcademico().getValor())
+                .ra(aluno.getRa())
                 .mediaFinal(aluno.getMediaFinal())
                 .cursosAdicionais(aluno.getCursosAdicionais())
-                .concluiu(aluno.isConcluiu())
-                .situacao(determinarSituacao(aluno))
+                .concluiu(aluno.getConcluiu())
+                .situacao(determinarSituacao(aluno.getConcluiu(), aluno.getMediaFinal()))
                 .build();
     }
     
-    private String determinarSituacao(Aluno aluno) {
-        if (!aluno.isConcluiu()) {
-            if (aluno.emRecuperacao()) {
-                return "EM_RECUPERACAO";
-            }
-            return "NAO_CONCLUIDO";
-        }
-        
-        if (aluno.aprovado()) {
-            return "APROVADO";
-        }
-        
-        if (aluno.reprovado()) {
-            return "REPROVADO";
-        }
+    /**
+     * Converte PosicaoRanking para PosicaoRankingResponseDTO
+     */
+    public PosicaoRankingResponseDTO toPosicaoResponseDTO(PosicaoRanking posicao) {
+        return PosicaoRankingResponseDTO.builder()
+                .alunoId(posicao.getAlunoId())
+                .posicao(posicao.getPosicao())
+                .totalAlunos(posicao.getTotalAlunos())
+                .percentil(posicao.percentil())
+                .build();
+    }
+    
+    /**
+     * Converte os resultados da criação em lote para LoteAlunosResponseDTO
+     */
+    public LoteAlunosResponseDTO toLoteResponseDTO(List<CriarAlunosEmLoteUseCase.ResultadoItem> resultados) {
+        List<ItemLoteResponseDTO> itens = resultados.stream()
+                .map(resultado -> ItemLoteResponseDTO.builder()
+                        .indice(resultado.getIndice())
+                        .ra(resultado.getRa())
+                        .criado(resultado.isCriado())
+                        .aluno(toResponseDTO(resultado.getAluno()))
+                        .erro(resultado.getErro())
+                        .build())
+                .collect(Collectors.toList());
+        int criados = (int) resultados.stream().filter(CriarAlunosEmLoteUseCase.ResultadoItem::isCriado).count();
         
-        return "EM_RECUPERACAO";
+        return LoteAlunosResponseDTO.builder()
+                .total(resultados.size())
+                .criados(criados)
+                .rejeitados(resultados.size() - criados)
+                .itens(itens)
+                .build();
+    }
+    
+    /**
+     * Converte o resultado da importação para ImportacaoResponseDTO
+     */
+    public ImportacaoResponseDTO toImportacaoResponseDTO(ImportarAlunosUseCase.Resultado resultado) {
+        return ImportacaoResponseDTO.builder()
+                .linhasLidas(resultado.getLinhasLidas())
+                .importados(resultado.getImportados())
+                .rejeitados(resultado.getRejeitados())
+                .duracaoMs(resultado.getDuracaoMs())
+                .rejeicoes(resultado.getRejeicoes().stream()
+                        .map(rejeicao -> LinhaRejeitadaResponseDTO.builder()
+                                .linha(rejeicao.getLinha())
+                                .ra(rejeicao.getRa())
+                                .erro(rejeicao.getErro())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+    
+    /**
+     * Mesmas regras de {@link Aluno#aprovado()}, {@link Aluno#reprovado()} e {@link Aluno#emRecuperacao()},
+     * aplicadas sobre os valores para servir tanto a entidade quanto as projeções (ver {@link SituacaoAluno})
+     */
+    private String determinarSituacao(boolean concluiu, double mediaFinal) {
+        return SituacaoAluno.de(concluiu, mediaFinal).name();
     }
 }
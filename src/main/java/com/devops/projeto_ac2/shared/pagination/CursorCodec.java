@@ -0,0 +1,44 @@
+package com.devops.projeto_ac2.shared.pagination;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica/decodifica o cursor opaco da paginação keyset
+ * O cursor carrega apenas o ID do último aluno entregue (chave de ordenação)
+ */
+public final class CursorCodec {
+    
+    private static final String PREFIXO = "id:";
+    
+    private CursorCodec() {}
+    
+    public static String codificar(Long ultimoId) {
+        if (ultimoId == null) {
+            return null;
+        }
+        byte[] bytes = (PREFIXO + ultimoId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+    
+    /**
+     * @return o ID contido no cursor, ou null se o cursor estiver ausente (primeira página)
+     * @throws InvalidValueObjectException se o cursor não foi gerado por esta API
+     */
+    public static Long decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!valor.startsWith(PREFIXO)) {
+                throw new InvalidValueObjectException("Cursor de paginação inválido");
+            }
+            return Long.parseLong(valor.substring(PREFIXO.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueObjectException("Cursor de paginação inválido");
+        }
+    }
+}
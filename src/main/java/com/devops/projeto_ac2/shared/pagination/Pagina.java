@@ -0,0 +1,32 @@
+package com.devops.projeto_ac2.shared.pagination;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Página de resultados de uma listagem paginada por cursor (keyset)
+ * 
+ * O cursor é opaco para o cliente: basta reenviá-lo na próxima chamada
+ * para continuar a leitura a partir do último item recebido
+ */
+@Getter
+@ToString
+public class Pagina<T> {
+    
+    private final List<T> itens;
+    private final String proximoCursor;
+    
+    public Pagina(List<T> itens, String proximoCursor) {
+        this.itens = List.copyOf(itens);
+        this.proximoCursor = proximoCursor;
+    }
+    
+    /**
+     * Indica se existem mais itens após esta página
+     */
+    public boolean temProxima() {
+        return proximoCursor != null;
+    }
+}
@@ -0,0 +1,45 @@
+-- ========================================
+-- ESQUEMA INICIAL
+-- Tabelas como eram criadas pelo Hibernate (ddl-auto), apenas com PK e RA único
+-- ========================================
+
+-- IDs alocados em blocos de 50 pelo Hibernate (ver Aluno)
+CREATE SEQUENCE seq_alunos START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tb_alunos (
+    id                   BIGINT           NOT NULL,
+    nome                 VARCHAR(100)     NOT NULL,
+    ra                   VARCHAR(20)      NOT NULL,
+    media_final          DOUBLE PRECISION NOT NULL,
+    concluiu             BOOLEAN          NOT NULL,
+    cursos_adicionais    INTEGER          NOT NULL,
+    tentativas_avaliacao INTEGER          NOT NULL,
+    data_criacao         TIMESTAMP(6)     NOT NULL,
+    data_atualizacao     TIMESTAMP(6),
+    data_conclusao       TIMESTAMP(6),
+    -- Concorrência otimista (@Version)
+    versao               BIGINT           DEFAULT 0 NOT NULL,
+    -- Coluna do mapeamento legado (entity.Aluno / AlunoRA), não usada pela API
+    registro_matricula   VARCHAR(255),
+    CONSTRAINT pk_tb_alunos PRIMARY KEY (id),
+    CONSTRAINT uk_tb_alunos_ra UNIQUE (ra)
+);
+
+-- Modelo de leitura mantido pelos eventos do aluno (ProjetorAlunoView)
+CREATE TABLE aluno_view (
+    aluno_id             BIGINT           NOT NULL,
+    nome                 VARCHAR(100)     NOT NULL,
+    ra                   VARCHAR(20)      NOT NULL,
+    media_final          DOUBLE PRECISION NOT NULL,
+    concluiu             BOOLEAN          NOT NULL,
+    cursos_adicionais    INTEGER          NOT NULL,
+    tentativas_avaliacao INTEGER          NOT NULL,
+    situacao             ENUM('APROVADO', 'EM_RECUPERACAO', 'NAO_CONCLUIDO', 'REPROVADO') NOT NULL,
+    chave_ranking        BIGINT           NOT NULL,
+    posicao_ranking      INTEGER          NOT NULL,
+    pontos_gamificacao   INTEGER          NOT NULL,
+    data_criacao         TIMESTAMP(6),
+    data_atualizacao     TIMESTAMP(6),
+    data_conclusao       TIMESTAMP(6),
+    CONSTRAINT pk_aluno_view PRIMARY KEY (aluno_id)
+);
@@ -0,0 +1,20 @@
+-- ========================================
+-- ÍNDICES DAS CONSULTAS
+-- Cada consulta do AlunoJpaRepository precisa de um índice (PlanosConsultaIntegrationTest)
+-- ========================================
+
+-- Listagens por conclusão (WHERE concluiu = ?) e paginação keyset filtrada
+-- (WHERE concluiu = ? AND id > ? ORDER BY id)
+CREATE INDEX idx_alunos_concluiu_id ON tb_alunos (concluiu, id);
+
+-- Ranking (ORDER BY media_final DESC, cursos_adicionais DESC, id): o top N lê só N entradas;
+-- também cobre a leitura das colunas da chave de ranking sem ir à tabela
+CREATE INDEX idx_alunos_ranking ON tb_alunos (media_final DESC, cursos_adicionais DESC, id);
+
+-- aluno_view: listagem paginada (keyset) com e sem filtro de conclusão
+CREATE INDEX idx_aluno_view_concluiu_id ON aluno_view (concluiu, aluno_id);
+
+-- aluno_view: deslocamento de posições, só a faixa de chaves entre a posição antiga e a nova
+CREATE INDEX idx_aluno_view_chave_ranking ON aluno_view (chave_ranking);
+
+CREATE INDEX idx_aluno_view_situacao_id ON aluno_view (situacao, aluno_id);
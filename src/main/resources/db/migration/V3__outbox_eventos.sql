@@ -0,0 +1,22 @@
+-- ========================================
+-- OUTBOX DE EVENTOS
+-- Eventos gravados na mesma transação da mudança do aluno e enviados ao broker pelo RelayOutbox
+-- ========================================
+
+-- IDs alocados em blocos de 50 pelo Hibernate (ver EventoOutbox); a ordem dos IDs é a ordem de envio
+CREATE SEQUENCE seq_outbox_eventos START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_eventos (
+    id                   BIGINT           NOT NULL,
+    routing_key          VARCHAR(50)      NOT NULL,
+    event_id             VARCHAR(36)      NOT NULL,
+    payload              VARCHAR(4000)    NOT NULL,
+    criado_em            TIMESTAMP(6)     NOT NULL,
+    -- Nulo enquanto o evento não foi confirmado pelo broker
+    enviado_em           TIMESTAMP(6),
+    CONSTRAINT pk_outbox_eventos PRIMARY KEY (id)
+);
+
+-- Pendentes em ordem de envio (WHERE enviado_em IS NULL ORDER BY id) e limpeza dos já enviados
+-- (WHERE enviado_em < ?)
+CREATE INDEX idx_outbox_eventos_enviado_id ON outbox_eventos (enviado_em, id);
@@ -0,0 +1,9 @@
+-- ========================================
+-- MÉDIA FINAL EM CENTÉSIMOS
+-- A MediaFinal passou a arredondar para centésimos, a precisão da chave do ranking em memória;
+-- médias gravadas antes com mais casas são arredondadas para o banco ordenar como a chave
+-- ========================================
+
+UPDATE tb_alunos SET media_final = ROUND(media_final, 2) WHERE media_final <> ROUND(media_final, 2);
+
+UPDATE aluno_view SET media_final = ROUND(media_final, 2) WHERE media_final <> ROUND(media_final, 2);
@@ -0,0 +1,11 @@
+-- ========================================
+-- ALUNO_VIEW SEM POSIÇÃO GRAVADA
+-- A posição no ranking passa a ser calculada na leitura (IndiceRanking): gravada em cada linha,
+-- cada evento reescrevia a posição de todos os alunos entre a chave antiga e a nova
+-- ========================================
+
+DROP INDEX idx_aluno_view_chave_ranking;
+
+ALTER TABLE aluno_view DROP COLUMN posicao_ranking;
+
+ALTER TABLE aluno_view DROP COLUMN chave_ranking;
@@ -0,0 +1,9 @@
+-- ========================================
+-- REIVINDICAÇÃO DOS EVENTOS DO OUTBOX
+-- Cada relay reivindica o lote antes de enviá-lo, para que duas instâncias não enviem os mesmos eventos
+-- ========================================
+
+-- Instância que reivindicou o evento e até quando; vencido o prazo, outra instância pode reivindicá-lo
+ALTER TABLE outbox_eventos ADD COLUMN reivindicado_por VARCHAR(36);
+
+ALTER TABLE outbox_eventos ADD COLUMN reivindicado_ate TIMESTAMP(6);
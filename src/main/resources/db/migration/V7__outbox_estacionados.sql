@@ -0,0 +1,7 @@
+-- ========================================
+-- EVENTOS ESTACIONADOS DO OUTBOX
+-- Eventos que o relay não consegue ler (routing key desconhecida ou payload inválido) saem da fila
+-- de envio e ficam guardados para inspeção, sem bloquear os eventos seguintes
+-- ========================================
+
+ALTER TABLE outbox_eventos ADD COLUMN estacionado_em TIMESTAMP(6);
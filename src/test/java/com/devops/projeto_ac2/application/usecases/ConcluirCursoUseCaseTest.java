@@ -2,8 +2,10 @@ package com.devops.projeto_ac2.application.usecases;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
 import com.devops.projeto_ac2.domain.ports.EventPublisher;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
 import org.junit.jupiter.api.DisplayName;
@@ -45,7 +47,7 @@ class ConcluirCursoUseCaseTest {
         Aluno aluno = criarAlunoTeste(alunoId);
         
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(alunoRepository.salvarConclusao(any(Aluno.class))).thenReturn(true);
         
         // Act
         Aluno resultado = useCase.executar(alunoId, mediaFinal);
@@ -57,7 +59,7 @@ class ConcluirCursoUseCaseTest {
         assertThat(resultado.getDataConclusao()).isNotNull();
         
         verify(alunoRepository, times(1)).buscarPorId(alunoId);
-        verify(alunoRepository, times(1)).salvar(aluno);
+        verify(alunoRepository, times(1)).salvarConclusao(aluno);
     }
     
     @Test
@@ -70,7 +72,7 @@ class ConcluirCursoUseCaseTest {
         Aluno aluno = criarAlunoTeste(alunoId);
         
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(alunoRepository.salvarConclusao(any(Aluno.class))).thenReturn(true);
         
         // Act
         Aluno resultado = useCase.executar(alunoId, mediaFinal);
@@ -81,7 +83,7 @@ class ConcluirCursoUseCaseTest {
         assertThat(resultado.getCursosAdicionais()).isEqualTo(0);
         
         verify(alunoRepository, times(1)).buscarPorId(alunoId);
-        verify(alunoRepository, times(1)).salvar(aluno);
+        verify(alunoRepository, times(1)).salvarConclusao(aluno);
     }
     
     @Test
@@ -99,7 +101,7 @@ class ConcluirCursoUseCaseTest {
                 .hasMessage("Aluno não encontrado com ID: " + alunoId);
         
         verify(alunoRepository, times(1)).buscarPorId(alunoId);
-        verify(alunoRepository, never()).salvar(any());
+        verify(alunoRepository, never()).salvarConclusao(any());
     }
     
     @Test
@@ -117,7 +119,25 @@ class ConcluirCursoUseCaseTest {
         assertThatThrownBy(() -> useCase.executar(alunoId, mediaInvalida))
                 .isInstanceOf(Exception.class);
         
-        verify(alunoRepository, never()).salvar(any());
+        verify(alunoRepository, never()).salvarConclusao(any());
+    }
+    
+    @Test
+    @DisplayName("Deve lançar conflito sem publicar evento quando o aluno mudou desde a leitura")
+    void deveLancarConflitoQuandoPerdeDisputa() {
+        // Arrange - outra requisição gravou o aluno entre a leitura e o UPDATE (versão diferente)
+        Long alunoId = 1L;
+        Aluno aluno = criarAlunoTeste(alunoId);
+        aluno.registrarTentativa(MediaFinal.criar(8.0));
+        
+        when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
+        when(alunoRepository.salvarConclusao(any(Aluno.class))).thenReturn(false);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(alunoId, 8.0))
+                .isInstanceOf(ConflitoConcorrenciaException.class);
+        
+        verify(eventPublisher, never()).publicarAlunoConcluido(any());
     }
     
     private Aluno criarAlunoTeste(Long id) {
@@ -59,7 +59,7 @@ class ConcluirCursoUseCaseTestComMensageria {
         );
         
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenReturn(aluno);
+        when(alunoRepository.salvarConclusao(any(Aluno.class))).thenReturn(true);
         
         // Act
         Aluno resultado = useCase.executar(alunoId, mediaFinal);
@@ -94,7 +94,7 @@ class ConcluirCursoUseCaseTestComMensageria {
         );
         
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenReturn(aluno);
+        when(alunoRepository.salvarConclusao(any(Aluno.class))).thenReturn(true);
         
         // Act
         Aluno resultado = useCase.executar(alunoId, mediaFinal);
@@ -142,7 +142,7 @@ class ConcluirCursoUseCaseTestComMensageria {
         );
         
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenReturn(aluno);
+        when(alunoRepository.salvarConclusao(any(Aluno.class))).thenReturn(true);
         
         // Act
         useCase.executar(alunoId, mediaFinal);
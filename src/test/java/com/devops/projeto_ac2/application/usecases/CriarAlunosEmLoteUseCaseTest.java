@@ -0,0 +1,93 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.shared.dto.CriarAlunoRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CriarAlunosEmLoteUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Criar Alunos em Lote")
+class CriarAlunosEmLoteUseCaseTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private EventPublisher eventPublisher;
+    
+    @InjectMocks
+    private CriarAlunosEmLoteUseCase useCase;
+    
+    @Test
+    @DisplayName("Deve criar os válidos e rejeitar individualmente inválidos, repetidos e existentes")
+    @SuppressWarnings("unchecked")
+    void deveCriarValidosERejeitarIndividualmente() {
+        // Arrange
+        List<CriarAlunoRequestDTO> itens = List.of(
+                new CriarAlunoRequestDTO("João Silva", "11111"),
+                new CriarAlunoRequestDTO("Jo", "22222"),           // nome inválido
+                new CriarAlunoRequestDTO("Maria Santos", "33333"), // já cadastrado
+                new CriarAlunoRequestDTO("Pedro Souza", "11111"),  // repetido no lote
+                new CriarAlunoRequestDTO("Ana Lima", "44444"));
+        
+        when(alunoRepository.buscarRAsExistentes(anyCollection())).thenReturn(Set.of("33333"));
+        when(alunoRepository.salvarTodos(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        List<CriarAlunosEmLoteUseCase.ResultadoItem> resultados = useCase.executar(itens);
+        
+        // Assert
+        assertThat(resultados).extracting(CriarAlunosEmLoteUseCase.ResultadoItem::isCriado)
+                .containsExactly(true, false, false, false, true);
+        assertThat(resultados.get(1).getErro()).isEqualTo("Nome deve ter no mínimo 3 caracteres");
+        assertThat(resultados.get(2).getErro()).contains("Já existe um aluno cadastrado com o RA: 33333");
+        assertThat(resultados.get(3).getErro()).isEqualTo("RA repetido no lote: 11111");
+        
+        // Uma única consulta de RAs e uma única gravação em lote
+        verify(alunoRepository, times(1)).buscarRAsExistentes(anyCollection());
+        verify(alunoRepository, never()).existePorRA(anyString());
+        
+        ArgumentCaptor<List<Aluno>> salvos = ArgumentCaptor.forClass(List.class);
+        verify(alunoRepository, times(1)).salvarTodos(salvos.capture());
+        assertThat(salvos.getValue()).extracting(Aluno::getNome).containsExactly("João Silva", "Ana Lima");
+        
+        ArgumentCaptor<List<AlunoCriadoEvent>> eventos = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher, times(1)).publicarAlunosCriados(eventos.capture());
+        assertThat(eventos.getValue()).extracting(AlunoCriadoEvent::getRegistroAcademico)
+                .containsExactly("11111", "44444");
+        verify(eventPublisher, never()).publicarAlunoCriado(any());
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando o lote é vazio ou excede o tamanho máximo")
+    void deveLancarExcecaoQuandoLoteInvalido() {
+        assertThatThrownBy(() -> useCase.executar(List.of()))
+                .isInstanceOf(InvalidValueObjectException.class);
+        
+        List<CriarAlunoRequestDTO> grande = java.util.Collections.nCopies(
+                CriarAlunosEmLoteUseCase.TAMANHO_MAXIMO_LOTE + 1, new CriarAlunoRequestDTO("João Silva", "11111"));
+        assertThatThrownBy(() -> useCase.executar(grande))
+                .isInstanceOf(InvalidValueObjectException.class);
+        
+        verifyNoInteractions(alunoRepository, eventPublisher);
+    }
+}
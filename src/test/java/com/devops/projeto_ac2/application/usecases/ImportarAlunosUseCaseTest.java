@@ -0,0 +1,77 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.shared.arquivo.FormatoArquivo;
+import com.devops.projeto_ac2.shared.dto.CriarAlunoRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ImportarAlunosUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Importar Alunos")
+class ImportarAlunosUseCaseTest {
+    
+    @Mock
+    private CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase;
+    
+    @InjectMocks
+    private ImportarAlunosUseCase useCase;
+    
+    @Test
+    @DisplayName("Deve gravar em blocos e reportar rejeições com o número da linha")
+    void deveImportarEmBlocos() {
+        // Arrange - 2.500 linhas válidas, uma malformada; o RA 00005 já existe
+        StringBuilder csv = new StringBuilder("nome,ra\n");
+        for (int i = 0; i < 2500; i++) {
+            csv.append("Aluno Importado,RA").append(String.format("%05d", i)).append('\n');
+        }
+        csv.append("linha sem ra\n");
+        
+        when(criarAlunosEmLoteUseCase.executar(anyList())).thenAnswer(invocation -> {
+            List<CriarAlunoRequestDTO> itens = invocation.getArgument(0);
+            return IntStream.range(0, itens.size())
+                    .mapToObj(i -> "RA00005".equals(itens.get(i).getRa())
+                            ? new CriarAlunosEmLoteUseCase.ResultadoItem(i, itens.get(i).getRa(), null, "RA existente")
+                            : new CriarAlunosEmLoteUseCase.ResultadoItem(i, itens.get(i).getRa(), criarAluno(itens.get(i)), null))
+                    .toList();
+        });
+        List<ImportarAlunosUseCase.Progresso> andamento = new ArrayList<>();
+        
+        // Act
+        ImportarAlunosUseCase.Resultado resultado = useCase.executar(
+                new StringReader(csv.toString()), FormatoArquivo.CSV, andamento::add);
+        
+        // Assert
+        assertThat(resultado.getLinhasLidas()).isEqualTo(2502);
+        assertThat(resultado.getImportados()).isEqualTo(2499);
+        assertThat(resultado.getRejeitados()).isEqualTo(2);
+        assertThat(resultado.getRejeicoes()).extracting(ImportarAlunosUseCase.LinhaRejeitada::getLinha)
+                .containsExactly(7L, 2502L);
+        
+        // Um lote (uma transação) por bloco, e um aviso de progresso por bloco
+        verify(criarAlunosEmLoteUseCase, times(3)).executar(anyList());
+        assertThat(andamento).hasSize(3);
+        assertThat(andamento.get(0).getImportados()).isEqualTo(999);
+    }
+    
+    private Aluno criarAluno(CriarAlunoRequestDTO item) {
+        return Aluno.criar(NomeAluno.criar(item.getNome()), RegistroAcademico.criar(item.getRa()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.projections.AlunoProjecao;
+import com.devops.projeto_ac2.domain.projections.AlunoViewProjecao;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.AlunoViewRepository;
+import com.devops.projeto_ac2.domain.valueobjects.SituacaoAluno;
+import com.devops.projeto_ac2.shared.pagination.CursorCodec;
+import com.devops.projeto_ac2.shared.pagination.Pagina;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ListarAlunosUseCase (paginação por cursor)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Listar Alunos")
+class ListarAlunosUseCaseTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private AlunoViewRepository alunoViewRepository;
+    
+    @InjectMocks
+    private ListarAlunosUseCase useCase;
+    
+    @Test
+    @DisplayName("Deve retornar primeira página com cursor quando existem mais alunos")
+    void deveRetornarPrimeiraPaginaComCursor() {
+        // Arrange - repositório devolve limite + 1 para sinalizar próxima página
+        when(alunoRepository.buscarPagina(null, 3))
+                .thenReturn(List.of(criarAluno(1L, "11111"), criarAluno(2L, "22222"), criarAluno(3L, "33333")));
+        
+        // Act
+        Pagina<AlunoProjecao> pagina = useCase.executarPaginado(null, null, 2);
+        
+        // Assert
+        assertThat(pagina.getItens()).extracting(AlunoProjecao::getId).containsExactly(1L, 2L);
+        assertThat(pagina.temProxima()).isTrue();
+        assertThat(CursorCodec.decodificar(pagina.getProximoCursor())).isEqualTo(2L);
+    }
+    
+    @Test
+    @DisplayName("Deve continuar a partir do cursor e encerrar na última página")
+    void deveContinuarAPartirDoCursor() {
+        // Arrange
+        String cursor = CursorCodec.codificar(2L);
+        when(alunoRepository.buscarPagina(2L, 3)).thenReturn(List.of(criarAluno(3L, "33333")));
+        
+        // Act
+        Pagina<AlunoProjecao> pagina = useCase.executarPaginado(null, cursor, 2);
+        
+        // Assert
+        assertThat(pagina.getItens()).extracting(AlunoProjecao::getId).containsExactly(3L);
+        assertThat(pagina.temProxima()).isFalse();
+        assertThat(pagina.getProximoCursor()).isNull();
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar filtro de conclusão na busca paginada")
+    void deveAplicarFiltroDeConclusao() {
+        // Arrange
+        when(alunoRepository.buscarPaginaPorConclusao(true, null, 11)).thenReturn(List.of());
+        
+        // Act
+        Pagina<AlunoProjecao> pagina = useCase.executarPaginado(true, null, 10);
+        
+        // Assert
+        assertThat(pagina.getItens()).isEmpty();
+        verify(alunoRepository).buscarPaginaPorConclusao(true, null, 11);
+        verify(alunoRepository, never()).buscarPagina(any(), anyInt());
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando limite ou cursor são inválidos")
+    void deveLancarExcecaoQuandoParametrosInvalidos() {
+        assertThatThrownBy(() -> useCase.executarPaginado(null, null, 0))
+                .isInstanceOf(InvalidValueObjectException.class);
+        
+        assertThatThrownBy(() -> useCase.executarPaginado(null, null, ListarAlunosUseCase.LIMITE_MAXIMO + 1))
+                .isInstanceOf(InvalidValueObjectException.class);
+        
+        assertThatThrownBy(() -> useCase.executarPaginado(null, "cursor-invalido", 10))
+                .isInstanceOf(InvalidValueObjectException.class)
+                .hasMessage("Cursor de paginação inválido");
+    }
+    
+    @Test
+    @DisplayName("Deve paginar o modelo de leitura com o mesmo cursor da listagem")
+    void devePaginarModeloDeLeitura() {
+        // Arrange
+        LocalDateTime agora = LocalDateTime.now();
+        when(alunoViewRepository.buscarPagina(false, 2L, 2)).thenReturn(List.of(
+                new AlunoViewProjecao(3L, "Aluno Teste", "33333", 6.0, false, 0, 1,
+                        SituacaoAluno.EM_RECUPERACAO, 1, 0, agora, agora, null),
+                new AlunoViewProjecao(4L, "Aluno Teste", "44444", 0.0, false, 0, 0,
+                        SituacaoAluno.NAO_CONCLUIDO, 2, 0, agora, agora, null)));
+        
+        // Act
+        Pagina<AlunoViewProjecao> pagina = useCase.executarPaginadoView(false, CursorCodec.codificar(2L), 1);
+        
+        // Assert
+        assertThat(pagina.getItens()).extracting(AlunoViewProjecao::getPosicaoRanking).containsExactly(1);
+        assertThat(CursorCodec.decodificar(pagina.getProximoCursor())).isEqualTo(3L);
+        verifyNoInteractions(alunoRepository);
+    }
+    
+    private AlunoProjecao criarAluno(Long id, String ra) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new AlunoProjecao(id, "Aluno Teste", ra, 0.0, false, 0, 0, agora, agora, null, 0L);
+    }
+}
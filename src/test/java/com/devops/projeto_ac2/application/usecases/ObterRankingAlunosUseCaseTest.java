@@ -1,10 +1,9 @@
 package com.devops.projeto_ac2.application.usecases;
 
-import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.ports.IndiceRanking;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
-import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
-import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
-import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,50 +27,50 @@ class ObterRankingAlunosUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
+    @Mock
+    private IndiceRanking indiceRanking;
+    
     @InjectMocks
     private ObterRankingAlunosUseCase useCase;
     
     @Test
-    @DisplayName("Deve retornar ranking ordenado por média final")
+    @DisplayName("Deve delegar o ranking completo ao repositório")
     void deveRetornarRankingOrdenado() {
-        // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "111", 8.5);
-        Aluno aluno2 = criarAlunoComMedia("Maria", "222", 9.5);
-        Aluno aluno3 = criarAlunoComMedia("Pedro", "333", 7.0);
+        // Arrange - a ordenação é responsabilidade do banco
+        RankingAlunoProjecao aluno1 = criarAlunoComMedia("Maria", "22222", 9.5);
+        RankingAlunoProjecao aluno2 = criarAlunoComMedia("João", "11111", 8.5);
+        RankingAlunoProjecao aluno3 = criarAlunoComMedia("Pedro", "33333", 7.0);
         
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
+        when(alunoRepository.buscarRanking(0)).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
         
         // Act
-        List<Aluno> ranking = useCase.executar();
+        List<RankingAlunoProjecao> ranking = useCase.executar();
         
         // Assert
-        assertThat(ranking).hasSize(3);
-        assertThat(ranking.get(0).getNome()).isEqualTo("Maria"); 
-        assertThat(ranking.get(1).getNome()).isEqualTo("João");  
-        assertThat(ranking.get(2).getNome()).isEqualTo("Pedro"); 
-        
-        verify(alunoRepository, times(1)).buscarTodos();
+        assertThat(ranking).containsExactly(aluno1, aluno2, aluno3);
+        verify(alunoRepository, times(1)).buscarRanking(0);
+        verify(alunoRepository, never()).buscarTodos();
     }
     
     @Test
-    @DisplayName("Deve retornar top N alunos")
+    @DisplayName("Deve retornar top N alunos aplicando o limite no repositório")
     void deveRetornarTopN() {
         // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "111", 8.5);
-        Aluno aluno2 = criarAlunoComMedia("Maria", "222", 9.5);
-        Aluno aluno3 = criarAlunoComMedia("Pedro", "333", 7.0);
+        RankingAlunoProjecao aluno1 = criarAlunoComMedia("Maria", "22222", 9.5);
+        RankingAlunoProjecao aluno2 = criarAlunoComMedia("João", "11111", 8.5);
         
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
+        when(alunoRepository.buscarRanking(2)).thenReturn(Arrays.asList(aluno1, aluno2));
         
         // Act
-        List<Aluno> top2 = useCase.executarTop(2);
+        List<RankingAlunoProjecao> top2 = useCase.executarTop(2);
         
         // Assert
         assertThat(top2).hasSize(2);
         assertThat(top2.get(0).getNome()).isEqualTo("Maria");
         assertThat(top2.get(1).getNome()).isEqualTo("João");
         
-        verify(alunoRepository, times(1)).buscarTodos();
+        verify(alunoRepository, times(1)).buscarRanking(2);
+        verify(alunoRepository, never()).buscarTodos();
     }
     
     @Test
@@ -85,65 +84,84 @@ class ObterRankingAlunosUseCaseTest {
         assertThatThrownBy(() -> useCase.executarTop(-1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Limite deve ser maior que zero");
+        
+        verifyNoInteractions(alunoRepository);
     }
     
     @Test
     @DisplayName("Deve retornar ranking apenas de aprovados")
     void deveRetornarRankingAprovados() {
         // Arrange
-        Aluno aprovado1 = criarAlunoConcluidoComMedia("João", "111", 8.5);
-        Aluno aprovado2 = criarAlunoConcluidoComMedia("Maria", "222", 9.5);
-        Aluno reprovado = criarAlunoConcluidoComMedia("Pedro", "333", 4.0);
+        RankingAlunoProjecao aprovado1 = criarAlunoConcluidoComMedia("Maria", "22222", 9.5);
+        RankingAlunoProjecao aprovado2 = criarAlunoConcluidoComMedia("João", "11111", 8.5);
         
-        when(alunoRepository.buscarConcluidos()).thenReturn(Arrays.asList(aprovado1, aprovado2, reprovado));
+        when(alunoRepository.buscarRankingAprovados()).thenReturn(Arrays.asList(aprovado1, aprovado2));
         
         // Act
-        List<Aluno> rankingAprovados = useCase.executarAprovados();
+        List<RankingAlunoProjecao> rankingAprovados = useCase.executarAprovados();
         
         // Assert
         assertThat(rankingAprovados).hasSize(2);
-        assertThat(rankingAprovados.get(0).getNome()).isEqualTo("Maria");
-        assertThat(rankingAprovados.get(1).getNome()).isEqualTo("João");
+        assertThat(rankingAprovados).allMatch(RankingAlunoProjecao::getConcluiu);
         
-        verify(alunoRepository, times(1)).buscarConcluidos();
+        verify(alunoRepository, times(1)).buscarRankingAprovados();
+        verify(alunoRepository, never()).buscarConcluidos();
     }
     
     @Test
-    @DisplayName("Deve ordenar por cursos adicionais quando médias são iguais")
-    void deveOrdenarPorCursosAdicionaisQuandoMediasIguais() {
+    @DisplayName("Deve retornar top N dos aprovados sem carregar o ranking completo")
+    void deveRetornarTopNAprovados() {
         // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "111", 8.0);
-        aluno1.adicionarCursosExtras(3);
+        RankingAlunoProjecao aprovado = criarAlunoConcluidoComMedia("Maria", "22222", 9.5);
         
-        Aluno aluno2 = criarAlunoComMedia("Maria", "222", 8.0);
-        aluno2.adicionarCursosExtras(5);
+        when(alunoRepository.buscarRankingAprovados(1)).thenReturn(List.of(aprovado));
         
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2));
+        // Act
+        List<RankingAlunoProjecao> top1 = useCase.executarTopAprovados(1);
+        
+        // Assert
+        assertThat(top1).containsExactly(aprovado);
+        verify(alunoRepository, never()).buscarRankingAprovados();
+        
+        assertThatThrownBy(() -> useCase.executarTopAprovados(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limite deve ser maior que zero");
+    }
+    
+    @Test
+    @DisplayName("Deve carregar apenas os alunos da faixa do ranking")
+    void deveRetornarFaixaDoRanking() {
+        // Arrange
+        RankingAlunoProjecao terceiro = criarAlunoComMedia("Pedro", "33333", 7.0);
+        RankingAlunoProjecao quarto = criarAlunoComMedia("Ana", "44444", 6.0);
+        
+        when(indiceRanking.buscarIdsNaFaixa(3, 2)).thenReturn(List.of(30L, 40L));
+        when(alunoRepository.buscarRankingPorIds(List.of(30L, 40L))).thenReturn(List.of(terceiro, quarto));
         
         // Act
-        List<Aluno> ranking = useCase.executar();
+        List<RankingAlunoProjecao> faixa = useCase.executarFaixa(3, 2);
         
         // Assert
-        assertThat(ranking.get(0).getNome()).isEqualTo("Maria"); 
-        assertThat(ranking.get(1).getNome()).isEqualTo("João");
+        assertThat(faixa).containsExactly(terceiro, quarto);
+        verify(alunoRepository, never()).buscarRanking(anyInt());
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando a faixa é inválida")
+    void deveLancarExcecaoQuandoFaixaInvalida() {
+        assertThatThrownBy(() -> useCase.executarFaixa(0, 10))
+                .isInstanceOf(InvalidValueObjectException.class);
+        assertThatThrownBy(() -> useCase.executarFaixa(1, ObterRankingAlunosUseCase.QUANTIDADE_MAXIMA_FAIXA + 1))
+                .isInstanceOf(InvalidValueObjectException.class);
+        
+        verifyNoInteractions(indiceRanking);
     }
     
-    private Aluno criarAlunoComMedia(String nome, String ra, double media) {
-        Aluno aluno = Aluno.criar(
-                NomeAluno.criar(nome), 
-                RegistroAcademico.criar(ra)
-        );
-        aluno.atualizarMedia(MediaFinal.criar(media));
-        return aluno;
+    private RankingAlunoProjecao criarAlunoComMedia(String nome, String ra, double media) {
+        return new RankingAlunoProjecao((long) ra.hashCode(), nome, ra, media, 0, false);
     }
     
-    private Aluno criarAlunoConcluidoComMedia(String nome, String ra, double media) {
-        Aluno aluno = Aluno.criar(
-                NomeAluno.criar(nome), 
-                RegistroAcademico.criar(ra)
-        );
-        aluno.registrarTentativa(MediaFinal.criar(media));
-        aluno.concluirCurso(MediaFinal.criar(media));
-        return aluno;
+    private RankingAlunoProjecao criarAlunoConcluidoComMedia(String nome, String ra, double media) {
+        return new RankingAlunoProjecao((long) ra.hashCode(), nome, ra, media, 0, true);
     }
 }
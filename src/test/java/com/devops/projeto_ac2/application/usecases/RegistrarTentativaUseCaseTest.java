@@ -2,6 +2,7 @@ package com.devops.projeto_ac2.application.usecases;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
 import com.devops.projeto_ac2.domain.ports.EventPublisher;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
@@ -45,7 +46,7 @@ class RegistrarTentativaUseCaseTest {
         Aluno aluno = criarAlunoTeste(alunoId);
         
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(alunoRepository.salvarTentativa(any(Aluno.class))).thenReturn(true);
         
         // Act
         Aluno resultado = useCase.executar(alunoId, nota);
@@ -55,7 +56,7 @@ class RegistrarTentativaUseCaseTest {
         assertThat(resultado.getMediaFinal()).isEqualTo(7.5);
         
         verify(alunoRepository, times(1)).buscarPorId(alunoId);
-        verify(alunoRepository, times(1)).salvar(aluno);
+        verify(alunoRepository, times(1)).salvarTentativa(aluno);
     }
     
     @Test
@@ -72,7 +73,7 @@ class RegistrarTentativaUseCaseTest {
                 .isInstanceOf(AlunoNotFoundException.class);
         
         verify(alunoRepository, times(1)).buscarPorId(alunoId);
-        verify(alunoRepository, never()).salvar(any());
+        verify(alunoRepository, never()).salvarTentativa(any());
     }
     
     @Test
@@ -83,7 +84,7 @@ class RegistrarTentativaUseCaseTest {
         Aluno aluno = criarAlunoTeste(alunoId);
         
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(alunoRepository.salvarTentativa(any(Aluno.class))).thenReturn(true);
         
         // Act - registrar 3 tentativas
         useCase.executar(alunoId, 5.0);
@@ -93,7 +94,24 @@ class RegistrarTentativaUseCaseTest {
         // Assert
         assertThat(aluno.getTentativasAvaliacao()).isEqualTo(3);
         assertThat(aluno.getMediaFinal()).isEqualTo(7.0);
-        verify(alunoRepository, times(3)).salvar(aluno);
+        verify(alunoRepository, times(3)).salvarTentativa(aluno);
+    }
+    
+    @Test
+    @DisplayName("Deve lançar conflito sem publicar evento quando o aluno mudou desde a leitura")
+    void deveLancarConflitoQuandoPerdeDisputa() {
+        // Arrange - outra requisição gravou o aluno entre a leitura e o UPDATE (versão diferente)
+        Long alunoId = 1L;
+        Aluno aluno = criarAlunoTeste(alunoId);
+        
+        when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
+        when(alunoRepository.salvarTentativa(any(Aluno.class))).thenReturn(false);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(alunoId, 9.0))
+                .isInstanceOf(ConflitoConcorrenciaException.class);
+        
+        verify(eventPublisher, never()).publicarTentativaRegistrada(any());
     }
     
     private Aluno criarAlunoTeste(Long id) {
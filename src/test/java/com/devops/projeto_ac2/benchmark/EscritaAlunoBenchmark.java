@@ -0,0 +1,155 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.ProjetoAc2Application;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark JMH: flush das mutações de Aluno pelo Hibernate (H2 em memória)
+ * 
+ * Cada operação carrega um aluno, aplica uma mutação, faz flush e desfaz a transação
+ * (o banco não muda entre operações). Mede o tempo médio da operação e, ao fim de cada
+ * iteração, imprime o tempo médio só do flush e os bytes de SQL enviados por flush.
+ * 
+ * Com entidades enhanced (dirty tracking) e @DynamicUpdate, o flush não compara snapshots
+ * e o UPDATE leva só as colunas alteradas; para comparar, rode também sem o
+ * hibernate-enhance-maven-plugin e sem @DynamicUpdate.
+ * 
+ * Execução:
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.devops.projeto_ac2.benchmark.EscritaAlunoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EscritaAlunoBenchmark {
+    
+    private static final int ALUNOS = 1000;
+    
+    private ConfigurableApplicationContext contexto;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private List<Long> ids;
+    private int proximo;
+    
+    private long operacoes;
+    private long nanosFlush;
+    private long bytesSql;
+    
+    @Setup
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(ProjetoAc2Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.rabbitmq.listener.simple.auto-startup=false",
+                        "logging.level.com.devops.projeto_ac2=WARN",
+                        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                                + ContadorSql.class.getName())
+                .run("--spring.profiles.active=test");
+        transactionTemplate = contexto.getBean(TransactionTemplate.class);
+        entityManager = contexto.getBean(EntityManager.class);
+        
+        // Alunos com uma tentativa, para que as três mutações sejam válidas
+        List<Aluno> alunos = new ArrayList<>(ALUNOS);
+        for (int i = 0; i < ALUNOS; i++) {
+            Aluno aluno = Aluno.criar(NomeAluno.criar("Aluno Benchmark"), RegistroAcademico.criar("RA" + (100000 + i)));
+            aluno.registrarTentativa(MediaFinal.criar(6.0));
+            alunos.add(aluno);
+        }
+        AlunoRepository alunoRepository = contexto.getBean(AlunoRepository.class);
+        ids = transactionTemplate.execute(status -> alunoRepository.salvarTodos(alunos).stream()
+                .map(Aluno::getId)
+                .toList());
+    }
+    
+    @TearDown
+    public void tearDown() {
+        contexto.close();
+    }
+    
+    @Setup(Level.Iteration)
+    public void iniciarIteracao() {
+        operacoes = 0;
+        nanosFlush = 0;
+        bytesSql = 0;
+    }
+    
+    @TearDown(Level.Iteration)
+    public void encerrarIteracao() {
+        System.out.printf("%n  flush: %.2f us/op, SQL: %d bytes/op%n",
+                nanosFlush / 1_000.0 / operacoes, bytesSql / operacoes);
+    }
+    
+    @Benchmark
+    public void registrarTentativa() {
+        flush(aluno -> aluno.registrarTentativa(MediaFinal.criar(8.0)));
+    }
+    
+    @Benchmark
+    public void concluirCurso() {
+        flush(aluno -> aluno.concluirCurso(MediaFinal.criar(9.5)));
+    }
+    
+    @Benchmark
+    public void adicionarCursosExtras() {
+        flush(aluno -> aluno.adicionarCursosExtras(2));
+    }
+    
+    private void flush(Consumer<Aluno> mutacao) {
+        Long id = ids.get(proximo++ % ids.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            mutacao.accept(entityManager.find(Aluno.class, id));
+            
+            ContadorSql.BYTES.set(0L);
+            long inicio = System.nanoTime();
+            entityManager.flush();
+            nanosFlush += System.nanoTime() - inicio;
+            bytesSql += ContadorSql.BYTES.get();
+            operacoes++;
+            
+            status.setRollbackOnly();
+        });
+    }
+    
+    /**
+     * Soma o tamanho do SQL preparado pelo Hibernate na thread corrente
+     */
+    public static class ContadorSql implements StatementInspector {
+        
+        static final ThreadLocal<Long> BYTES = ThreadLocal.withInitial(() -> 0L);
+        
+        @Override
+        public String inspect(String sql) {
+            BYTES.set(BYTES.get() + sql.getBytes(StandardCharsets.UTF_8).length);
+            return sql;
+        }
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EscritaAlunoBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.infrastructure.messaging.adapters.RabbitMQEventPublisherAssincrono;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark JMH: publicação de TentativaRegistrada com e sem lotes de tentativas
+ * 
+ * Cada operação publica um lote de 1000 tentativas pelo RabbitMQEventPublisherAssincrono, como o
+ * relay do outbox faz, até todas as confirmações. O broker é substituído por um RabbitTemplate que
+ * confirma cada mensagem na hora: o resultado (eventos/s) mede o custo no publisher (serialização,
+ * montagem das mensagens, correlação dos confirms). Ao fim de cada iteração imprime mensagens AMQP
+ * por 1000 eventos, a taxa de mensagens correspondente e os bytes de corpo por mensagem: no broker
+ * o custo é por mensagem (frames, roteamento, confirm), então a taxa de mensagens cai na proporção
+ * do tamanho do lote.
+ * 
+ * Execução:
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.devops.projeto_ac2.benchmark.PublicacaoTentativasBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublicacaoTentativasBenchmark {
+    
+    private static final int EVENTOS = 1000;
+    
+    // 1: sem lotes (uma mensagem por evento); demais: eventos por mensagem de lote
+    @Param({"1", "10", "100"})
+    private int tamanhoLote;
+    
+    private RabbitMQEventPublisherAssincrono publisher;
+    private BrokerSimulado broker;
+    private List<TentativaRegistradaEvent> tentativas;
+    
+    private long operacoes;
+    private long nanos;
+    
+    @Setup
+    public void setUp() {
+        broker = new BrokerSimulado();
+        broker.setMessageConverter(new Jackson2JsonMessageConverter());
+        publisher = new RabbitMQEventPublisherAssincrono(broker, new Jackson2JsonMessageConverter(),
+                new SimpleMeterRegistry(), tamanhoLote > 1, tamanhoLote, 256 * 1024);
+        tentativas = IntStream.range(0, EVENTOS)
+                .mapToObj(i -> new TentativaRegistradaEvent((long) i, "RA" + (100000 + i), 1 + i % 3))
+                .toList();
+    }
+    
+    @Setup(Level.Iteration)
+    public void iniciarIteracao() {
+        broker.mensagens = 0;
+        broker.bytes = 0;
+        operacoes = 0;
+        nanos = 0;
+    }
+    
+    @TearDown(Level.Iteration)
+    public void encerrarIteracao() {
+        double segundos = nanos / 1e9;
+        System.out.printf("%n  mensagens AMQP: %d por %d eventos (%.0f msgs/s), corpo: %d bytes/msg%n",
+                broker.mensagens / operacoes, EVENTOS, broker.mensagens / segundos, broker.bytes / broker.mensagens);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(EVENTOS)
+    public void publicarTentativas() {
+        long inicio = System.nanoTime();
+        List<CompletableFuture<Void>> entregas = publisher.publicarTentativasRegistradas(tentativas);
+        CompletableFuture.allOf(entregas.toArray(CompletableFuture[]::new)).join();
+        nanos += System.nanoTime() - inicio;
+        operacoes++;
+    }
+    
+    /**
+     * RabbitTemplate sem conexão que conta as mensagens e confirma cada uma ao recebê-la
+     */
+    static class BrokerSimulado extends RabbitTemplate {
+        
+        long mensagens;
+        long bytes;
+        
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            mensagens++;
+            bytes += message.getBody().length;
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PublicacaoTentativasBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
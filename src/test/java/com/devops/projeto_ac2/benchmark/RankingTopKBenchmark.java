@@ -0,0 +1,103 @@
+package com.devops.projeto_ac2.benchmark;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ranking.ChaveRanking;
+import com.devops.projeto_ac2.domain.ranking.SelecaoTopK;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark JMH: top K do ranking com 1M de alunos
+ * 
+ * - ordenacaoCompleta: caminho antigo (ordena todas as entidades com Comparator e aplica limit)
+ * - heapLimitado: percorre as colunas de ranking uma vez mantendo um heap de K chaves primitivas
+ * 
+ * Execução:
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.devops.projeto_ac2.benchmark.RankingTopKBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RankingTopKBenchmark {
+    
+    @Param({"1000000"})
+    private int alunos;
+    
+    @Param({"10", "100"})
+    private int k;
+    
+    private List<Aluno> entidades;
+    
+    // Colunas de ranking como chegariam pelo cursor (id, média, cursos adicionais)
+    private long[] ids;
+    private double[] medias;
+    private int[] cursos;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        entidades = new ArrayList<>(alunos);
+        ids = new long[alunos];
+        medias = new double[alunos];
+        cursos = new int[alunos];
+        
+        for (int i = 0; i < alunos; i++) {
+            double media = random.nextInt(1001) / 100.0;
+            int extras = random.nextInt(9);
+            
+            Aluno aluno = Aluno.criar(NomeAluno.criar("Aluno Benchmark"), RegistroAcademico.criar("RA" + (100000 + i)));
+            aluno.atualizarMedia(MediaFinal.criar(media));
+            if (extras > 0) {
+                aluno.adicionarCursosExtras(extras);
+            }
+            ReflectionTestUtils.setField(aluno, "id", (long) i + 1);
+            entidades.add(aluno);
+            
+            ids[i] = i + 1;
+            medias[i] = media;
+            cursos[i] = extras;
+        }
+    }
+    
+    @Benchmark
+    public List<Aluno> ordenacaoCompleta() {
+        return entidades.stream()
+                .sorted(Comparator.comparingDouble(Aluno::getMediaFinal).reversed()
+                        .thenComparing(Comparator.comparingInt(Aluno::getCursosAdicionais).reversed())
+                        .thenComparing(Aluno::getId))
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public long[] heapLimitado() {
+        SelecaoTopK selecao = new SelecaoTopK(k);
+        for (int i = 0; i < ids.length; i++) {
+            selecao.oferecer(ChaveRanking.empacotar(ids[i], medias[i], cursos[i]));
+        }
+        return selecao.emOrdem();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RankingTopKBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
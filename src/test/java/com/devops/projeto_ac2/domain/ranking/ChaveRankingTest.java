@@ -0,0 +1,50 @@
+package com.devops.projeto_ac2.domain.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ChaveRanking
+ */
+@DisplayName("Testes da Chave de Ranking")
+class ChaveRankingTest {
+    
+    @Test
+    @DisplayName("Deve ordenar por média DESC, cursos DESC e ID ASC")
+    void deveOrdenarComoORanking() {
+        long mediaMaior = ChaveRanking.empacotar(9L, 9.5, 0);
+        long maisCursos = ChaveRanking.empacotar(8L, 8.0, 5);
+        long menosCursos = ChaveRanking.empacotar(1L, 8.0, 3);
+        long mesmoCriterioIdMenor = ChaveRanking.empacotar(2L, 8.0, 3);
+        long mesmoCriterioIdMaior = ChaveRanking.empacotar(3L, 8.0, 3);
+        
+        assertThat(mediaMaior).isLessThan(maisCursos);
+        assertThat(maisCursos).isLessThan(menosCursos);
+        assertThat(menosCursos).isLessThan(mesmoCriterioIdMenor);
+        assertThat(mesmoCriterioIdMenor).isLessThan(mesmoCriterioIdMaior);
+    }
+    
+    @Test
+    @DisplayName("Deve recuperar os componentes da chave")
+    void deveDesempacotarComponentes() {
+        long chave = ChaveRanking.empacotar(123_456L, 7.25, 8);
+        
+        assertThat(ChaveRanking.id(chave)).isEqualTo(123_456L);
+        assertThat(ChaveRanking.mediaFinal(chave)).isEqualTo(7.25);
+        assertThat(ChaveRanking.cursosAdicionais(chave)).isEqualTo(8);
+        assertThat(chave).isPositive();
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar componentes fora do layout da chave")
+    void deveRejeitarComponentesForaDoLayout() {
+        assertThatThrownBy(() -> ChaveRanking.empacotar(1L, 10.5, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChaveRanking.empacotar(1L, 5.0, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChaveRanking.empacotar(ChaveRanking.ID_MAXIMO + 1, 5.0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
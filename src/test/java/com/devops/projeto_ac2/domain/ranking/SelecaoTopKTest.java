@@ -0,0 +1,69 @@
+package com.devops.projeto_ac2.domain.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para SelecaoTopK
+ */
+@DisplayName("Testes da Seleção Top K")
+class SelecaoTopKTest {
+    
+    @Test
+    @DisplayName("Deve manter apenas as K menores chaves, em ordem")
+    void deveManterAsKMenoresChaves() {
+        // Arrange
+        SelecaoTopK selecao = new SelecaoTopK(3);
+        
+        // Act
+        for (long chave : new long[] {50, 10, 40, 30, 20, 60}) {
+            selecao.oferecer(chave);
+        }
+        
+        // Assert
+        assertThat(selecao.tamanho()).isEqualTo(3);
+        assertThat(selecao.emOrdem()).containsExactly(10, 20, 30);
+    }
+    
+    @Test
+    @DisplayName("Deve retornar todas as chaves quando há menos que K")
+    void deveRetornarTodasQuandoMenosQueK() {
+        SelecaoTopK selecao = new SelecaoTopK(10);
+        selecao.oferecer(7);
+        selecao.oferecer(3);
+        
+        assertThat(selecao.emOrdem()).containsExactly(3, 7);
+    }
+    
+    @Test
+    @DisplayName("Deve coincidir com a ordenação completa seguida de limite")
+    void deveCoincidirComOrdenacaoCompleta() {
+        // Arrange
+        Random random = new Random(1);
+        long[] chaves = random.longs(10_000, 0, Long.MAX_VALUE).toArray();
+        SelecaoTopK selecao = new SelecaoTopK(25);
+        
+        // Act
+        for (long chave : chaves) {
+            selecao.oferecer(chave);
+        }
+        
+        // Assert
+        long[] esperado = Arrays.copyOf(chaves.clone(), chaves.length);
+        Arrays.sort(esperado);
+        assertThat(selecao.emOrdem()).containsExactly(Arrays.copyOf(esperado, 25));
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando K é inválido")
+    void deveLancarExcecaoQuandoKInvalido() {
+        assertThatThrownBy(() -> new SelecaoTopK(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("K deve ser maior que zero");
+    }
+}
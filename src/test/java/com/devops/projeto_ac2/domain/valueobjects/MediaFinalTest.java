@@ -23,6 +23,15 @@ class MediaFinalTest {
         assertThat(media.getValor()).isEqualTo(8.5);
     }
     
+    @Test
+    @DisplayName("Deve arredondar a média para centésimos")
+    void deveArredondarParaCentesimos() {
+        // Act & Assert
+        assertThat(MediaFinal.criar(8.004).getValor()).isEqualTo(8.0);
+        assertThat(MediaFinal.criar(8.005).getValor()).isEqualTo(8.01);
+        assertThat(MediaFinal.criar(6.996).getValor()).isEqualTo(7.0);
+    }
+    
     @Test
     @DisplayName("Deve criar média inicial zerada")
     void deveCriarMediaInicial() {
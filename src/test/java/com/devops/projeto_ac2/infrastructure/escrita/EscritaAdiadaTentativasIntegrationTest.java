@@ -0,0 +1,177 @@
+package com.devops.projeto_ac2.infrastructure.escrita;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da escrita adiada de tentativas
+ * A descarga periódica fica desligada na prática (intervalo longo): o teste chama descarregar()
+ */
+@SpringBootTest(properties = {
+        "alunos.tentativas.escrita-adiada.habilitada=true",
+        "alunos.tentativas.escrita-adiada.intervalo=1h",
+        "alunos.tentativas.escrita-adiada.diretorio=target/journal-tentativas-teste"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração da Escrita Adiada de Tentativas")
+class EscritaAdiadaTentativasIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private EscritaAdiadaTentativas escritaAdiada;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${alunos.tentativas.escrita-adiada.diretorio}")
+    private Path diretorio;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    private Long alunoId;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+        alunoId = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111"))).getId();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        escritaAdiada.descarregar();
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("Deve confirmar antes de gravar e gravar só a última tentativa da janela")
+    void deveConfirmarEGravarNaDescarga() throws Exception {
+        // Act
+        registrar(6.0).andExpect(status().isAccepted()).andExpect(jsonPath("$.tentativasAvaliacao").value(1));
+        registrar(8.0).andExpect(status().isAccepted()).andExpect(jsonPath("$.tentativasAvaliacao").value(2));
+        
+        // Assert - ainda não está no banco nem publicado
+        assertThat(alunoRepository.buscarPorId(alunoId)).map(Aluno::getTentativasAvaliacao).contains(0);
+        verify(eventPublisher, never()).publicarTentativaRegistrada(any());
+        
+        escritaAdiada.descarregar();
+        
+        Aluno gravado = alunoRepository.buscarPorId(alunoId).orElseThrow();
+        assertThat(gravado.getTentativasAvaliacao()).isEqualTo(2);
+        assertThat(gravado.getMediaFinal()).isEqualTo(8.0);
+        verify(eventPublisher, times(2)).publicarTentativaRegistrada(any());
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar o limite de tentativas sobre as pendentes")
+    void deveAplicarLimiteSobrePendentes() throws Exception {
+        // Arrange
+        for (int i = 0; i < Aluno.MAXIMO_TENTATIVAS; i++) {
+            registrar(5.0).andExpect(status().isAccepted());
+        }
+        
+        // Act & Assert
+        registrar(5.0).andExpect(status().isBadRequest());
+        
+        escritaAdiada.descarregar();
+        assertThat(alunoRepository.buscarPorId(alunoId))
+                .map(Aluno::getTentativasAvaliacao)
+                .contains(Aluno.MAXIMO_TENTATIVAS);
+    }
+    
+    @Test
+    @DisplayName("Deve gravar as pendentes antes de concluir e recusar tentativas depois")
+    void deveGravarPendentesAntesDeConcluir() throws Exception {
+        // Arrange
+        registrar(9.5).andExpect(status().isAccepted());
+        
+        // Act - sem a tentativa pendente no banco, a conclusão seria recusada
+        mockMvc.perform(patch("/api/alunos/" + alunoId + "/concluir")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"mediaFinal\": 9.5}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.concluiu").value(true));
+        
+        // Assert
+        registrar(7.0).andExpect(status().isBadRequest());
+        assertThat(alunoRepository.buscarPorId(alunoId)).map(Aluno::getTentativasAvaliacao).contains(1);
+    }
+    
+    @Test
+    @DisplayName("Deve reaplicar na subida as tentativas que ficaram no journal")
+    void deveReaplicarJournal() {
+        // Arrange - segmento deixado por um processo que caiu antes da descarga
+        deixarNoJournal(new TentativaRegistradaEvent(alunoId, "11111", 1, 6.5),
+                new TentativaRegistradaEvent(alunoId, "11111", 2, 7.5));
+        
+        // Act
+        escritaAdiada.recuperar();
+        
+        // Assert
+        Aluno gravado = alunoRepository.buscarPorId(alunoId).orElseThrow();
+        assertThat(gravado.getTentativasAvaliacao()).isEqualTo(2);
+        assertThat(gravado.getMediaFinal()).isEqualTo(7.5);
+        verify(eventPublisher, times(2)).publicarTentativaRegistrada(any());
+        
+        // Act - o mesmo segmento de novo (queda entre o commit e a remoção do segmento): sem efeito
+        deixarNoJournal(new TentativaRegistradaEvent(alunoId, "11111", 2, 7.5));
+        escritaAdiada.recuperar();
+        
+        // Assert
+        assertThat(alunoRepository.buscarPorId(alunoId)).map(Aluno::getTentativasAvaliacao).contains(2);
+        verify(eventPublisher, times(2)).publicarTentativaRegistrada(any());
+    }
+    
+    private ResultActions registrar(double nota) throws Exception {
+        return mockMvc.perform(post("/api/alunos/" + alunoId + "/tentativas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nota\": " + nota + "}"));
+    }
+    
+    private void deixarNoJournal(TentativaRegistradaEvent... tentativas) {
+        JournalTentativas anterior = new JournalTentativas(diretorio, objectMapper, true);
+        for (TentativaRegistradaEvent tentativa : tentativas) {
+            anterior.anexar(tentativa);
+        }
+        anterior.close();
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+}
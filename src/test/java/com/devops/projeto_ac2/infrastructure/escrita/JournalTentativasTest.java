@@ -0,0 +1,76 @@
+package com.devops.projeto_ac2.infrastructure.escrita;
+
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes do journal local da escrita adiada de tentativas
+ */
+@DisplayName("Testes do Journal de Tentativas")
+class JournalTentativasTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    
+    @TempDir
+    Path diretorio;
+    
+    @Test
+    @DisplayName("Deve fechar o segmento na rotação e reler as tentativas na ordem")
+    void deveRotacionarEReler() throws IOException {
+        // Arrange
+        JournalTentativas journal = new JournalTentativas(diretorio, objectMapper, true);
+        journal.sincronizar(journal.anexar(new TentativaRegistradaEvent(1L, "11111", 1, 6.0)));
+        journal.sincronizar(journal.anexar(new TentativaRegistradaEvent(1L, "11111", 2, 8.0)));
+        
+        // Act
+        Path segmento = journal.rotacionar();
+        
+        // Assert
+        assertThat(journal.rotacionar()).isNull(); // segmento novo ainda vazio
+        assertThat(journal.segmentosAnteriores()).containsExactly(segmento);
+        assertThat(journal.ler(segmento))
+                .extracting(TentativaRegistradaEvent::getNumeroTentativa, TentativaRegistradaEvent::getMediaFinal)
+                .containsExactly(tuple(1, 6.0), tuple(2, 8.0));
+        
+        journal.apagar(List.of(segmento));
+        assertThat(journal.segmentosAnteriores()).isEmpty();
+        journal.close();
+    }
+    
+    @Test
+    @DisplayName("Deve reabrir após queda com os segmentos anteriores e ignorar linha incompleta")
+    void deveRecuperarSegmentosAposQueda() throws IOException {
+        // Arrange - processo anterior caiu sem rotacionar, no meio de uma escrita
+        JournalTentativas anterior = new JournalTentativas(diretorio, objectMapper, false);
+        anterior.anexar(new TentativaRegistradaEvent(7L, "77777", 1, 5.0));
+        anterior.close();
+        Path segmentoAnterior;
+        try (var arquivos = Files.list(diretorio)) {
+            segmentoAnterior = arquivos.findFirst().orElseThrow();
+        }
+        Files.writeString(segmentoAnterior, "{\"alunoId\":7,\"registro", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        
+        // Act
+        JournalTentativas journal = new JournalTentativas(diretorio, objectMapper, false);
+        
+        // Assert
+        assertThat(journal.segmentosAnteriores()).containsExactly(segmentoAnterior);
+        assertThat(journal.ler(segmentoAnterior))
+                .extracting(TentativaRegistradaEvent::getAlunoId)
+                .containsExactly(7L);
+        journal.close();
+    }
+}
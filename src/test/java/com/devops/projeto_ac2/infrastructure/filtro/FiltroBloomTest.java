@@ -0,0 +1,68 @@
+package com.devops.projeto_ac2.infrastructure.filtro;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para FiltroBloom
+ */
+@DisplayName("Testes do Filtro de Bloom")
+class FiltroBloomTest {
+    
+    @Test
+    @DisplayName("Deve dimensionar bits e funções de hash pela capacidade e taxa desejada")
+    void deveDimensionarPelaCapacidade() {
+        FiltroBloom filtro = new FiltroBloom(1_000_000, 0.01);
+        
+        // m ≈ 9,59 bits por elemento e k ≈ 7 para p = 1%
+        assertThat(filtro.getTamanhoEmBits()).isBetween(9_585_000L, 9_586_000L);
+        assertThat(filtro.getFuncoesHash()).isEqualTo(7);
+    }
+    
+    @Test
+    @DisplayName("Nunca deve produzir falso negativo e deve respeitar a taxa de falso positivo")
+    void deveRespeitarTaxaDeFalsoPositivo() {
+        // Arrange
+        int capacidade = 50_000;
+        FiltroBloom filtro = new FiltroBloom(capacidade, 0.01);
+        for (int i = 0; i < capacidade; i++) {
+            filtro.adicionar("RA" + i);
+        }
+        
+        // Act
+        int falsosPositivos = 0;
+        for (int i = capacidade; i < 2 * capacidade; i++) {
+            if (filtro.podeConter("RA" + i)) {
+                falsosPositivos++;
+            }
+        }
+        
+        // Assert
+        for (int i = 0; i < capacidade; i++) {
+            assertThat(filtro.podeConter("RA" + i)).isTrue();
+        }
+        double taxaObservada = (double) falsosPositivos / capacidade;
+        assertThat(taxaObservada).isLessThan(0.02);
+        assertThat(filtro.taxaFalsoPositivoEstimada()).isCloseTo(0.01, within(0.005));
+    }
+    
+    @Test
+    @DisplayName("Deve indicar se a adição alterou o filtro")
+    void deveIndicarAlteracaoNaAdicao() {
+        FiltroBloom filtro = new FiltroBloom(1000, 0.01);
+        
+        assertThat(filtro.podeConter("12345ABC")).isFalse();
+        assertThat(filtro.adicionar("12345ABC")).isTrue();
+        assertThat(filtro.adicionar("12345ABC")).isFalse();
+        assertThat(filtro.podeConter("12345ABC")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar parâmetros de dimensionamento inválidos")
+    void deveRejeitarParametrosInvalidos() {
+        assertThatThrownBy(() -> new FiltroBloom(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FiltroBloom(1000, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.devops.projeto_ac2.infrastructure.filtro;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do filtro de RAs
+ * Sem @Transactional: a constraint única só é verificada no commit
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Filtro de RAs")
+class FiltroRegistroAcademicoIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private FiltroBloomRegistroAcademico filtro;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("Deve conhecer RAs salvos e pular a consulta para RAs novos")
+    void deveConhecerRAsSalvos() {
+        // Arrange
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111")));
+        double ausentesAntes = meterRegistry.counter("alunos.filtro.ra.consultas", "resultado", "ausente").count();
+        
+        // Act & Assert
+        assertThat(alunoRepository.existePorRA("11111")).isTrue();
+        assertThat(alunoRepository.existePorRA("99999")).isFalse();
+        assertThat(meterRegistry.counter("alunos.filtro.ra.consultas", "resultado", "ausente").count())
+                .isGreaterThan(ausentesAntes);
+        assertThat(meterRegistry.get("alunos.filtro.ra.taxa.falso.positivo.estimada").gauge().value())
+                .isBetween(0.0, 0.01);
+    }
+    
+    @Test
+    @DisplayName("Deve recarregar RAs gravados fora da aplicação")
+    void deveRecarregarRAsDoBanco() {
+        // Arrange - RA gravado direto no banco, sem passar pelo repositório
+        inserirDiretoNoBanco("55555");
+        
+        // Act
+        filtro.carregar();
+        
+        // Assert
+        assertThat(filtro.podeExistir("55555")).isTrue();
+        assertThat(alunoRepository.existePorRA("55555")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Não deve contar falsos positivos antes de o filtro terminar de carregar")
+    void naoDeveContarFalsoPositivoAntesDaCarga() {
+        // Arrange - antes da carga todo RA é possível e vai ao banco
+        ReflectionTestUtils.setField(filtro, "carregado", false);
+        double falsosPositivosAntes = meterRegistry.get("alunos.filtro.ra.falsos.positivos").counter().count();
+        
+        // Act
+        boolean existe = alunoRepository.existePorRA("88888");
+        
+        // Assert
+        assertThat(existe).isFalse();
+        assertThat(meterRegistry.get("alunos.filtro.ra.falsos.positivos").counter().count())
+                .isEqualTo(falsosPositivosAntes);
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos - Deve responder 409 quando a constraint única barra um RA que o filtro não conhecia")
+    void deveResponder409QuandoConstraintUnicaBarraDuplicado() throws Exception {
+        // Arrange - o filtro não conhece o RA, então a verificação de existência é pulada
+        inserirDiretoNoBanco("77777");
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/alunos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"João Silva\",\"ra\":\"77777\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflito de dados"));
+    }
+    
+    private void inserirDiretoNoBanco(String ra) {
+        jdbcTemplate.update("INSERT INTO tb_alunos (id, nome, ra, media_final, concluiu, cursos_adicionais, " +
+                "tentativas_avaliacao, data_criacao) VALUES (NEXT VALUE FOR seq_alunos, 'Aluno Externo', ?, 0, false, 0, 0, CURRENT_TIMESTAMP)", ra);
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+        filtro.carregar();
+    }
+}
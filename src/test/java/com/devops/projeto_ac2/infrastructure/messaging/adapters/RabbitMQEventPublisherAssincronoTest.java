@@ -0,0 +1,203 @@
+package com.devops.projeto_ac2.infrastructure.messaging.adapters;
+
+import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários do publisher assíncrono: o retorno acompanha o confirm de cada evento
+ * e, no modo de lotes, o confirm da mensagem de lote
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do RabbitMQEventPublisherAssincrono (Adapter)")
+class RabbitMQEventPublisherAssincronoTest {
+    
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    
+    private MeterRegistry meterRegistry;
+    private RabbitMQEventPublisherAssincrono publisher;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = novoPublisher(false);
+    }
+    
+    @Test
+    @DisplayName("Deve enviar sem esperar o broker e completar só com o confirm")
+    void deveCompletarComConfirm() {
+        // Arrange
+        TentativaRegistradaEvent event = new TentativaRegistradaEvent(3L, "RA555555", 2);
+        
+        // Act
+        CompletableFuture<Void> entrega = publisher.publicarTentativaRegistrada(event);
+        
+        // Assert
+        CorrelationData correlacao = correlacaoEnviada(RabbitMQConfig.ROUTING_KEY_TENTATIVA, event);
+        assertThat(correlacao.getId()).isEqualTo(event.getEventId());
+        assertThat(entrega).isNotDone();
+        
+        correlacao.getFuture().complete(new CorrelationData.Confirm(true, null));
+        assertThat(entrega).isCompleted();
+        assertThat(meterRegistry.get("alunos.eventos.confirmados").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("alunos.eventos.confirmacao").timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve completar com erro quando o broker recusa o evento (nack)")
+    void deveFalharComNack() {
+        // Arrange
+        AlunoConcluidoEvent event = new AlunoConcluidoEvent(2L, "Maria Santos", "RA999999", 8.5, true);
+        CompletableFuture<Void> entrega = publisher.publicarAlunoConcluido(event);
+        
+        // Act
+        correlacaoEnviada(RabbitMQConfig.ROUTING_KEY_ALUNO_CONCLUIDO, event)
+                .getFuture().complete(new CorrelationData.Confirm(false, "fila cheia"));
+        
+        // Assert
+        assertThat(entrega).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(EntregaNaoConfirmadaException.class)
+                .withMessageContaining("fila cheia");
+        assertThat(naoConfirmados("nack")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve completar com erro quando o evento volta do broker sem fila de destino")
+    void deveFalharComMensagemDevolvida() {
+        // Arrange
+        TentativaRegistradaEvent event = new TentativaRegistradaEvent(3L, "RA555555", 2);
+        CompletableFuture<Void> entrega = publisher.publicarTentativaRegistrada(event);
+        CorrelationData correlacao = correlacaoEnviada(RabbitMQConfig.ROUTING_KEY_TENTATIVA, event);
+        
+        // Act - basic.return chega antes do confirm
+        correlacao.setReturned(new ReturnedMessage(new Message(new byte[0], new MessageProperties()),
+                312, "NO_ROUTE", RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.ROUTING_KEY_TENTATIVA));
+        correlacao.getFuture().complete(new CorrelationData.Confirm(true, null));
+        
+        // Assert
+        assertThat(entrega).isCompletedExceptionally();
+        assertThat(naoConfirmados("devolvido")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve completar com erro, sem lançar, quando o envio falha")
+    void deveFalharSemLancarQuandoEnvioFalha() {
+        // Arrange
+        doThrow(new AmqpConnectException(new ConnectException("Connection refused")))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+        
+        // Act
+        CompletableFuture<Void> entrega = publisher.publicarTentativaRegistrada(new TentativaRegistradaEvent(3L, "RA555555", 2));
+        
+        // Assert
+        assertThat(entrega).isCompletedExceptionally();
+        assertThat(naoConfirmados("erro")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve agrupar tentativas em mensagens de lote que os consumidores desfazem na mesma ordem")
+    void deveAgruparTentativasEmLotes() {
+        // Arrange - lotes de até 2 eventos
+        publisher = novoPublisher(true);
+        List<TentativaRegistradaEvent> events = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> new TentativaRegistradaEvent((long) i, "RA" + i, 1))
+                .toList();
+        
+        // Act
+        List<CompletableFuture<Void>> entregas = publisher.publicarTentativasRegistradas(events);
+        
+        // Assert - 3 mensagens: dois lotes no formato do Spring AMQP e a última, de um evento, comum
+        ArgumentCaptor<Message> mensagens = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<CorrelationData> correlacoes = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate, times(3)).send(eq(RabbitMQConfig.EXCHANGE_NAME), eq(RabbitMQConfig.ROUTING_KEY_TENTATIVA),
+                mensagens.capture(), correlacoes.capture());
+        
+        List<Object> recebidos = new ArrayList<>();
+        SimpleBatchingStrategy lotes = new SimpleBatchingStrategy(0, 0, 0);
+        Jackson2JsonMessageConverter conversor = new Jackson2JsonMessageConverter();
+        assertThat(mensagens.getAllValues()).extracting(mensagem -> lotes.canDebatch(mensagem.getMessageProperties()))
+                .containsExactly(true, true, false);
+        for (Message mensagem : mensagens.getAllValues()) {
+            if (lotes.canDebatch(mensagem.getMessageProperties())) {
+                lotes.deBatch(mensagem, fragmento -> recebidos.add(conversor.fromMessage(fragmento)));
+            } else {
+                recebidos.add(conversor.fromMessage(mensagem));
+            }
+        }
+        assertThat(recebidos).extracting("eventId").containsExactlyElementsOf(
+                events.stream().map(TentativaRegistradaEvent::getEventId).toList());
+        
+        // Um confirm por mensagem completa os eventos dela
+        assertThat(entregas).hasSize(5);
+        correlacoes.getAllValues().get(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+        assertThat(entregas).extracting(CompletableFuture::isDone).containsExactly(false, false, true, true, false);
+        assertThat(meterRegistry.get("alunos.eventos.confirmados").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("alunos.eventos.lote.tamanho").summary().count()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("Deve fechar o lote antes de passar do limite de bytes")
+    void deveRespeitarLimiteDeBytesDoLote() {
+        // Arrange - cada evento serializado tem mais de 100 bytes: lotes de um evento
+        publisher = new RabbitMQEventPublisherAssincrono(rabbitTemplate, new Jackson2JsonMessageConverter(),
+                meterRegistry, true, 100, 200);
+        List<TentativaRegistradaEvent> events = List.of(
+                new TentativaRegistradaEvent(1L, "RA1", 1),
+                new TentativaRegistradaEvent(2L, "RA2", 1),
+                new TentativaRegistradaEvent(3L, "RA3", 1));
+        
+        // Act
+        publisher.publicarTentativasRegistradas(events);
+        
+        // Assert
+        ArgumentCaptor<Message> mensagens = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(3)).send(anyString(), anyString(), mensagens.capture(), any(CorrelationData.class));
+        assertThat(mensagens.getAllValues()).allSatisfy(mensagem -> assertThat(mensagem.getBody().length).isLessThanOrEqualTo(200));
+    }
+    
+    private RabbitMQEventPublisherAssincrono novoPublisher(boolean lote) {
+        return new RabbitMQEventPublisherAssincrono(rabbitTemplate, new Jackson2JsonMessageConverter(),
+                meterRegistry, lote, 2, 65536);
+    }
+    
+    private CorrelationData correlacaoEnviada(String routingKey, Object event) {
+        ArgumentCaptor<CorrelationData> correlacao = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.EXCHANGE_NAME), eq(routingKey), eq(event), correlacao.capture());
+        return correlacao.getValue();
+    }
+    
+    private double naoConfirmados(String motivo) {
+        return meterRegistry.get("alunos.eventos.nao-confirmados").tag("motivo", motivo).counter().count();
+    }
+}
@@ -4,15 +4,21 @@ import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
 import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
 import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
 import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import com.devops.projeto_ac2.infrastructure.messaging.disjuntor.BrokerIndisponivelException;
+import com.devops.projeto_ac2.infrastructure.messaging.disjuntor.DisjuntorBroker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,6 +46,9 @@ class RabbitMQEventPublisherTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
     
+    @Spy
+    private DisjuntorBroker disjuntor = new DisjuntorBroker(new SimpleMeterRegistry(), 2, Duration.ofMinutes(1));
+    
     @InjectMocks
     private RabbitMQEventPublisher publisher;
     
@@ -110,7 +119,7 @@ class RabbitMQEventPublisherTest {
         AlunoCriadoEvent event = new AlunoCriadoEvent(1L, "Teste", "RA000000");
         
         doThrow(new RuntimeException("Conexão perdida com RabbitMQ"))
-            .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any());
+            .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
         
         // Act & Assert
         assertThatThrownBy(() -> publisher.publicarAlunoCriado(event))
@@ -118,6 +127,23 @@ class RabbitMQEventPublisherTest {
             .hasMessageContaining("Falha ao publicar evento");
     }
     
+    @Test
+    @DisplayName("Deve falhar na hora, sem chamar o RabbitTemplate, com o disjuntor aberto")
+    void deveFalharNaHoraComDisjuntorAberto() {
+        // Arrange - duas falhas seguidas abrem o disjuntor
+        AlunoCriadoEvent event = new AlunoCriadoEvent(1L, "Teste", "RA000000");
+        doThrow(new RuntimeException("Conexão perdida com RabbitMQ"))
+            .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+        assertThatThrownBy(() -> publisher.publicarAlunoCriado(event)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> publisher.publicarAlunoCriado(event)).isInstanceOf(RuntimeException.class);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> publisher.publicarAlunoCriado(event))
+            .hasMessageContaining("Falha ao publicar evento")
+            .hasCauseInstanceOf(BrokerIndisponivelException.class);
+        verify(rabbitTemplate, times(2)).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+    
     @Test
     @DisplayName("Deve verificar que eventos são enviados para exchange correto")
     void deveVerificarQueEventosSaoEnviadosParaExchangeCorreto() {
@@ -135,7 +161,7 @@ class RabbitMQEventPublisherTest {
         verify(rabbitTemplate, times(3)).convertAndSend(
             eq(RabbitMQConfig.EXCHANGE_NAME),
             anyString(),
-            any()
+            any(Object.class)
         );
     }
     
@@ -156,17 +182,17 @@ class RabbitMQEventPublisherTest {
         verify(rabbitTemplate).convertAndSend(
             anyString(),
             eq(RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO),
-            any()
+            any(Object.class)
         );
         verify(rabbitTemplate).convertAndSend(
             anyString(),
             eq(RabbitMQConfig.ROUTING_KEY_ALUNO_CONCLUIDO),
-            any()
+            any(Object.class)
         );
         verify(rabbitTemplate).convertAndSend(
             anyString(),
             eq(RabbitMQConfig.ROUTING_KEY_TENTATIVA),
-            any()
+            any(Object.class)
         );
     }
 }
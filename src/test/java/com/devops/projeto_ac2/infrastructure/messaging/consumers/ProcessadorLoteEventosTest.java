@@ -0,0 +1,221 @@
+package com.devops.projeto_ac2.infrastructure.messaging.consumers;
+
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários do processamento de lotes dos consumers, com o conversor JSON da aplicação
+ */
+@DisplayName("Testes do Processador de Lotes de Eventos")
+class ProcessadorLoteEventosTest {
+    
+    private Jackson2JsonMessageConverter converter;
+    private MeterRegistry meterRegistry;
+    private ProcessadorLoteEventos processador;
+    private Channel canal;
+    private long ultimaEntrega;
+    
+    @BeforeEach
+    void setUp() {
+        canal = mock(Channel.class);
+        ultimaEntrega = 0;
+        converter = new Jackson2JsonMessageConverter();
+        meterRegistry = new SimpleMeterRegistry();
+        processador = new ProcessadorLoteEventos(converter, meterRegistry, 100);
+    }
+    
+    @Test
+    @DisplayName("Deve processar o lote inteiro na ordem da fila")
+    void deveProcessarLoteNaOrdem() {
+        // Arrange
+        List<Message> mensagens = List.of(mensagem(tentativa(1L)), mensagem(tentativa(2L)), mensagem(tentativa(3L)));
+        
+        // Act
+        List<TentativaRegistradaEvent> processados = processar(mensagens, event -> { });
+        
+        // Assert
+        assertThat(processados).extracting(TentativaRegistradaEvent::getAlunoId).containsExactly(1L, 2L, 3L);
+        assertThat(meterRegistry.get("alunos.consumidores.processadas").tag("consumidor", "analytics")
+                .counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("alunos.consumidores.lote").tag("consumidor", "analytics")
+                .summary().max()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("Deve descartar só as mensagens envenenadas e seguir com o restante do lote")
+    void deveDescartarSoMensagensEnvenenadas() {
+        // Arrange - JSON inválido, mensagem que não é JSON e um evento que falha no processamento
+        Message ilegivel = new Message("{nao é json".getBytes(StandardCharsets.UTF_8),
+                propriedades(MessageProperties.CONTENT_TYPE_JSON));
+        Message texto = new Message("aluno 9".getBytes(StandardCharsets.UTF_8),
+                propriedades(MessageProperties.CONTENT_TYPE_TEXT_PLAIN));
+        List<Message> mensagens = List.of(mensagem(tentativa(1L)), ilegivel, mensagem(tentativa(2L)),
+                texto, mensagem(tentativa(3L)));
+        
+        // Act
+        List<TentativaRegistradaEvent> processados = processar(mensagens, event -> {
+            if (event.getAlunoId() == 2L) {
+                throw new IllegalStateException("falha no evento");
+            }
+        });
+        
+        // Assert
+        assertThat(processados).extracting(TentativaRegistradaEvent::getAlunoId).containsExactly(1L, 3L);
+        assertThat(descartadas("processamento")).isEqualTo(1);
+        assertThat(descartadas("conversao")).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar sem reenfileirar (dead-letter) as entregas envenenadas e confirmar as demais")
+    void deveRejeitarEntregasEnvenenadasParaDeadLetter() throws IOException {
+        // Arrange - entregas 1 e 3 legíveis, 2 ilegível
+        Message primeira = mensagem(tentativa(1L));
+        Message ilegivel = new Message("{nao é json".getBytes(StandardCharsets.UTF_8),
+                propriedades(MessageProperties.CONTENT_TYPE_JSON));
+        List<Message> mensagens = List.of(primeira, ilegivel, mensagem(tentativa(3L)));
+        
+        // Act
+        processar(mensagens, event -> { });
+        
+        // Assert
+        verify(canal).basicAck(1L, false);
+        verify(canal).basicReject(2L, false);
+        verify(canal).basicAck(3L, false);
+        verify(canal, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+    
+    @Test
+    @DisplayName("Deve confirmar uma vez só a entrega desfeita em várias mensagens (lote do publisher)")
+    void deveConfirmarEntregaDesfeitaUmaVez() throws IOException {
+        // Arrange - duas mensagens da mesma entrega
+        Message primeira = mensagem(tentativa(1L));
+        Message segunda = mensagem(tentativa(2L));
+        segunda.getMessageProperties().setDeliveryTag(primeira.getMessageProperties().getDeliveryTag());
+        
+        // Act
+        processar(List.of(primeira, segunda), event -> { });
+        
+        // Assert
+        verify(canal, times(1)).basicAck(1L, false);
+        verifyNoMoreInteractions(canal);
+    }
+    
+    @Test
+    @DisplayName("Deve converter pelo tipo da fila mesmo sem o cabeçalho de tipo do publisher")
+    void deveConverterSemCabecalhoDeTipo() {
+        // Arrange
+        Message mensagem = mensagem(tentativa(7L));
+        mensagem.getMessageProperties().getHeaders().remove("__TypeId__");
+        
+        // Act
+        List<TentativaRegistradaEvent> processados = processar(List.of(mensagem), event -> { });
+        
+        // Assert
+        assertThat(processados).singleElement().extracting(TentativaRegistradaEvent::getAlunoId).isEqualTo(7L);
+    }
+    
+    @Test
+    @DisplayName("Deve ignorar eventos repetidos no mesmo lote e em lotes seguintes")
+    void deveIgnorarEventosRepetidos() {
+        // Arrange - reentregas do outbox trazem o mesmo eventId
+        TentativaRegistradaEvent evento = tentativa(1L);
+        processar(List.of(mensagem(evento), mensagem(evento)), event -> { });
+        
+        // Act
+        List<TentativaRegistradaEvent> processados = processar(List.of(mensagem(evento), mensagem(tentativa(2L))),
+                event -> { });
+        
+        // Assert
+        assertThat(processados).extracting(TentativaRegistradaEvent::getAlunoId).containsExactly(2L);
+        assertThat(meterRegistry.get("alunos.consumidores.repetidas").tag("consumidor", "analytics")
+                .counter().count()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Deve reprocessar a reentrega de um lote cuja escrita agregada falhou")
+    void deveReprocessarLoteComEscritaFalha() throws IOException {
+        // Arrange
+        TentativaRegistradaEvent evento = tentativa(1L);
+        assertThatThrownBy(() -> processador.processar("analytics", List.of(mensagem(evento)), canal,
+                TentativaRegistradaEvent.class, TentativaRegistradaEvent::getEventId, event -> { },
+                lote -> {
+                    throw new IllegalStateException("escrita falhou");
+                })).isInstanceOf(IllegalStateException.class);
+        verify(canal).basicNack(1L, false, true);
+        
+        // Act
+        List<TentativaRegistradaEvent> processados = processar(List.of(mensagem(evento)), event -> { });
+        
+        // Assert
+        assertThat(processados).extracting(TentativaRegistradaEvent::getEventId).containsExactly(evento.getEventId());
+    }
+    
+    @Test
+    @DisplayName("Deve mandar para a dead-letter a reentrega cuja escrita agregada falhou de novo")
+    void deveMandarReentregaComEscritaFalhaParaDeadLetter() throws IOException {
+        // Arrange
+        Message reentrega = mensagem(tentativa(1L));
+        reentrega.getMessageProperties().setRedelivered(true);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> processador.processar("analytics", List.of(reentrega), canal,
+                TentativaRegistradaEvent.class, TentativaRegistradaEvent::getEventId, event -> { },
+                lote -> {
+                    throw new IllegalStateException("escrita falhou");
+                })).isInstanceOf(IllegalStateException.class);
+        verify(canal).basicNack(1L, false, false);
+    }
+    
+    private List<TentativaRegistradaEvent> processar(List<Message> mensagens, Consumer<TentativaRegistradaEvent> acao) {
+        List<TentativaRegistradaEvent> escritos = new ArrayList<>();
+        processador.processar("analytics", mensagens, canal, TentativaRegistradaEvent.class,
+                TentativaRegistradaEvent::getEventId, acao, escritos::addAll);
+        return escritos;
+    }
+    
+    private Message mensagem(Object evento) {
+        return converter.toMessage(evento, entrega(new MessageProperties()));
+    }
+    
+    private static TentativaRegistradaEvent tentativa(Long alunoId) {
+        return new TentativaRegistradaEvent(alunoId, "RA" + alunoId, 1);
+    }
+    
+    private MessageProperties propriedades(String contentType) {
+        MessageProperties propriedades = new MessageProperties();
+        propriedades.setContentType(contentType);
+        return entrega(propriedades);
+    }
+    
+    /**
+     * Cada mensagem numa entrega nova, como o container as numera no canal
+     */
+    private MessageProperties entrega(MessageProperties propriedades) {
+        propriedades.setDeliveryTag(++ultimaEntrega);
+        return propriedades;
+    }
+    
+    private double descartadas(String motivo) {
+        return meterRegistry.get("alunos.consumidores.descartadas").tag("consumidor", "analytics")
+                .tag("motivo", motivo).counter().count();
+    }
+}
@@ -0,0 +1,91 @@
+package com.devops.projeto_ac2.infrastructure.messaging.disjuntor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários do disjuntor do broker, com relógio controlado pelo teste
+ */
+@DisplayName("Testes do Disjuntor do Broker")
+class DisjuntorBrokerTest {
+    
+    private static final Runnable FALHA = () -> {
+        throw new IllegalStateException("broker fora");
+    };
+    
+    private MeterRegistry meterRegistry;
+    private long agora;
+    private DisjuntorBroker disjuntor;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        disjuntor = new DisjuntorBroker(meterRegistry, 3, Duration.ofSeconds(10), () -> agora);
+    }
+    
+    @Test
+    @DisplayName("Deve abrir após as falhas seguidas e recusar chamadas sem executá-las")
+    void deveAbrirAposFalhasSeguidas() {
+        // Arrange
+        falhar(2);
+        disjuntor.executar(() -> { });
+        falhar(3);
+        AtomicInteger chamadas = new AtomicInteger();
+        
+        // Act & Assert
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorBroker.Estado.ABERTO);
+        assertThatThrownBy(() -> disjuntor.executar(chamadas::incrementAndGet))
+                .isInstanceOf(BrokerIndisponivelException.class);
+        assertThat(chamadas).hasValue(0);
+        assertThat(meterRegistry.get("alunos.broker.disjuntor.rejeitadas").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("alunos.broker.disjuntor.estado").gauge().value()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Deve deixar uma sonda passar após a espera e fechar se ela funcionar")
+    void deveFecharAposSondaComSucesso() {
+        // Arrange
+        falhar(3);
+        agora += Duration.ofSeconds(10).toNanos();
+        
+        // Act
+        disjuntor.executar(() -> { });
+        
+        // Assert
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorBroker.Estado.FECHADO);
+        assertThat(meterRegistry.get("alunos.broker.disjuntor.estado").gauge().value()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve reabrir por mais uma espera se a sonda falhar, recusando chamadas durante a sonda")
+    void deveReabrirAposSondaComFalha() {
+        // Arrange
+        falhar(3);
+        agora += Duration.ofSeconds(10).toNanos();
+        
+        // Act - a sonda falha; uma chamada feita enquanto ela está em andamento é recusada
+        assertThatThrownBy(() -> disjuntor.executar(() -> {
+            assertThatThrownBy(() -> disjuntor.executar(() -> { })).isInstanceOf(BrokerIndisponivelException.class);
+            throw new IllegalStateException("broker ainda fora");
+        })).isInstanceOf(IllegalStateException.class);
+        
+        // Assert - aberto por mais uma espera inteira
+        assertThat(disjuntor.getEstado()).isEqualTo(DisjuntorBroker.Estado.ABERTO);
+        agora += Duration.ofSeconds(5).toNanos();
+        assertThatThrownBy(() -> disjuntor.executar(() -> { })).isInstanceOf(BrokerIndisponivelException.class);
+    }
+    
+    private void falhar(int vezes) {
+        for (int i = 0; i < vezes; i++) {
+            assertThatThrownBy(() -> disjuntor.executar(FALHA)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
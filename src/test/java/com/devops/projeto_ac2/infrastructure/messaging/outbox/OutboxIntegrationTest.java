@@ -0,0 +1,213 @@
+package com.devops.projeto_ac2.infrastructure.messaging.outbox;
+
+import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.infrastructure.messaging.adapters.EntregaNaoConfirmadaException;
+import com.devops.projeto_ac2.infrastructure.messaging.config.RabbitMQConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes de integração do outbox de eventos com o relay habilitado
+ * O RabbitTemplate é simulado e confirma (ou recusa/devolve) cada evento na hora;
+ * o relay é acionado por drenar() (intervalo longo)
+ */
+@SpringBootTest(properties = {
+        "alunos.outbox.relay.habilitado=true",
+        "alunos.outbox.relay.intervalo=1h",
+        "alunos.broker.disjuntor.falhas-para-abrir=1000"
+})
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Outbox de Eventos")
+class OutboxIntegrationTest {
+    
+    @Autowired
+    private CriarAlunoUseCase criarAlunoUseCase;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private EventoOutboxJpaRepository outboxRepository;
+    
+    @Autowired
+    private RelayOutbox relay;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @MockitoBean
+    private RabbitTemplate rabbitTemplate;
+    
+    // Comportamento do broker simulado (o relay também drena em segundo plano após cada commit)
+    private volatile boolean recusar;
+    private volatile String raDevolvido;
+    
+    @BeforeEach
+    void setUp() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+        outboxRepository.deleteAllInBatch();
+        recusar = false;
+        raDevolvido = null;
+        doAnswer(invocacao -> {
+            CorrelationData correlacao = invocacao.getArgument(3);
+            if (invocacao.getArgument(2) instanceof AlunoCriadoEvent criado
+                    && criado.getRegistroAcademico().equals(raDevolvido)) {
+                correlacao.setReturned(new ReturnedMessage(new Message(new byte[0], new MessageProperties()),
+                        312, "NO_ROUTE", invocacao.getArgument(0), invocacao.getArgument(1)));
+            }
+            correlacao.getFuture().complete(new CorrelationData.Confirm(!recusar, recusar ? "nack" : null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+    
+    @Test
+    @DisplayName("Deve gravar o evento na transação da escrita e enviá-lo após a confirmação do broker")
+    void deveEnviarEventoGravadoNaTransacao() {
+        // Act
+        criarAlunoUseCase.executar("João Silva", "11111");
+        relay.drenar();
+        
+        // Assert
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.EXCHANGE_NAME),
+                eq(RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO), argThat((Object evento) ->
+                        evento instanceof AlunoCriadoEvent criado && criado.getRegistroAcademico().equals("11111")),
+                any(CorrelationData.class));
+        assertThat(outboxRepository.findAll()).singleElement()
+                .satisfies(evento -> assertThat(evento.getEnviadoEm()).isNotNull());
+        assertThat(outboxRepository.findPendentes(Limit.of(10))).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Não deve gravar nem enviar eventos de uma transação desfeita")
+    void naoDeveEnviarEventoDeTransacaoDesfeita() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            criarAlunoUseCase.executar("Maria Souza", "22222");
+            status.setRollbackOnly();
+        });
+        
+        // Assert
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(relay.drenar()).isZero();
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+    
+    @Test
+    @DisplayName("Deve manter o evento pendente sem confirmação do broker e enviá-lo na próxima drenagem")
+    void deveManterEventoPendenteSemConfirmacao() {
+        // Arrange
+        recusar = true;
+        criarAlunoUseCase.executar("Pedro Santos", "33333");
+        
+        // Act & Assert - broker recusa
+        assertThatThrownBy(relay::drenar).isInstanceOf(EntregaNaoConfirmadaException.class);
+        assertThat(outboxRepository.findPendentes(Limit.of(10))).hasSize(1);
+        
+        // Act & Assert - broker volta
+        recusar = false;
+        relay.drenar();
+        assertThat(outboxRepository.findPendentes(Limit.of(10))).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve marcar só os confirmados antes de um evento devolvido e reenviar a partir dele, em ordem")
+    void deveReenviarAPartirDoEventoDevolvido() {
+        // Arrange
+        raDevolvido = "22222";
+        criarAlunoUseCase.executar("João Silva", "11111");
+        criarAlunoUseCase.executar("Maria Souza", "22222");
+        criarAlunoUseCase.executar("Pedro Santos", "33333");
+        
+        // Act & Assert - o segundo evento volta do broker
+        assertThatThrownBy(relay::drenar).isInstanceOf(EntregaNaoConfirmadaException.class)
+                .hasMessageContaining("devolvido");
+        assertThat(ras(outboxRepository.findPendentes(Limit.of(10)))).containsExactly("22222", "33333");
+        
+        // Act & Assert - com a fila de destino de volta, os dois saem na ordem de gravação
+        // (uma drenagem em segundo plano pode ter repetido o lote antes: o último envio é o que vale)
+        clearInvocations(rabbitTemplate);
+        raDevolvido = null;
+        relay.drenar();
+        ArgumentCaptor<Object> enviados = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate, atLeast(2)).convertAndSend(anyString(), anyString(), enviados.capture(), any(CorrelationData.class));
+        List<String> rasEnviados = enviados.getAllValues().stream()
+                .map(evento -> ((AlunoCriadoEvent) evento).getRegistroAcademico())
+                .toList();
+        assertThat(rasEnviados.subList(rasEnviados.size() - 2, rasEnviados.size())).containsExactly("22222", "33333");
+        assertThat(outboxRepository.findPendentes(Limit.of(10))).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Não deve enviar eventos reivindicados por outra instância até a reivindicação vencer")
+    void naoDeveEnviarEventosReivindicadosPorOutraInstancia() {
+        // Arrange - o evento já nasce reivindicado por outra instância (nenhuma drenagem o vê livre)
+        transactionTemplate.executeWithoutResult(status -> {
+            criarAlunoUseCase.executar("João Silva", "11111");
+            LocalDateTime agora = LocalDateTime.now();
+            outboxRepository.reivindicar(outboxRepository.findIdsPendentes(Limit.of(10)), "outra-instancia",
+                    agora, agora.plusHours(1));
+        });
+        
+        // Act & Assert - reivindicação em vigor
+        assertThat(relay.drenar()).isZero();
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+        
+        // Act & Assert - a outra instância caiu e a reivindicação venceu
+        jdbcTemplate.update("UPDATE outbox_eventos SET reivindicado_ate = ?", LocalDateTime.now().minusSeconds(1));
+        assertThat(relay.drenar()).isEqualTo(1);
+        assertThat(outboxRepository.findPendentes(Limit.of(10))).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve estacionar eventos ilegíveis e seguir com os demais")
+    void deveEstacionarEventosIlegiveis() {
+        // Arrange - dois eventos ilegíveis no início da fila
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.save(new EventoOutbox("aluno.desconhecido", "evento-1", "{}"));
+            outboxRepository.save(new EventoOutbox(RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO, "evento-2", "{não é json"));
+            criarAlunoUseCase.executar("João Silva", "11111");
+        });
+        
+        // Act
+        relay.drenar();
+        
+        // Assert - o evento legível sai, os ilegíveis ficam estacionados fora da fila
+        verify(rabbitTemplate, atLeastOnce()).convertAndSend(anyString(), eq(RabbitMQConfig.ROUTING_KEY_ALUNO_CRIADO),
+                any(AlunoCriadoEvent.class), any(CorrelationData.class));
+        assertThat(outboxRepository.findPendentes(Limit.of(10))).isEmpty();
+        assertThat(outboxRepository.findAll())
+                .filteredOn(evento -> evento.getEstacionadoEm() != null)
+                .extracting(EventoOutbox::getEventId)
+                .containsExactlyInAnyOrder("evento-1", "evento-2");
+    }
+    
+    private List<String> ras(List<EventoOutbox> eventos) {
+        return eventos.stream().map(evento -> evento.getPayload().replaceAll(".*\"registroAcademico\":\"(\\w+)\".*", "$1")).toList();
+    }
+}
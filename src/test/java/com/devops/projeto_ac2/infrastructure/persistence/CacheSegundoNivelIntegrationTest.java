@@ -0,0 +1,141 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do cache de segundo nível de Aluno (por ID e por RA)
+ * Sem @Transactional: cada leitura roda em uma transação nova, como nos casos de uso
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Cache de Segundo Nível")
+class CacheSegundoNivelIntegrationTest {
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private Statistics estatisticas;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("Deve servir buscarPorId do cache sem ir ao banco")
+    void deveServirBuscaPorIdDoCache() {
+        // Arrange
+        Long id = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111"))).getId();
+        buscarPorId(id); // garante a entrada no cache
+        estatisticas.clear();
+        
+        // Act
+        Optional<Aluno> aluno = buscarPorId(id);
+        
+        // Assert
+        assertThat(aluno).isPresent();
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve servir buscarPorRA pelo cache de natural id")
+    void deveServirBuscaPorRADoCache() {
+        // Arrange
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("22222")));
+        buscarPorRA("22222");
+        estatisticas.clear();
+        
+        // Act
+        Optional<Aluno> aluno = buscarPorRA("22222");
+        
+        // Assert
+        assertThat(aluno).map(Aluno::getNome).contains("João Silva");
+        assertThat(estatisticas.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve refletir salvar e deletar nas leituras seguintes")
+    void deveInvalidarAoSalvarEDeletar() {
+        // Arrange
+        Long id = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("33333"))).getId();
+        buscarPorId(id);
+        
+        // Act - atualização
+        transactionTemplate.executeWithoutResult(status -> {
+            Aluno aluno = alunoRepository.buscarPorId(id).orElseThrow();
+            aluno.registrarTentativa(MediaFinal.criar(8.5));
+            alunoRepository.salvar(aluno);
+        });
+        
+        // Assert
+        assertThat(buscarPorId(id)).map(Aluno::getMediaFinal).contains(8.5);
+        
+        // Act - remoção
+        alunoRepository.deletar(id);
+        
+        // Assert
+        assertThat(buscarPorId(id)).isEmpty();
+        assertThat(buscarPorRA("33333")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve expor acertos e faltas do cache como métricas")
+    void deveExporMetricasDoCache() {
+        Long id = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("44444"))).getId();
+        buscarPorId(id);
+        
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").tag("result", "hit").meters())
+                .isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").tag("result", "miss").meters())
+                .isNotEmpty();
+    }
+    
+    private Optional<Aluno> buscarPorId(Long id) {
+        return transactionTemplate.execute(status -> alunoRepository.buscarPorId(id));
+    }
+    
+    private Optional<Aluno> buscarPorRA(String ra) {
+        return transactionTemplate.execute(status -> alunoRepository.buscarPorRA(ra));
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+}
@@ -0,0 +1,186 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Planos de execução (H2 EXPLAIN) das consultas do AlunoJpaRepository
+ * 
+ * Executa cada consulta, captura o SQL gerado pelo Hibernate e falha se algum plano
+ * voltar a ler a tabela inteira (tableScan) em vez de usar um índice das migrações.
+ * Uma consulta nova no repositório precisa entrar em {@link #consultas()}
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.devops.projeto_ac2.infrastructure.persistence.PlanosConsultaIntegrationTest$CapturaSql")
+@ActiveProfiles("test")
+@DisplayName("Testes dos Planos de Consulta do Repositório de Alunos")
+class PlanosConsultaIntegrationTest {
+    
+    private static final int ALUNOS = 200;
+    
+    @Autowired
+    private AlunoJpaRepository jpaRepository;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+        List<Aluno> alunos = new ArrayList<>(ALUNOS);
+        for (int i = 0; i < ALUNOS; i++) {
+            Aluno aluno = Aluno.criar(NomeAluno.criar("Aluno Plano"), RegistroAcademico.criar("RA" + (100000 + i)));
+            aluno.registrarTentativa(MediaFinal.criar(5.0 + i % 5));
+            if (i % 3 == 0) {
+                aluno.concluirCurso(MediaFinal.criar(6.0 + i % 4));
+            }
+            alunos.add(aluno);
+        }
+        transactionTemplate.executeWithoutResult(status -> alunoRepository.salvarTodos(alunos));
+        // Estatísticas reais de seletividade para o otimizador
+        jdbcTemplate.execute("ANALYZE");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("Todas as consultas do repositório devem ter um caso neste teste")
+    void deveCobrirTodasAsConsultas() {
+        List<String> declaradas = Arrays.stream(AlunoJpaRepository.class.getDeclaredMethods())
+                .filter(metodo -> !metodo.isDefault() && !metodo.isSynthetic())
+                .map(Method::getName)
+                .toList();
+        
+        assertThat(consultas().keySet()).containsExactlyInAnyOrderElementsOf(declaradas);
+    }
+    
+    @Test
+    @DisplayName("Nenhuma consulta do repositório deve ler a tabela inteira sem índice")
+    void naoDeveHaverTableScan() {
+        Map<String, List<String>> planos = new LinkedHashMap<>();
+        consultas().forEach((nome, consulta) -> {
+            List<String> sqls = capturar(consulta);
+            assertThat(sqls).as("SQL de %s", nome).isNotEmpty();
+            planos.put(nome, sqls.stream().map(this::explicar).toList());
+        });
+        
+        Map<String, List<String>> comTableScan = planos.entrySet().stream()
+                .filter(plano -> plano.getValue().stream().anyMatch(texto -> texto.contains(".tableScan")))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertThat(comTableScan).as("consultas com tableScan").isEmpty();
+    }
+    
+    /**
+     * Uma chamada representativa de cada consulta; streams são consumidos dentro da transação
+     */
+    private Map<String, Consumer<AlunoJpaRepository>> consultas() {
+        Map<String, Consumer<AlunoJpaRepository>> consultas = new LinkedHashMap<>();
+        consultas.put("findByRA", repositorio -> repositorio.findByRA("RA100001"));
+        consultas.put("existsByRA", repositorio -> repositorio.existsByRA("RA100001"));
+        consultas.put("findRAsExistentes", repositorio -> repositorio.findRAsExistentes(List.of("RA100001", "RA999999")));
+        consultas.put("findConcluidos", AlunoJpaRepository::findConcluidos);
+        consultas.put("findNaoConcluidos", AlunoJpaRepository::findNaoConcluidos);
+        consultas.put("findRanking", repositorio -> repositorio.findRanking(Limit.of(10)));
+        consultas.put("findRankingAprovados", AlunoJpaRepository::findRankingAprovados);
+        consultas.put("findRankingPorIds", repositorio -> repositorio.findRankingPorIds(List.of(1L, 2L, 3L)));
+        consultas.put("findColunasRanking", AlunoJpaRepository::findColunasRanking);
+        consultas.put("streamColunasRankingAprovados", repositorio -> {
+            try (var linhas = repositorio.streamColunasRankingAprovados()) {
+                linhas.forEach(linha -> { });
+            }
+        });
+        consultas.put("streamRAs", repositorio -> {
+            try (var ras = repositorio.streamRAs()) {
+                ras.forEach(ra -> { });
+            }
+        });
+        consultas.put("streamTodos", repositorio -> {
+            try (var alunos = repositorio.streamTodos()) {
+                alunos.forEach(aluno -> { });
+            }
+        });
+        consultas.put("streamPorConclusao", repositorio -> {
+            try (var alunos = repositorio.streamPorConclusao(true)) {
+                alunos.forEach(aluno -> { });
+            }
+        });
+        consultas.put("findPaginaAposId", repositorio -> repositorio.findPaginaAposId(0L, Limit.of(50)));
+        consultas.put("findPaginaPorConclusaoAposId",
+                repositorio -> repositorio.findPaginaPorConclusaoAposId(false, 0L, Limit.of(50)));
+        return consultas;
+    }
+    
+    private List<String> capturar(Consumer<AlunoJpaRepository> consulta) {
+        return transactionTemplate.execute(status -> {
+            CapturaSql.SQLS.get().clear();
+            consulta.accept(jpaRepository);
+            return List.copyOf(CapturaSql.SQLS.get());
+        });
+    }
+    
+    private String explicar(String sql) {
+        // Parâmetros sem valor: o plano é o mesmo escolhido para o comando preparado
+        return jdbcTemplate.query("EXPLAIN " + sql, (PreparedStatementSetter) comando -> { }, resultado -> {
+            resultado.next();
+            return resultado.getString(1);
+        });
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+    
+    /**
+     * Guarda o SQL preparado pelo Hibernate na thread corrente
+     */
+    public static class CapturaSql implements StatementInspector {
+        
+        static final ThreadLocal<List<String>> SQLS = ThreadLocal.withInitial(ArrayList::new);
+        
+        @Override
+        public String inspect(String sql) {
+            SQLS.get().add(sql);
+            return sql;
+        }
+    }
+}
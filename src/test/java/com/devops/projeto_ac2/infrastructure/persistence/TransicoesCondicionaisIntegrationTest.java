@@ -0,0 +1,141 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.concorrencia.RepeticaoEmConflito;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes de integração das transições gravadas com UPDATE condicional à versão (tentativa e conclusão)
+ * e da repetição automática em conflito
+ * Sem @Transactional: cada caso de uso roda e confirma a própria transação, inclusive em paralelo
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração das Transições Condicionais")
+class TransicoesCondicionaisIntegrationTest {
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Autowired
+    private ConcluirCursoUseCase concluirCursoUseCase;
+    
+    @Autowired
+    private RepeticaoEmConflito repeticaoEmConflito;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("Deve aceitar exatamente 3 de 10 tentativas simultâneas, repetindo as que perdem a disputa")
+    void deveRespeitarLimiteComTentativasSimultaneas() throws Exception {
+        // Arrange
+        Long id = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111"))).getId();
+        int requisicoes = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(requisicoes);
+        CountDownLatch largada = new CountDownLatch(1);
+        
+        // Act
+        List<Future<Boolean>> resultados = new ArrayList<>();
+        for (int i = 0; i < requisicoes; i++) {
+            double nota = 5.0 + i * 0.1;
+            resultados.add(executor.submit(() -> {
+                largada.await();
+                try {
+                    repeticaoEmConflito.executar("registrar-tentativa", () -> registrarTentativaUseCase.executar(id, nota));
+                    return true;
+                } catch (DomainException e) {
+                    return false;
+                }
+            }));
+        }
+        largada.countDown();
+        int aceitas = 0;
+        for (Future<Boolean> resultado : resultados) {
+            aceitas += resultado.get() ? 1 : 0;
+        }
+        executor.shutdown();
+        
+        // Assert
+        assertThat(aceitas).isEqualTo(Aluno.MAXIMO_TENTATIVAS);
+        assertThat(alunoRepository.buscarPorId(id)).get()
+                .extracting(Aluno::getTentativasAvaliacao).isEqualTo(Aluno.MAXIMO_TENTATIVAS);
+        verify(eventPublisher, times(Aluno.MAXIMO_TENTATIVAS)).publicarTentativaRegistrada(any());
+        // Só há 3 gravações possíveis, então nenhuma requisição esgota as repetições
+        assertThat(meterRegistry.find("alunos.concorrencia.esgotadas").counters()).allSatisfy(
+                contador -> assertThat(contador.count()).isZero());
+    }
+    
+    @Test
+    @DisplayName("Deve gravar tentativa e conclusão e refletir na leitura seguinte (cache atualizado)")
+    void deveGravarTransicoesERefletirNaLeitura() {
+        // Arrange
+        Long id = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("22222"))).getId();
+        alunoRepository.buscarPorId(id); // aluno no cache de segundo nível
+        
+        // Act
+        registrarTentativaUseCase.executar(id, 6.0);
+        Aluno aposTentativa = alunoRepository.buscarPorId(id).orElseThrow();
+        concluirCursoUseCase.executar(id, 9.5);
+        Aluno aposConclusao = alunoRepository.buscarPorId(id).orElseThrow();
+        
+        // Assert
+        assertThat(aposTentativa.getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(aposTentativa.getMediaFinal()).isEqualTo(6.0);
+        assertThat(aposConclusao.isConcluiu()).isTrue();
+        assertThat(aposConclusao.getMediaFinal()).isEqualTo(9.5);
+        assertThat(aposConclusao.getCursosAdicionais()).isEqualTo(5);
+        assertThat(aposConclusao.getDataConclusao()).isNotNull();
+        assertThat(aposConclusao.getVersao()).isEqualTo(2L);
+        assertThatThrownBy(() -> concluirCursoUseCase.executar(id, 8.0))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Aluno já concluiu o curso");
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.devops.projeto_ac2.infrastructure.persistence.roteamento;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.devops.projeto_ac2.infrastructure.persistence.roteamento.RoteamentoLeituraDataSource.Destino.PRIMARIO;
+import static com.devops.projeto_ac2.infrastructure.persistence.roteamento.RoteamentoLeituraDataSource.Destino.REPLICA;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários da escolha entre primário e réplica
+ */
+@DisplayName("Testes do Roteamento de Leituras")
+class RoteamentoLeituraDataSourceTest {
+    
+    private MeterRegistry meterRegistry;
+    private Optional<Duration> defasagem;
+    private RoteamentoLeituraDataSource roteamento;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        defasagem = Optional.of(Duration.ofMillis(100));
+        roteamento = new RoteamentoLeituraDataSource(() -> defasagem, Duration.ofSeconds(1),
+                new StaticListableBeanFactory().getBeanProvider(EntityManagerFactory.class), meterRegistry);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ContextoLeitura.definir(ContextoLeitura.CLIENTE);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ContextoLeitura.limpar();
+    }
+    
+    @Test
+    @DisplayName("Deve ler da réplica em transação somente leitura de cliente com réplica em dia")
+    void deveLerDaReplica() {
+        assertThat(roteamento.determineCurrentLookupKey()).isEqualTo(REPLICA);
+        assertThat(leituras("replica", "replica")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve usar o primário em transações de escrita e fora de requisições de clientes")
+    void deveUsarPrimarioForaDeLeiturasDeCliente() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(roteamento.determineCurrentLookupKey()).isEqualTo(PRIMARIO);
+        
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ContextoLeitura.limpar();
+        assertThat(roteamento.determineCurrentLookupKey()).isEqualTo(PRIMARIO);
+    }
+    
+    @Test
+    @DisplayName("Deve ler do primário logo após uma escrita do mesmo cliente")
+    void deveLerDoPrimarioAposEscritaRecente() {
+        ContextoLeitura.definir(ContextoLeitura.CLIENTE_COM_ESCRITA_RECENTE);
+        
+        assertThat(roteamento.determineCurrentLookupKey()).isEqualTo(PRIMARIO);
+        assertThat(leituras("primario", "escrita-recente")).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve voltar ao primário com a réplica atrasada além do limite ou com defasagem desconhecida")
+    void deveVoltarAoPrimarioComReplicaAtrasada() {
+        defasagem = Optional.of(Duration.ofSeconds(5));
+        assertThat(roteamento.determineCurrentLookupKey()).isEqualTo(PRIMARIO);
+        
+        defasagem = Optional.empty();
+        assertThat(roteamento.determineCurrentLookupKey()).isEqualTo(PRIMARIO);
+        
+        assertThat(leituras("primario", "defasagem")).isEqualTo(2);
+        assertThat(meterRegistry.get("alunos.datasource.replica.defasagem").gauge().value()).isNaN();
+    }
+    
+    private double leituras(String destino, String motivo) {
+        return meterRegistry.get("alunos.datasource.leituras").tag("destino", destino).tag("motivo", motivo).counter().count();
+    }
+}
@@ -0,0 +1,117 @@
+package com.devops.projeto_ac2.infrastructure.persistence.roteamento;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.web.filtro.FiltroEscritaRecente;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do roteamento entre primário e réplica (dois H2)
+ * A replicação simulada fica parada na prática (intervalo longo): o teste chama sincronizar()
+ */
+@SpringBootTest(properties = {
+        "alunos.datasource.replica.habilitada=true",
+        "alunos.datasource.replica.url=jdbc:h2:mem:testdb-replica;DB_CLOSE_DELAY=-1",
+        "alunos.datasource.replica.defasagem-maxima=1h",
+        "alunos.datasource.replica.janela-escrita-recente=1h",
+        "alunos.datasource.replica.replicacao-simulada.habilitada=true",
+        "alunos.datasource.replica.replicacao-simulada.intervalo=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Roteamento de Leituras")
+class RoteamentoLeituraIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private ReplicacaoSimuladaH2 replicacao;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    @BeforeEach
+    void setUp() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+        replicacao.sincronizar();
+    }
+    
+    @Test
+    @DisplayName("Deve listar da réplica, que só vê a escrita depois de replicada")
+    void deveListarDaReplica() throws Exception {
+        // Arrange - escrita fora de uma requisição de cliente
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111")));
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos")).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
+        
+        replicacao.sincronizar();
+        
+        mockMvc.perform(get("/api/alunos")).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(1)));
+    }
+    
+    @Test
+    @DisplayName("Deve ler a própria escrita do primário enquanto a réplica não a recebeu")
+    void deveLerPropriaEscritaDoPrimario() throws Exception {
+        // Act
+        Cookie escritaRecente = mockMvc.perform(post("/api/alunos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Maria Souza\", \"ra\": \"22222\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getCookie(FiltroEscritaRecente.COOKIE_ESCRITA_RECENTE);
+        
+        // Assert
+        assertThat(escritaRecente).isNotNull();
+        mockMvc.perform(get("/api/alunos").cookie(escritaRecente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/alunos")).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
+    }
+    
+    @Test
+    @DisplayName("Não deve ler do primário com cookie de escrita recente forjado")
+    void naoDeveAceitarCookieForjado() throws Exception {
+        // Arrange - escrita ainda não replicada
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111")));
+        String distante = Long.toString(System.currentTimeMillis() + Duration.ofDays(365).toMillis());
+        
+        // Act & Assert - sem assinatura ou com assinatura de outro instante, a leitura vai para a réplica
+        mockMvc.perform(get("/api/alunos").cookie(new Cookie(FiltroEscritaRecente.COOKIE_ESCRITA_RECENTE, distante)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        Cookie legitimo = mockMvc.perform(post("/api/alunos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Maria Souza\", \"ra\": \"22222\"}"))
+                .andReturn().getResponse().getCookie(FiltroEscritaRecente.COOKIE_ESCRITA_RECENTE);
+        String assinatura = legitimo.getValue().substring(legitimo.getValue().indexOf('.'));
+        mockMvc.perform(get("/api/alunos")
+                        .cookie(new Cookie(FiltroEscritaRecente.COOKIE_ESCRITA_RECENTE, distante + assinatura)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
@@ -0,0 +1,258 @@
+package com.devops.projeto_ac2.infrastructure.persistence.view;
+
+import com.devops.projeto_ac2.domain.events.AlunoConcluidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoCriadoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoExcluidoEvent;
+import com.devops.projeto_ac2.domain.events.TentativaRegistradaEvent;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.projections.AlunoViewProjecao;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.repositories.AlunoViewRepository;
+import com.devops.projeto_ac2.domain.valueobjects.SituacaoAluno;
+import com.devops.projeto_ac2.infrastructure.messaging.consumers.AlunoViewConsumer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do modelo de leitura (aluno_view)
+ * 
+ * Os eventos publicados pelos use cases são retidos e entregues ao AlunoViewConsumer
+ * depois do commit, como faria a fila do RabbitMQ
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "alunos.view.leitura-habilitada=true")
+@DisplayName("Testes de Integração do Modelo de Leitura de Alunos")
+class AlunoViewIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private AlunoViewRepository alunoViewRepository;
+    
+    @Autowired
+    private AlunoViewJpaRepository alunoViewJpaRepository;
+    
+    @Autowired
+    private ProjetorAlunoView projetor;
+    
+    @Autowired
+    private AlunoViewConsumer consumer;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    private final List<Object> eventosPublicados = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        limpar();
+        doAnswer(inv -> eventosPublicados.add(inv.getArgument(0))).when(eventPublisher).publicarAlunoCriado(any());
+        doAnswer(inv -> eventosPublicados.add(inv.getArgument(0))).when(eventPublisher).publicarTentativaRegistrada(any());
+        doAnswer(inv -> eventosPublicados.add(inv.getArgument(0))).when(eventPublisher).publicarAlunoConcluido(any());
+        doAnswer(inv -> eventosPublicados.add(inv.getArgument(0))).when(eventPublisher).publicarAlunoExcluido(any());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limpar();
+    }
+    
+    @Test
+    @DisplayName("Deve manter situação, posição no ranking e pontos a partir dos eventos")
+    void deveProjetarEventos() throws Exception {
+        // Arrange
+        Long joao = criarAluno("João Silva", "11111");
+        Long maria = criarAluno("Maria Santos", "22222");
+        Long pedro = criarAluno("Pedro Souza", "33333");
+        entregarEventos();
+        assertThat(linhas()).extracting(AlunoViewProjecao::getId, AlunoViewProjecao::getPosicaoRanking)
+                .containsExactly(tuple(joao, 1), tuple(maria, 2), tuple(pedro, 3));
+        
+        // Act - Pedro sobe para o topo, Maria conclui com 9.0 e passa à frente dele
+        registrarTentativa(pedro, 6.0);
+        registrarTentativa(maria, 9.0);
+        concluir(maria, 9.0);
+        entregarEventos();
+        
+        // Assert
+        assertThat(linhas())
+                .extracting(AlunoViewProjecao::getId, AlunoViewProjecao::getPosicaoRanking,
+                        AlunoViewProjecao::getSituacao, AlunoViewProjecao::getPontosGamificacao)
+                .containsExactly(
+                        tuple(joao, 3, SituacaoAluno.NAO_CONCLUIDO, 0),
+                        tuple(maria, 1, SituacaoAluno.APROVADO, 1000),
+                        tuple(pedro, 2, SituacaoAluno.EM_RECUPERACAO, 0));
+        assertThat(linhas().get(1).getCursosAdicionais()).isEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("Deve ignorar eventos reentregues")
+    void deveIgnorarEventosReentregues() throws Exception {
+        // Arrange
+        Long joao = criarAluno("João Silva", "11111");
+        registrarTentativa(joao, 8.0);
+        List<Object> eventos = List.copyOf(eventosPublicados);
+        entregarEventos();
+        
+        // Act
+        eventosPublicados.addAll(eventos);
+        entregarEventos();
+        
+        // Assert
+        assertThat(linhas()).singleElement()
+                .satisfies(linha -> {
+                    assertThat(linha.getTentativasAvaliacao()).isEqualTo(1);
+                    assertThat(linha.getMediaFinal()).isEqualTo(8.0);
+                    assertThat(linha.getPosicaoRanking()).isEqualTo(1);
+                });
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos - Deve listar pelo modelo de leitura com posição e pontos")
+    void deveListarPeloModeloDeLeitura() throws Exception {
+        // Arrange
+        criarAluno("João Silva", "11111");
+        Long maria = criarAluno("Maria Santos", "22222");
+        registrarTentativa(maria, 8.0);
+        concluir(maria, 8.0);
+        entregarEventos();
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].ra", contains("11111", "22222")))
+                .andExpect(jsonPath("$[*].posicaoRanking", contains(2, 1)))
+                .andExpect(jsonPath("$[*].pontosGamificacao", contains(0, 800)))
+                .andExpect(jsonPath("$[1].situacao").value("APROVADO"));
+        
+        mockMvc.perform(get("/api/alunos?concluido=true"))
+                .andExpect(jsonPath("$[*].ra", contains("22222")));
+    }
+    
+    @Test
+    @DisplayName("Deve reconstruir o modelo de leitura a partir do modelo de escrita")
+    void deveReconstruirAPartirDoModeloDeEscrita() throws Exception {
+        // Arrange
+        criarAluno("João Silva", "11111");
+        Long maria = criarAluno("Maria Santos", "22222");
+        Long pedro = criarAluno("Pedro Souza", "33333");
+        registrarTentativa(pedro, 4.0);
+        registrarTentativa(maria, 7.5);
+        concluir(maria, 7.5);
+        entregarEventos();
+        List<AlunoViewProjecao> projetadas = linhas();
+        
+        // Act
+        projetor.reconstruir();
+        
+        // Assert - mesmas colunas derivadas (as datas do modelo de escrita substituem as dos eventos)
+        assertThat(linhas())
+                .extracting(AlunoViewProjecao::getId, AlunoViewProjecao::getPosicaoRanking, AlunoViewProjecao::getSituacao,
+                        AlunoViewProjecao::getPontosGamificacao, AlunoViewProjecao::getMediaFinal,
+                        AlunoViewProjecao::getTentativasAvaliacao, AlunoViewProjecao::getCursosAdicionais)
+                .containsExactlyElementsOf(projetadas.stream()
+                        .map(linha -> tuple(linha.getId(), linha.getPosicaoRanking(), linha.getSituacao(),
+                                linha.getPontosGamificacao(), linha.getMediaFinal(),
+                                linha.getTentativasAvaliacao(), linha.getCursosAdicionais()))
+                        .toList());
+    }
+    
+    @Test
+    @DisplayName("DELETE /api/alunos/{id} - Deve remover o aluno excluído do modelo de leitura")
+    void deveRemoverAlunoExcluido() throws Exception {
+        // Arrange
+        Long joao = criarAluno("João Silva", "11111");
+        Long maria = criarAluno("Maria Santos", "22222");
+        registrarTentativa(maria, 8.0);
+        entregarEventos();
+        
+        // Act
+        mockMvc.perform(delete("/api/alunos/{id}", maria))
+                .andExpect(status().isNoContent());
+        entregarEventos();
+        
+        // Assert
+        assertThat(linhas()).extracting(AlunoViewProjecao::getId, AlunoViewProjecao::getPosicaoRanking)
+                .containsExactly(tuple(joao, 1));
+        mockMvc.perform(delete("/api/alunos/{id}", maria))
+                .andExpect(status().isNotFound());
+    }
+    
+    private Long criarAluno(String nome, String ra) throws Exception {
+        String json = mockMvc.perform(post("/api/alunos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"" + nome + "\", \"ra\": \"" + ra + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json).get("id").asLong();
+    }
+    
+    private void registrarTentativa(Long id, double nota) throws Exception {
+        mockMvc.perform(post("/api/alunos/{id}/tentativas", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nota\": " + nota + "}"))
+                .andExpect(status().isOk());
+    }
+    
+    private void concluir(Long id, double media) throws Exception {
+        mockMvc.perform(patch("/api/alunos/{id}/concluir", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"mediaFinal\": " + media + "}"))
+                .andExpect(status().isOk());
+    }
+    
+    private void entregarEventos() {
+        for (Object evento : eventosPublicados) {
+            if (evento instanceof AlunoCriadoEvent criado) {
+                consumer.processarAlunoCriado(criado);
+            } else if (evento instanceof TentativaRegistradaEvent tentativa) {
+                consumer.processarTentativaRegistrada(tentativa);
+            } else if (evento instanceof AlunoConcluidoEvent concluido) {
+                consumer.processarAlunoConcluido(concluido);
+            } else if (evento instanceof AlunoExcluidoEvent excluido) {
+                consumer.processarAlunoExcluido(excluido);
+            }
+        }
+        eventosPublicados.clear();
+    }
+    
+    private List<AlunoViewProjecao> linhas() {
+        return alunoViewRepository.buscarPagina(null, null, 100);
+    }
+    
+    private void limpar() {
+        alunoViewJpaRepository.deleteAll();
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+}
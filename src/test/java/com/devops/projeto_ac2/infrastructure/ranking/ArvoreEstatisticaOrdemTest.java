@@ -0,0 +1,92 @@
+package com.devops.projeto_ac2.infrastructure.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ArvoreEstatisticaOrdem
+ */
+@DisplayName("Testes da Árvore de Estatística de Ordem")
+class ArvoreEstatisticaOrdemTest {
+    
+    @Test
+    @DisplayName("Deve contar chaves menores após inserções e remoções")
+    void deveContarChavesMenores() {
+        // Arrange
+        ArvoreEstatisticaOrdem arvore = new ArvoreEstatisticaOrdem();
+        arvore.inserir(30);
+        arvore.inserir(10);
+        arvore.inserir(20);
+        arvore.inserir(20); // duplicada é ignorada
+        
+        // Assert
+        assertThat(arvore.tamanho()).isEqualTo(3);
+        assertThat(arvore.contarMenores(10)).isEqualTo(0);
+        assertThat(arvore.contarMenores(20)).isEqualTo(1);
+        assertThat(arvore.contarMenores(30)).isEqualTo(2);
+        assertThat(arvore.contarMenores(31)).isEqualTo(3);
+        
+        // Act
+        arvore.remover(10);
+        
+        // Assert
+        assertThat(arvore.tamanho()).isEqualTo(2);
+        assertThat(arvore.contem(10)).isFalse();
+        assertThat(arvore.contarMenores(30)).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve manter contagens consistentes com um TreeSet em operações aleatórias")
+    void deveManterConsistenciaComTreeSet() {
+        // Arrange
+        ArvoreEstatisticaOrdem arvore = new ArvoreEstatisticaOrdem();
+        TreeSet<Long> referencia = new TreeSet<>();
+        Random random = new Random(42);
+        
+        // Act & Assert
+        for (int i = 0; i < 5_000; i++) {
+            long chave = random.nextInt(1_000);
+            if (random.nextInt(3) == 0) {
+                arvore.remover(chave);
+                referencia.remove(chave);
+            } else {
+                arvore.inserir(chave);
+                referencia.add(chave);
+            }
+            long consulta = random.nextInt(1_000);
+            assertThat(arvore.contarMenores(consulta)).isEqualTo(referencia.headSet(consulta).size());
+        }
+        assertThat(arvore.tamanho()).isEqualTo(referencia.size());
+    }
+    
+    @Test
+    @DisplayName("Deve construir a partir de chaves ordenadas e selecionar por posição")
+    void deveConstruirDeChavesOrdenadasESelecionar() {
+        // Arrange
+        long[] chaves = new long[10_000];
+        for (int i = 0; i < chaves.length; i++) {
+            chaves[i] = i * 3L;
+        }
+        
+        // Act
+        ArvoreEstatisticaOrdem arvore = ArvoreEstatisticaOrdem.deChavesOrdenadas(chaves);
+        
+        // Assert
+        assertThat(arvore.tamanho()).isEqualTo(chaves.length);
+        for (int i = 0; i < chaves.length; i += 97) {
+            assertThat(arvore.selecionar(i)).isEqualTo(chaves[i]);
+            assertThat(arvore.contarMenores(chaves[i])).isEqualTo(i);
+        }
+        
+        // Continua aceitando atualizações após a construção em lote
+        arvore.inserir(1);
+        assertThat(arvore.selecionar(1)).isEqualTo(1);
+        assertThatThrownBy(() -> arvore.selecionar(chaves.length + 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
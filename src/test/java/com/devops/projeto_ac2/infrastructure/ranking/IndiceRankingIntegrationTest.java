@@ -0,0 +1,133 @@
+package com.devops.projeto_ac2.infrastructure.ranking;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
+import com.devops.projeto_ac2.domain.ranking.PosicaoRanking;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do índice de ranking em memória
+ * Sem @Transactional: o índice só é atualizado após o commit de cada salvar
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Índice de Ranking")
+class IndiceRankingIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private IndiceRankingEmMemoria indiceRanking;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("Deve manter posições iguais às do ranking SQL, inclusive após reconstrução")
+    void deveConcordarComRankingSql() {
+        // Arrange - médias e cursos repetidos para exercitar os desempates
+        Random random = new Random(7);
+        for (int i = 0; i < 40; i++) {
+            Aluno aluno = Aluno.criar(NomeAluno.criar("Aluno Teste"), RegistroAcademico.criar("RA" + (10000 + i)));
+            aluno.atualizarMedia(MediaFinal.criar(random.nextInt(5) * 2.5));
+            if (random.nextBoolean()) {
+                aluno.adicionarCursosExtras(1 + random.nextInt(3));
+            }
+            alunoRepository.salvar(aluno);
+        }
+        
+        // Act & Assert
+        assertPosicoesIguaisAoRankingSql();
+        
+        indiceRanking.reconstruir();
+        assertPosicoesIguaisAoRankingSql();
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/{id}/posicao - Deve retornar posição e percentil")
+    void deveRetornarPosicaoPeloEndpoint() throws Exception {
+        // Arrange
+        Aluno primeiro = Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("22222"));
+        primeiro.atualizarMedia(MediaFinal.criar(9.0));
+        Aluno segundo = Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111"));
+        segundo.atualizarMedia(MediaFinal.criar(6.0));
+        alunoRepository.salvar(primeiro);
+        Aluno salvo = alunoRepository.salvar(segundo);
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/" + salvo.getId() + "/posicao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alunoId").value(salvo.getId()))
+                .andExpect(jsonPath("$.posicao").value(2))
+                .andExpect(jsonPath("$.totalAlunos").value(2))
+                .andExpect(jsonPath("$.percentil").value(50.0));
+        
+        mockMvc.perform(get("/api/alunos/999999/posicao"))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?posicaoInicial=2&quantidade=2 - Deve retornar a faixa com posições absolutas")
+    void deveRetornarFaixaDoRanking() throws Exception {
+        // Arrange
+        double[] medias = {9.0, 8.0, 7.0, 6.0};
+        for (int i = 0; i < medias.length; i++) {
+            Aluno aluno = Aluno.criar(NomeAluno.criar("Aluno Teste"), RegistroAcademico.criar("RA" + (20000 + i)));
+            aluno.atualizarMedia(MediaFinal.criar(medias[i]));
+            alunoRepository.salvar(aluno);
+        }
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/ranking?posicaoInicial=2&quantidade=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].posicao").value(2))
+                .andExpect(jsonPath("$[0].ra").value("RA20001"))
+                .andExpect(jsonPath("$[1].posicao").value(3))
+                .andExpect(jsonPath("$[1].ra").value("RA20002"));
+    }
+    
+    private void assertPosicoesIguaisAoRankingSql() {
+        List<RankingAlunoProjecao> rankingSql = alunoRepository.buscarRanking(0);
+        for (int i = 0; i < rankingSql.size(); i++) {
+            PosicaoRanking posicao = indiceRanking.buscarPosicao(rankingSql.get(i).getId()).orElseThrow();
+            assertThat(posicao.getPosicao()).isEqualTo(i + 1);
+            assertThat(posicao.getTotalAlunos()).isEqualTo(rankingSql.size());
+        }
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+}
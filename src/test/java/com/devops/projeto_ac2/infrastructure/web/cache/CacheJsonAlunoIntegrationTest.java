@@ -0,0 +1,117 @@
+package com.devops.projeto_ac2.infrastructure.web.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do cache de JSON de GET /api/alunos/{id}
+ * Sem @Transactional: a invalidação acontece após o commit das escritas
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Cache de JSON de Aluno")
+class CacheJsonAlunoIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("Deve servir a segunda leitura do cache com o mesmo JSON")
+    void deveServirSegundaLeituraDoCache() throws Exception {
+        // Arrange
+        Long id = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111"))).getId();
+        double acertosAntes = acertos();
+        
+        // Act
+        String primeira = buscar(id);
+        String segunda = buscar(id);
+        
+        // Assert
+        assertThat(segunda).isEqualTo(primeira).contains("\"nome\":\"João Silva\"");
+        assertThat(acertos() - acertosAntes).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve refletir tentativas registradas e remoções nas leituras seguintes")
+    void deveInvalidarAposEscritas() throws Exception {
+        // Arrange
+        Long id = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("22222"))).getId();
+        buscar(id);
+        
+        // Act - tentativa
+        mockMvc.perform(post("/api/alunos/{id}/tentativas", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nota\": 8.5}"))
+                .andExpect(status().isOk());
+        
+        // Assert
+        mockMvc.perform(get("/api/alunos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mediaFinal").value(8.5))
+                .andExpect(jsonPath("$.tentativasAvaliacao").value(1));
+        
+        // Act - remoção
+        alunoRepository.deletar(id);
+        
+        // Assert
+        mockMvc.perform(get("/api/alunos/{id}", id))
+                .andExpect(status().isNotFound());
+    }
+    
+    private String buscar(Long id) throws Exception {
+        return mockMvc.perform(get("/api/alunos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+    
+    private double acertos() {
+        return meterRegistry.get("alunos.cache.json.consultas").tag("resultado", "acerto").counter().count();
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+}
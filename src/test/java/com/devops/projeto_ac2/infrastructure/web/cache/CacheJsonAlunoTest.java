@@ -0,0 +1,104 @@
+package com.devops.projeto_ac2.infrastructure.web.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários do cache de JSON por aluno e versão
+ */
+@DisplayName("Testes do Cache de JSON de Aluno")
+class CacheJsonAlunoTest {
+    
+    private static final Long V1 = 1L;
+    private static final Long V2 = 2L;
+    private static final int TAMANHO = 100;
+    
+    private CacheJsonAluno cache;
+    
+    @BeforeEach
+    void setUp() {
+        // Manutenção do Caffeine na própria thread: a remoção por tamanho acontece na hora
+        cache = new CacheJsonAluno(new SimpleMeterRegistry(), TAMANHO, Duration.ofMinutes(1), Runnable::run);
+    }
+    
+    @Test
+    @DisplayName("Deve devolver os bytes armazenados")
+    void deveDevolverBytesArmazenados() {
+        cache.armazenar(1L, V1, json("v1"));
+        
+        assertThat(cache.buscar(1L)).hasValueSatisfying(bytes -> assertThat(bytes).isEqualTo(json("v1")));
+        assertThat(cache.buscar(2L)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve invalidar a entrada quando o aluno muda")
+    void deveInvalidarQuandoAlunoMuda() {
+        cache.armazenar(1L, V1, json("v1"));
+        
+        cache.atualizar(aluno(1L, V2));
+        
+        assertThat(cache.buscar(1L)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Não deve aceitar versão anterior à invalidação (leitura concorrente atrasada)")
+    void naoDeveAceitarVersaoAnteriorAInvalidacao() {
+        cache.atualizar(aluno(1L, V2));
+        
+        cache.armazenar(1L, V1, json("v1"));
+        assertThat(cache.buscar(1L)).isEmpty();
+        
+        cache.armazenar(1L, V2, json("v2"));
+        assertThat(cache.buscar(1L)).hasValueSatisfying(bytes -> assertThat(bytes).isEqualTo(json("v2")));
+    }
+    
+    @Test
+    @DisplayName("Não deve aceitar nenhuma versão de aluno removido")
+    void naoDeveAceitarAlunoRemovido() {
+        cache.armazenar(1L, V1, json("v1"));
+        
+        cache.remover(1L);
+        cache.armazenar(1L, V2, json("v2"));
+        
+        assertThat(cache.buscar(1L)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Não deve aceitar versão anterior à invalidação depois que o cache encheu")
+    void naoDeveAceitarVersaoAnteriorAInvalidacaoAposRemocaoPorTamanho() {
+        cache.armazenar(1L, V1, json("v1"));
+        cache.atualizar(aluno(1L, V2));
+        
+        // Outros alunos enchem o cache e tiram as entradas antigas
+        for (long id = 2; id <= 2 * TAMANHO; id++) {
+            cache.armazenar(id, V1, json("v1"));
+        }
+        cache.armazenar(1L, V1, json("v1"));
+        
+        assertThat(cache.buscar(1L)).isEmpty();
+    }
+    
+    private Aluno aluno(Long id, Long versao) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("12345"));
+        ReflectionTestUtils.setField(aluno, "id", id);
+        ReflectionTestUtils.setField(aluno, "versao", versao);
+        // Mesmo instante em todas as versões: a ordem vem só da versão
+        ReflectionTestUtils.setField(aluno, "dataAtualizacao", LocalDateTime.of(2025, 1, 1, 10, 0));
+        return aluno;
+    }
+    
+    private byte[] json(String versao) {
+        return ("{\"versao\":\"" + versao + "\"}").getBytes();
+    }
+}
@@ -0,0 +1,128 @@
+package com.devops.projeto_ac2.infrastructure.web.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.projections.RankingAlunoProjecao;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.infrastructure.persistence.AlunoJpaRepository;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários do snapshot do ranking, com o banco simulado
+ * As escritas são aplicadas pelo teste (defasagem longa, sem recarga agendada)
+ */
+@DisplayName("Testes do Snapshot do Ranking")
+class SnapshotRankingTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private AlunoJpaRepository jpaRepository;
+    private SnapshotRanking snapshot;
+    
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(AlunoJpaRepository.class);
+        snapshot = new SnapshotRanking(jpaRepository, new AlunoMapper(), objectMapper, new SimpleMeterRegistry(),
+                Duration.ofHours(1), Duration.ZERO);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        snapshot.encerrar();
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar as escritas pendentes sobre o snapshot carregado")
+    void deveAplicarEscritasPendentes() throws Exception {
+        // Arrange
+        when(jpaRepository.findRanking(any(Limit.class))).thenReturn(List.of(linha(1L, 6.0), linha(2L, 8.0)));
+        snapshot.carregar();
+        
+        // Act
+        snapshot.atualizar(aluno(1L, 9.0));
+        snapshot.aplicarPendentes();
+        
+        // Assert
+        assertThat(idsEMedias()).containsExactly("1=9.0", "2=8.0");
+    }
+    
+    @Test
+    @DisplayName("Não deve perder uma escrita aplicada durante a leitura da recarga")
+    void naoDevePerderEscritaDuranteRecarga() throws Exception {
+        // Arrange - a segunda leitura do banco é anterior à escrita, que é aplicada antes da troca
+        when(jpaRepository.findRanking(any(Limit.class)))
+                .thenReturn(List.of(linha(1L, 6.0), linha(2L, 8.0)))
+                .thenAnswer(invocacao -> {
+                    snapshot.atualizar(aluno(1L, 9.0));
+                    snapshot.aplicarPendentes();
+                    return List.of(linha(1L, 6.0), linha(2L, 8.0));
+                });
+        snapshot.carregar();
+        
+        // Act
+        snapshot.recarregar();
+        
+        // Assert
+        assertThat(idsEMedias()).containsExactly("1=9.0", "2=8.0");
+    }
+    
+    @Test
+    @DisplayName("Deve numerar as posições na montagem, com o mesmo JSON do RankingResponseDTO")
+    void deveNumerarPosicoesNaMontagem() throws Exception {
+        // Arrange
+        AlunoMapper mapper = new AlunoMapper();
+        when(jpaRepository.findRanking(any(Limit.class))).thenReturn(List.of(linha(1L, 8.0), linha(2L, 6.0)));
+        snapshot.carregar();
+        
+        // Act - o novo primeiro colocado desloca as linhas que não mudaram
+        snapshot.atualizar(aluno(3L, 9.5));
+        snapshot.aplicarPendentes();
+        
+        // Assert
+        List<RankingAlunoProjecao> esperado = List.of(
+                RankingAlunoProjecao.de(aluno(3L, 9.5)), linha(1L, 8.0), linha(2L, 6.0));
+        assertThat(snapshot.buscar(false, null).orElseThrow())
+                .isEqualTo(objectMapper.writeValueAsBytes(mapper.toRankingResponseDTOList(esperado)));
+        assertThat(snapshot.buscar(false, 2).orElseThrow())
+                .isEqualTo(objectMapper.writeValueAsBytes(mapper.toRankingResponseDTOList(esperado.subList(0, 2))));
+        assertThat(objectMapper.readTree(snapshot.buscar(true, null).orElseThrow()).valueStream()
+                .map(linha -> linha.get("alunoId").asLong() + "@" + linha.get("posicao").asInt()))
+                .containsExactly("3@1", "1@2");
+    }
+    
+    private List<String> idsEMedias() throws Exception {
+        byte[] json = snapshot.buscar(false, null).orElseThrow();
+        return objectMapper.readTree(json).valueStream()
+                .map(linha -> linha.get("alunoId").asLong() + "=" + linha.get("mediaFinal").asDouble())
+                .toList();
+    }
+    
+    private static RankingAlunoProjecao linha(Long id, double media) {
+        return new RankingAlunoProjecao(id, "Aluno Ranking", "RA1000" + id, media, 0, true);
+    }
+    
+    private static Aluno aluno(Long id, double media) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar("Aluno Ranking"), RegistroAcademico.criar("RA1000" + id));
+        ReflectionTestUtils.setField(aluno, "id", id);
+        aluno.registrarTentativa(MediaFinal.criar(media));
+        aluno.concluirCurso(MediaFinal.criar(media));
+        return aluno;
+    }
+}
@@ -126,7 +126,9 @@ class AlunoControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(salvo.getId()))
                 .andExpect(jsonPath("$.nome").value("João Silva"))
-                .andExpect(jsonPath("$.ra").value("12345ABC"));
+                .andExpect(jsonPath("$.ra").value("12345ABC"))
+                .andExpect(jsonPath("$.tentativasRestantes").value(Aluno.MAXIMO_TENTATIVAS))
+                .andExpect(jsonPath("$.situacao").value("NAO_CONCLUIDO"));
     }
     
     @Test
@@ -154,6 +156,39 @@ class AlunoControllerIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
     
+    @Test
+    @DisplayName("GET /api/alunos?limit=2 - Deve paginar alunos por cursor")
+    void devePaginarAlunosPorCursor() throws Exception {
+        // Arrange
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111")));
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("22222")));
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("Pedro Souza"), RegistroAcademico.criar("33333")));
+        
+        // Act & Assert - primeira página traz o cursor da próxima
+        String cursor = mockMvc.perform(get("/api/alunos?limit=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].ra").value("11111"))
+                .andExpect(jsonPath("$[1].ra").value("22222"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+        
+        // Última página não traz cursor
+        mockMvc.perform(get("/api/alunos?limit=2&cursor=" + cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].ra").value("33333"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos - Deve retornar 400 quando cursor é inválido")
+    void deveRetornar400QuandoCursorInvalido() throws Exception {
+        mockMvc.perform(get("/api/alunos?cursor=invalido"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor de paginação inválido"));
+    }
+    
     @Test
     @DisplayName("PATCH /api/alunos/{id}/concluir - Deve concluir curso com sucesso")
     void deveConcluirCursoComSucesso() throws Exception {
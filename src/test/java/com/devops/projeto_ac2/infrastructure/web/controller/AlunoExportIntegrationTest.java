@@ -0,0 +1,110 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da exportação em streaming (GET /api/alunos/export)
+ * Sem @Transactional: a resposta é escrita em outra thread, que só enxerga dados commitados
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração da Exportação de Alunos")
+class AlunoExportIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/export?format=csv - Deve exportar CSV com cabeçalho em ordem de ID")
+    void deveExportarCsv() throws Exception {
+        // Arrange
+        Aluno primeiro = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111")));
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("22222")));
+        
+        // Act
+        String csv = exportar("/api/alunos/export?format=csv", "text/csv;charset=UTF-8");
+        
+        // Assert
+        String[] linhas = csv.split("\n");
+        assertThat(linhas).hasSize(3);
+        assertThat(linhas[0]).startsWith("id,nome,ra,mediaFinal");
+        assertThat(linhas[1]).startsWith(primeiro.getId() + ",João Silva,11111,0.0,false,0,0,3,NAO_CONCLUIDO,");
+        assertThat(linhas[2]).contains(",Maria Santos,22222,");
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/export?format=ndjson - Deve exportar NDJSON aplicando o filtro de conclusão")
+    void deveExportarNdjsonFiltrado() throws Exception {
+        // Arrange
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111")));
+        Aluno concluido = Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("22222"));
+        concluido.registrarTentativa(MediaFinal.criar(9.0));
+        concluido.concluirCurso(MediaFinal.criar(9.0));
+        alunoRepository.salvar(concluido);
+        
+        // Act
+        String ndjson = exportar("/api/alunos/export?format=ndjson&concluido=true", "application/x-ndjson;charset=UTF-8");
+        
+        // Assert
+        String[] linhas = ndjson.split("\n");
+        assertThat(linhas).hasSize(1);
+        assertThat(linhas[0]).contains("\"ra\":\"22222\"").contains("\"situacao\":\"APROVADO\"");
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/export - Deve retornar 400 para formato não suportado")
+    void deveRetornar400ParaFormatoInvalido() throws Exception {
+        mockMvc.perform(get("/api/alunos/export?format=xml"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    private String exportar(String url, String contentType) throws Exception {
+        MvcResult resultado = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        return mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", contentType))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+}
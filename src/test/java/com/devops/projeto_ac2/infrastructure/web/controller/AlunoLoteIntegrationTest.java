@@ -0,0 +1,131 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.shared.dto.CriarAlunoRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da criação de alunos em lote (POST /api/alunos/lote)
+ * e da importação de arquivos (POST /api/alunos/importacao)
+ * O EventPublisher é substituído por mock para não depender do RabbitMQ
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração da Criação em Lote")
+class AlunoLoteIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    @BeforeEach
+    void setUp() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/lote - Deve criar alunos e devolver o resultado de cada item")
+    void deveCriarAlunosEmLote() throws Exception {
+        // Arrange - lote maior que o bloco de flush, com um RA já cadastrado
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("RA00000")));
+        
+        List<CriarAlunoRequestDTO> request = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            request.add(new CriarAlunoRequestDTO("Aluno Lote", String.format("RA%05d", i)));
+        }
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/alunos/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(600))
+                .andExpect(jsonPath("$.criados").value(599))
+                .andExpect(jsonPath("$.rejeitados").value(1))
+                .andExpect(jsonPath("$.itens[0].criado").value(false))
+                .andExpect(jsonPath("$.itens[0].erro").value("Já existe um aluno cadastrado com o RA: RA00000"))
+                .andExpect(jsonPath("$.itens[1].criado").value(true))
+                .andExpect(jsonPath("$.itens[1].aluno.id").exists())
+                .andExpect(jsonPath("$.itens[1].aluno.ra").value("RA00001"));
+        
+        assertThat(alunoRepository.buscarTodos()).hasSize(600);
+        verify(eventPublisher).publicarAlunosCriados(anyList());
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/lote - Deve retornar 400 quando o lote é vazio")
+    void deveRetornar400QuandoLoteVazio() throws Exception {
+        mockMvc.perform(post("/api/alunos/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/importacao - Deve importar CSV e reportar linhas rejeitadas")
+    void deveImportarCsv() throws Exception {
+        // Arrange
+        String csv = "nome,ra\nJoão Silva,11111\nMaria Santos,22222\nJo,33333\nPedro Souza,11111\n";
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/alunos/importacao")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhasLidas").value(5))
+                .andExpect(jsonPath("$.importados").value(2))
+                .andExpect(jsonPath("$.rejeitados").value(2))
+                .andExpect(jsonPath("$.rejeicoes[0].linha").value(4))
+                .andExpect(jsonPath("$.rejeicoes[1].linha").value(5))
+                .andExpect(jsonPath("$.rejeicoes[1].erro").value("RA repetido no lote: 11111"));
+        
+        assertThat(alunoRepository.buscarTodos()).hasSize(2);
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/importacao - Deve importar NDJSON")
+    void deveImportarNdjson() throws Exception {
+        String ndjson = "{\"nome\":\"João Silva\",\"ra\":\"11111\"}\n{\"nome\":\"Maria Santos\",\"ra\":\"22222\"}\n";
+        
+        mockMvc.perform(post("/api/alunos/importacao")
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(2))
+                .andExpect(jsonPath("$.rejeitados").value(0));
+    }
+}
@@ -0,0 +1,188 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import com.devops.projeto_ac2.application.usecases.ObterRankingAlunosUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.ports.EventPublisher;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do ranking (GET /api/alunos/ranking), servido pelo snapshot em memória
+ * Sem @Transactional: o snapshot só recebe escritas confirmadas
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Ranking de Alunos")
+class AlunoRankingIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private ObterRankingAlunosUseCase obterRankingAlunosUseCase;
+    
+    @Autowired
+    private AlunoMapper alunoMapper;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @MockitoBean
+    private EventPublisher eventPublisher;
+    
+    @BeforeEach
+    void setUp() {
+        limparAlunos();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        limparAlunos();
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking - Deve ordenar por média e cursos adicionais (decrescentes)")
+    void deveRetornarRankingOrdenado() throws Exception {
+        // Arrange
+        Aluno joao = Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111"));
+        joao.atualizarMedia(MediaFinal.criar(8.0));
+        joao.adicionarCursosExtras(3);
+        Aluno maria = Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("22222"));
+        maria.atualizarMedia(MediaFinal.criar(8.0));
+        maria.adicionarCursosExtras(5);
+        Aluno pedro = Aluno.criar(NomeAluno.criar("Pedro Souza"), RegistroAcademico.criar("33333"));
+        pedro.atualizarMedia(MediaFinal.criar(9.5));
+        Aluno ana = Aluno.criar(NomeAluno.criar("Ana Lima"), RegistroAcademico.criar("44444"));
+        ana.atualizarMedia(MediaFinal.criar(6.0));
+        alunoRepository.salvar(joao);
+        alunoRepository.salvar(maria);
+        alunoRepository.salvar(pedro);
+        alunoRepository.salvar(ana);
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[*].ra", contains("33333", "22222", "11111", "44444")))
+                .andExpect(jsonPath("$[0].posicao").value(1));
+        
+        mockMvc.perform(get("/api/alunos/ranking?top=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].ra", contains("33333", "22222")));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?apenasAprovados=true&top=2 - Deve retornar top N dos aprovados")
+    void deveRetornarTopNAprovados() throws Exception {
+        // Arrange
+        alunoRepository.salvar(criarAlunoConcluido("João Silva", "11111", 8.0));
+        alunoRepository.salvar(criarAlunoConcluido("Maria Santos", "22222", 9.5));
+        alunoRepository.salvar(criarAlunoConcluido("Pedro Souza", "33333", 7.5));
+        alunoRepository.salvar(criarAlunoConcluido("Ana Lima", "44444", 4.0));
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/ranking?apenasAprovados=true&top=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].ra", contains("22222", "11111")))
+                .andExpect(jsonPath("$[*].situacao", everyItem(is("APROVADO"))));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking - Deve refletir tentativas, conclusões e remoções após o commit")
+    void deveAtualizarRankingAposEscritas() throws Exception {
+        // Arrange
+        Long joao = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("11111"))).getId();
+        Long maria = alunoRepository.salvar(Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("22222"))).getId();
+        mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(jsonPath("$[*].ra", contains("11111", "22222")));
+        
+        // Act - tentativa
+        mockMvc.perform(post("/api/alunos/{id}/tentativas", maria)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nota\": 9.0}"))
+                .andExpect(status().isOk());
+        
+        // Assert
+        mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(jsonPath("$[*].ra", contains("22222", "11111")))
+                .andExpect(jsonPath("$[0].mediaFinal").value(9.0))
+                .andExpect(jsonPath("$[1].posicao").value(2));
+        mockMvc.perform(get("/api/alunos/ranking?apenasAprovados=true"))
+                .andExpect(jsonPath("$.length()").value(0));
+        
+        // Act - conclusão
+        mockMvc.perform(patch("/api/alunos/{id}/concluir", maria)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"mediaFinal\": 9.0}"))
+                .andExpect(status().isOk());
+        
+        // Assert
+        mockMvc.perform(get("/api/alunos/ranking?apenasAprovados=true"))
+                .andExpect(jsonPath("$[*].ra", contains("22222")))
+                .andExpect(jsonPath("$[0].situacao").value("APROVADO"));
+        
+        // Act - remoção
+        alunoRepository.deletar(joao);
+        
+        // Assert
+        mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(jsonPath("$[*].ra", contains("22222")));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking - Deve devolver o mesmo JSON da consulta ao banco")
+    void deveDevolverMesmoJsonDoBanco() throws Exception {
+        // Arrange
+        alunoRepository.salvar(criarAlunoConcluido("João Silva", "11111", 8.0));
+        alunoRepository.salvar(criarAlunoConcluido("Maria Santos", "22222", 6.0));
+        alunoRepository.salvar(Aluno.criar(NomeAluno.criar("Pedro Souza"), RegistroAcademico.criar("33333")));
+        String esperado = objectMapper.writeValueAsString(
+                alunoMapper.toRankingResponseDTOList(obterRankingAlunosUseCase.executar()));
+        
+        // Act
+        String json = mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        
+        // Assert
+        assertThat(json).isEqualTo(esperado);
+    }
+    
+    private Aluno criarAlunoConcluido(String nome, String ra, double media) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+        aluno.registrarTentativa(MediaFinal.criar(media));
+        aluno.concluirCurso(MediaFinal.criar(media));
+        return aluno;
+    }
+    
+    private void limparAlunos() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+}
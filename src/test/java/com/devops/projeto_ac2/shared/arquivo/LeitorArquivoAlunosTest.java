@@ -0,0 +1,71 @@
+package com.devops.projeto_ac2.shared.arquivo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para LeitorArquivoAlunos
+ */
+@DisplayName("Testes do Leitor de Arquivo de Alunos")
+class LeitorArquivoAlunosTest {
+    
+    @Test
+    @DisplayName("Deve ler CSV em blocos ignorando cabeçalho e linhas em branco")
+    void deveLerCsvEmBlocos() {
+        // Arrange
+        String csv = "nome,ra\nJoão Silva,11111\n\n\"Maria, a Santos\",22222\nPedro Souza,33333\n";
+        LeitorArquivoAlunos leitor = new LeitorArquivoAlunos(new StringReader(csv), FormatoArquivo.CSV);
+        
+        // Act
+        List<RegistroArquivo> primeiro = leitor.lerBloco(2);
+        List<RegistroArquivo> segundo = leitor.lerBloco(2);
+        List<RegistroArquivo> fim = leitor.lerBloco(2);
+        
+        // Assert
+        assertThat(primeiro).extracting(RegistroArquivo::getNome).containsExactly("João Silva", "Maria, a Santos");
+        assertThat(primeiro).extracting(RegistroArquivo::getNumeroLinha).containsExactly(2L, 4L);
+        assertThat(segundo).extracting(RegistroArquivo::getRa).containsExactly("33333");
+        assertThat(fim).isEmpty();
+        assertThat(leitor.getLinhasLidas()).isEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("Deve marcar linhas CSV malformadas com o número da linha")
+    void deveMarcarLinhasCsvMalformadas() {
+        // Arrange
+        String csv = "João Silva,11111,extra\n\"Maria Santos,22222\n";
+        LeitorArquivoAlunos leitor = new LeitorArquivoAlunos(new StringReader(csv), FormatoArquivo.CSV);
+        
+        // Act
+        List<RegistroArquivo> bloco = leitor.lerBloco(10);
+        
+        // Assert
+        assertThat(bloco).allMatch(RegistroArquivo::isMalformado);
+        assertThat(bloco.get(0).getNumeroLinha()).isEqualTo(1);
+        assertThat(bloco.get(0).getErro()).isEqualTo("Esperadas 2 colunas (nome,ra), encontradas 3");
+        assertThat(bloco.get(1).getErro()).isEqualTo("Aspas não fechadas");
+    }
+    
+    @Test
+    @DisplayName("Deve ler NDJSON e marcar linhas com JSON inválido")
+    void deveLerNdjson() {
+        // Arrange
+        String ndjson = "{\"nome\":\"João Silva\",\"ra\":\"11111\"}\n{quebrado\n[1,2]\n";
+        LeitorArquivoAlunos leitor = new LeitorArquivoAlunos(new StringReader(ndjson), FormatoArquivo.NDJSON);
+        
+        // Act
+        List<RegistroArquivo> bloco = leitor.lerBloco(10);
+        
+        // Assert
+        assertThat(bloco).hasSize(3);
+        assertThat(bloco.get(0).getNome()).isEqualTo("João Silva");
+        assertThat(bloco.get(0).getRa()).isEqualTo("11111");
+        assertThat(bloco.get(1).getErro()).isEqualTo("JSON inválido");
+        assertThat(bloco.get(2).getErro()).isEqualTo("Linha não contém um objeto JSON");
+    }
+}